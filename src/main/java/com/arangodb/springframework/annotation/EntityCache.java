@@ -0,0 +1,63 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the documents of the annotated entity read by
+ * {@link com.arangodb.springframework.core.ArangoOperations#find(Object, Class)} and
+ * {@link com.arangodb.springframework.core.ArangoOperations#findAll(Iterable, Class)}, so that repeated reads of the
+ * same document are served without a request.
+ * <p>
+ * Cached documents are invalidated by the writes of {@link com.arangodb.springframework.core.template.ArangoTemplate}
+ * (insert, update, replace, repsert, delete, import and truncate) and by derived delete query methods. Writes within
+ * a stream transaction invalidate the documents again once the transaction completed. Writes by other AQL queries,
+ * other clients or other application instances are only seen once the cached document expired, unless the cache is
+ * evicted with {@link com.arangodb.springframework.core.template.ArangoTemplate#evictCache(Class)}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+@Inherited
+public @interface EntityCache {
+
+	/**
+	 * The time (in seconds) a cached document is returned without reading it again.
+	 */
+	int ttl() default 60;
+
+	/**
+	 * The maximum number of cached documents of the entity. Exceeding it evicts the least recently read documents.
+	 */
+	int maximumSize() default 1_000;
+
+	/**
+	 * Whether an expired document is read again with an {@code If-None-Match} request on its revision, which costs a
+	 * response without body if the document did not change. Otherwise the whole document is read again.
+	 */
+	boolean revalidate() default false;
+
+}
@@ -157,4 +157,11 @@ public @interface QueryOptions {
      */
     boolean allowRetry() default false;
 
+	/**
+	 * Set to {@literal true} to resolve the non-lazy {@link Ref} properties of all documents of a fetched cursor
+	 * batch together, with one request per target type, as if they were annotated with
+	 * {@code @Ref(prefetch = true)}.
+	 */
+	boolean prefetchReferences() default false;
+
 }
@@ -45,4 +45,11 @@ public @interface Ref {
 	 */
 	boolean lazy() default false;
 
+	/**
+	 * Whether the entity should be resolved together with the references of all other documents of the same cursor
+	 * batch, using one request per target type instead of one per document. Only applies to non-lazy references of
+	 * mutable properties, which are read through a query cursor.
+	 */
+	boolean prefetch() default false;
+
 }
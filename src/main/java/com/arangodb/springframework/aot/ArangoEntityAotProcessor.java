@@ -0,0 +1,174 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.aot;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.arangodb.springframework.annotation.From;
+import com.arangodb.springframework.annotation.Ref;
+import com.arangodb.springframework.annotation.Relations;
+import com.arangodb.springframework.annotation.To;
+import com.arangodb.springframework.config.ArangoConfiguration;
+import com.arangodb.springframework.config.ArangoEntityClassScanner;
+import com.arangodb.springframework.core.convert.resolver.AbstractResolver;
+
+/**
+ * Prepares the entities of all {@link ArangoConfiguration} beans for a native image, where the classpath can neither
+ * be scanned nor proxy classes be generated:
+ * <ul>
+ * <li>writes the entity classes to {@link ArangoEntityClassScanner#ENTITY_INDEX}, which replaces the classpath
+ * scanning,</li>
+ * <li>registers reflection hints for the entities and the types of their properties,</li>
+ * <li>generates the lazy loading proxy classes of lazy {@link Ref}, {@link Relations}, {@link From} and {@link To}
+ * properties, so that they are compiled into the image.</li>
+ * </ul>
+ * Repository interfaces are registered by the ahead-of-time processing of Spring Data Commons.
+ */
+public class ArangoEntityAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+	@Override
+	@Nullable
+	public BeanFactoryInitializationAotContribution processAheadOfTime(
+		final ConfigurableListableBeanFactory beanFactory) {
+
+		final Set<Class<?>> entities = new TreeSet<>(Comparator.comparing(Class::getName));
+		for (final String name : beanFactory.getBeanNamesForType(ArangoConfiguration.class, false, false)) {
+			try {
+				entities.addAll(beanFactory.getBean(name, ArangoConfiguration.class).getInitialEntitySet());
+			} catch (final ClassNotFoundException e) {
+				throw new IllegalStateException("Could not scan the entities of " + name, e);
+			}
+		}
+		return entities.isEmpty() ? null : new EntityContribution(entities);
+	}
+
+	private static class EntityContribution implements BeanFactoryInitializationAotContribution {
+
+		private final Set<Class<?>> entities;
+
+		EntityContribution(final Set<Class<?>> entities) {
+			this.entities = entities;
+		}
+
+		@Override
+		public void applyTo(final GenerationContext generationContext, final BeanFactoryInitializationCode code) {
+			final RuntimeHints hints = generationContext.getRuntimeHints();
+			final Set<Class<?>> visited = new LinkedHashSet<>();
+			final Set<Class<?>> proxied = new LinkedHashSet<>();
+			entities.forEach(entity -> registerType(hints, entity, visited, proxied));
+
+			for (final Class<?> type : proxied) {
+				if (type.isInterface()) {
+					hints.proxies().registerJdkProxy(AbstractResolver.getProxiedInterfaces(type));
+					continue;
+				}
+				// the class generated during the ahead-of-time processing is written to the generated classes
+				hints.reflection().registerType(AbstractResolver.createProxyClass(type),
+					MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+			}
+
+			generationContext.getGeneratedFiles().addResourceFile(ArangoEntityClassScanner.ENTITY_INDEX,
+				entities.stream().map(Class::getName).collect(Collectors.joining("\n", "", "\n")));
+		}
+
+		private static void registerType(final RuntimeHints hints, final Class<?> type, final Set<Class<?>> visited,
+			final Set<Class<?>> proxied) {
+			if (!isUserType(type) || !visited.add(type)) {
+				return;
+			}
+			hints.reflection().registerType(type, hint -> {
+				hint.withMembers(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+				ReflectionUtils.doWithLocalFields(type, field -> hint.withField(field.getName()));
+			});
+			ReflectionUtils.doWithLocalFields(type, field -> {
+				final Class<?> proxyType = getLazyProxyType(field);
+				if (proxyType != null && proxyType != Object.class) {
+					proxied.add(proxyType);
+				}
+				final ResolvableType fieldType = ResolvableType.forField(field);
+				registerType(hints, fieldType.resolve(Object.class), visited, proxied);
+				for (final ResolvableType generic : fieldType.getGenerics()) {
+					registerType(hints, generic.resolve(Object.class), visited, proxied);
+				}
+				if (field.getType().isArray()) {
+					registerType(hints, field.getType().getComponentType(), visited, proxied);
+				}
+			});
+			if (type.getSuperclass() != null) {
+				registerType(hints, type.getSuperclass(), visited, proxied);
+			}
+		}
+
+		/**
+		 * @return the type proxied by the resolvers for the given field, null if the field is not resolved lazily
+		 */
+		@Nullable
+		private static Class<?> getLazyProxyType(final Field field) {
+			final Ref ref = AnnotatedElementUtils.findMergedAnnotation(field, Ref.class);
+			if (ref != null && ref.lazy()) {
+				// the elements of referenced collections are proxied one by one
+				if (field.getType().isArray()) {
+					return field.getType().getComponentType();
+				}
+				if (Collection.class.isAssignableFrom(field.getType())) {
+					return ResolvableType.forField(field).asCollection().resolveGeneric(0);
+				}
+				return field.getType();
+			}
+			final Relations relations = AnnotatedElementUtils.findMergedAnnotation(field, Relations.class);
+			final From from = AnnotatedElementUtils.findMergedAnnotation(field, From.class);
+			final To to = AnnotatedElementUtils.findMergedAnnotation(field, To.class);
+			return relations != null && relations.lazy() || from != null && from.lazy() || to != null && to.lazy()
+					? field.getType()
+					: null;
+		}
+
+		private static boolean isUserType(final Class<?> type) {
+			if (type.isPrimitive() || type.isArray() || type == Object.class) {
+				return false;
+			}
+			final String packageName = ClassUtils.getPackageName(type);
+			return !packageName.startsWith("java.") && !packageName.startsWith("javax.");
+		}
+
+	}
+
+}
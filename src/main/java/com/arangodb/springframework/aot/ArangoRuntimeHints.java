@@ -0,0 +1,61 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.aot;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.lang.Nullable;
+
+import com.arangodb.springframework.config.ArangoEntityClassScanner;
+import com.arangodb.springframework.core.convert.ArangoConverters;
+import com.arangodb.springframework.core.convert.GeoConverters;
+import com.arangodb.springframework.core.convert.TimeStringConverters;
+import com.arangodb.springframework.core.convert.resolver.LazyLoadingProxy;
+
+/**
+ * Registers the hints of a native image which do not depend on the entities: the store converters, whose
+ * {@link org.springframework.data.convert.ReadingConverter} and {@link org.springframework.data.convert.WritingConverter}
+ * annotations and generic types are introspected, the methods of {@link LazyLoadingProxy} and the entity index
+ * written by {@link ArangoEntityAotProcessor}.
+ */
+public class ArangoRuntimeHints implements RuntimeHintsRegistrar {
+
+	@Override
+	public void registerHints(final RuntimeHints hints, @Nullable final ClassLoader classLoader) {
+		Stream.of(TimeStringConverters.getConvertersToRegister(), ArangoConverters.getConvertersToRegister(),
+			GeoConverters.getConvertersToRegister())
+				.flatMap(Collection::stream)
+				.forEach(converter -> hints.reflection().registerType(converter.getClass()));
+
+		for (final Method method : LazyLoadingProxy.class.getMethods()) {
+			hints.reflection().registerMethod(method, ExecutableMode.INVOKE);
+		}
+
+		hints.resources().registerPattern(ArangoEntityClassScanner.ENTITY_INDEX);
+	}
+
+}
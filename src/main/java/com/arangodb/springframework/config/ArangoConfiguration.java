@@ -3,8 +3,10 @@
  */
 package com.arangodb.springframework.config;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
@@ -13,7 +15,8 @@ import java.util.Set;
 import com.arangodb.ContentType;
 import com.arangodb.serde.ArangoSerde;
 import com.arangodb.serde.jackson.JacksonMapperProvider;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.convert.converter.Converter;
@@ -21,6 +24,7 @@ import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.model.FieldNamingStrategy;
 import org.springframework.data.mapping.model.PropertyNameFieldNamingStrategy;
+import org.springframework.data.util.Lazy;
 
 import com.arangodb.ArangoDB;
 import com.arangodb.ArangoDBException;
@@ -31,6 +35,7 @@ import com.arangodb.springframework.annotation.Ref;
 import com.arangodb.springframework.annotation.Relations;
 import com.arangodb.springframework.annotation.To;
 import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.TenantResolver;
 import com.arangodb.springframework.core.convert.ArangoConverter;
 import com.arangodb.springframework.core.convert.ArangoCustomConversions;
 import com.arangodb.springframework.core.convert.ArangoTypeMapper;
@@ -46,7 +51,9 @@ import com.arangodb.springframework.core.convert.resolver.RelationResolver;
 import com.arangodb.springframework.core.convert.resolver.RelationsResolver;
 import com.arangodb.springframework.core.convert.resolver.ResolverFactory;
 import com.arangodb.springframework.core.mapping.ArangoMappingContext;
+import com.arangodb.springframework.core.template.ArangoAsyncTemplate;
 import com.arangodb.springframework.core.template.ArangoTemplate;
+import com.arangodb.springframework.core.template.SchemaBootstrap;
 
 /**
  * Defines methods to customize the Java-based configuration for Spring Data
@@ -82,9 +89,109 @@ public interface ArangoConfiguration {
         return ContentType.JSON;
     }
 
+    /**
+     * Configures {@link #serde()} to read and write entities token by token, without building an intermediate
+     * {@link com.fasterxml.jackson.databind.JsonNode} tree for every document. Values which can not be mapped in a
+     * streaming way (e.g. targets of custom converters reading from {@code JsonNode}) are still read as trees.
+     *
+     * @return whether to use the streaming serde, {@code false} by default
+     */
+    default boolean streamingSerde() {
+        return false;
+    }
+
+    /**
+     * Configures {@link ArangoTemplate#setWriteBatchSize(int)}, used by
+     * {@link com.arangodb.springframework.repository.ArangoRepository#saveAll(Iterable)} too.
+     *
+     * @return the maximum number of documents written per request, {@code 0} (the default) writes all documents with
+     *         a single request
+     */
+    default int writeBatchSize() {
+        return 0;
+    }
+
+    /**
+     * Configures {@link ArangoTemplate#setMaxConcurrentWriteBatches(int)}.
+     *
+     * @return the maximum number of write batches sent concurrently, {@code 1} by default
+     */
+    default int maxConcurrentWriteBatches() {
+        return 1;
+    }
+
+    /**
+     * Configures {@link ArangoTemplate#setTenantResolver(TenantResolver)}.
+     *
+     * @return the resolver of the database of the current tenant, {@code null} (the default) evaluates the SpEL
+     *         expression of {@link #database()}
+     */
+    default TenantResolver tenantResolver() {
+        return null;
+    }
+
+    /**
+     * Configures {@link ArangoTemplate#setHandleCacheMaximumSize(int)}.
+     *
+     * @return the maximum number of cached database and collection handles, {@code 0} (the default) does not bound
+     *         the caches
+     */
+    default int handleCacheMaximumSize() {
+        return 0;
+    }
+
+    /**
+     * Configures {@link ArangoTemplate#setHandleCacheIdleTimeout(Duration)}.
+     *
+     * @return the time after which unused database and collection handles are evicted, {@code null} (the default)
+     *         keeps them
+     */
+    default Duration handleCacheIdleTimeout() {
+        return null;
+    }
+
+    /**
+     * Configures {@link ArangoTemplate#setHandleCacheRefresh(Duration, java.util.concurrent.Executor)}.
+     *
+     * @return the time after which cached database and collection handles are validated in the background,
+     *         {@code null} (the default) never validates them
+     */
+    default Duration handleCacheRefreshInterval() {
+        return null;
+    }
+
+    /**
+     * Configures {@link ArangoTemplate#setSchemaBootstrap(SchemaBootstrap)}.
+     *
+     * @return whether to create or verify the collections and indexes of all entities at startup,
+     *         {@link SchemaBootstrap#LAZY} (the default) creates them with the first use of each entity
+     */
+    default SchemaBootstrap schemaBootstrap() {
+        return SchemaBootstrap.LAZY;
+    }
+
     @Bean
     default ArangoTemplate arangoTemplate() throws Exception {
-        return new ArangoTemplate(arango().serde(serde()).build(), database(), arangoConverter(), resolverFactory());
+        final ArangoTemplate template = new ArangoTemplate(arango().serde(serde()).build(), database(),
+                arangoConverter(), resolverFactory());
+        template.setWriteBatchSize(writeBatchSize());
+        template.setMaxConcurrentWriteBatches(maxConcurrentWriteBatches());
+        template.setTenantResolver(tenantResolver());
+        template.setHandleCacheMaximumSize(handleCacheMaximumSize());
+        template.setHandleCacheIdleTimeout(handleCacheIdleTimeout());
+        template.setHandleCacheRefresh(handleCacheRefreshInterval(), null);
+        template.setSchemaBootstrap(schemaBootstrap());
+        return template;
+    }
+
+    /**
+     * Created with the first injection only, e.g. by reactive repositories (see
+     * {@link com.arangodb.springframework.annotation.EnableReactiveArangoRepositories}).
+     */
+    @Bean
+    @org.springframework.context.annotation.Lazy
+    default ArangoAsyncTemplate arangoAsyncTemplate() throws Exception {
+        return new ArangoAsyncTemplate(arangoTemplate());
     }
 
     @Bean
@@ -92,12 +199,20 @@ public interface ArangoConfiguration {
         return new ArangoSerde() {
             private final ObjectMapper om = JacksonMapperProvider.of(contentType());
             private final ArangoConverter converter = arangoConverter();
+            private final boolean streaming = streamingSerde();
 
             @Override
             public byte[] serialize(Object value) {
                 try {
-                    return om.writeValueAsBytes(converter.write(value));
-                } catch (JsonProcessingException e) {
+                    if (!streaming) {
+                        return om.writeValueAsBytes(converter.write(value));
+                    }
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    try (JsonGenerator generator = om.createGenerator(out)) {
+                        converter.write(value, generator);
+                    }
+                    return out.toByteArray();
+                } catch (IOException e) {
                     throw new MappingException("Exception while serializing.", e);
                 }
             }
@@ -105,7 +220,12 @@ public interface ArangoConfiguration {
             @Override
             public <T> T deserialize(byte[] content, Class<T> clazz) {
                 try {
-                    return converter.read(clazz, om.readTree(content));
+                    if (!streaming) {
+                        return converter.read(clazz, om.readTree(content));
+                    }
+                    try (JsonParser parser = om.createParser(content)) {
+                        return converter.read(clazz, parser);
+                    }
                 } catch (IOException e) {
                     throw new MappingException("Exception while deserializing.", e);
                 }
@@ -158,16 +278,21 @@ public interface ArangoConfiguration {
 
     default ResolverFactory resolverFactory() {
         return new ResolverFactory() {
+            // resolvers are stateless, so one instance per kind is shared by all reads. They are created on first use,
+            // because the template they depend on needs this factory itself.
+            private final Lazy<RefResolver> refResolver = Lazy.of(() -> new RefResolver(template()));
+            private final Lazy<EdgeFromResolver> edgeFromResolver = Lazy.of(() -> new EdgeFromResolver(template()));
+            private final Lazy<DocumentFromResolver> documentFromResolver = Lazy.of(() -> new DocumentFromResolver(template()));
+            private final Lazy<EdgeToResolver> edgeToResolver = Lazy.of(() -> new EdgeToResolver(template()));
+            private final Lazy<DocumentToResolver> documentToResolver = Lazy.of(() -> new DocumentToResolver(template()));
+            private final Lazy<RelationsResolver> relationsResolver = Lazy.of(() -> new RelationsResolver(template()));
+
             @SuppressWarnings("unchecked")
             @Override
             public <A extends Annotation> Optional<ReferenceResolver<A>> getReferenceResolver(final A annotation) {
                 ReferenceResolver<A> resolver = null;
-                try {
-                    if (annotation instanceof Ref) {
-                        resolver = (ReferenceResolver<A>) new RefResolver(arangoTemplate());
-                    }
-                } catch (final Exception e) {
-                    throw new ArangoDBException(e);
+                if (annotation instanceof Ref) {
+                    resolver = (ReferenceResolver<A>) refResolver.get();
                 }
                 return Optional.ofNullable(resolver);
             }
@@ -177,26 +302,30 @@ public interface ArangoConfiguration {
             public <A extends Annotation> Optional<RelationResolver<A>> getRelationResolver(final A annotation,
                                                                                             final Class<? extends Annotation> collectionType) {
                 RelationResolver<A> resolver = null;
-                try {
-                    if (annotation instanceof From) {
-                        if (collectionType == Edge.class) {
-                            resolver = (RelationResolver<A>) new EdgeFromResolver(arangoTemplate());
-                        } else if (collectionType == Document.class) {
-                            resolver = (RelationResolver<A>) new DocumentFromResolver(arangoTemplate());
-                        }
-                    } else if (annotation instanceof To) {
-                        if (collectionType == Edge.class) {
-                            resolver = (RelationResolver<A>) new EdgeToResolver(arangoTemplate());
-                        } else if (collectionType == Document.class) {
-                            resolver = (RelationResolver<A>) new DocumentToResolver(arangoTemplate());
-                        }
-                    } else if (annotation instanceof Relations) {
-                        resolver = (RelationResolver<A>) new RelationsResolver(arangoTemplate());
+                if (annotation instanceof From) {
+                    if (collectionType == Edge.class) {
+                        resolver = (RelationResolver<A>) edgeFromResolver.get();
+                    } else if (collectionType == Document.class) {
+                        resolver = (RelationResolver<A>) documentFromResolver.get();
                     }
+                } else if (annotation instanceof To) {
+                    if (collectionType == Edge.class) {
+                        resolver = (RelationResolver<A>) edgeToResolver.get();
+                    } else if (collectionType == Document.class) {
+                        resolver = (RelationResolver<A>) documentToResolver.get();
+                    }
+                } else if (annotation instanceof Relations) {
+                    resolver = (RelationResolver<A>) relationsResolver.get();
+                }
+                return Optional.ofNullable(resolver);
+            }
+
+            private ArangoTemplate template() {
+                try {
+                    return arangoTemplate();
                 } catch (final Exception e) {
                     throw new ArangoDBException(e);
                 }
-                return Optional.ofNullable(resolver);
             }
         };
     }
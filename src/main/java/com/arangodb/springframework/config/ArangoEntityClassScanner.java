@@ -20,12 +20,19 @@
 
 package com.arangodb.springframework.config;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.Set;
 
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.NativeDetector;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.data.annotation.TypeAlias;
 import org.springframework.util.ClassUtils;
@@ -49,7 +56,16 @@ public class ArangoEntityClassScanner {
 	@SuppressWarnings("unchecked")
 	private static final Class<? extends Annotation>[] ADDITIONAL_ANNOTATIONS = new Class[] { TypeAlias.class };
 
+	/**
+	 * Location of the entity classes found by the ahead-of-time processing, which are read instead of scanning the
+	 * classpath in a native image
+	 */
+	public static final String ENTITY_INDEX = "META-INF/arangodb/entity-classes";
+
 	public static Set<Class<?>> scanForEntities(final String... basePackages) throws ClassNotFoundException {
+		if (NativeDetector.inNativeImage()) {
+			return readEntityIndex(basePackages);
+		}
 		final Set<Class<?>> entities = new HashSet<>();
 		for (final String basePackage : basePackages) {
 			entities.addAll(scanForEntities(basePackage));
@@ -58,6 +74,9 @@ public class ArangoEntityClassScanner {
 	}
 
 	public static Set<Class<?>> scanForEntities(final String basePackage) throws ClassNotFoundException {
+		if (NativeDetector.inNativeImage()) {
+			return readEntityIndex(basePackage);
+		}
 		final Set<Class<?>> entities = new HashSet<>();
 		if (StringUtils.hasText(basePackage)) {
 			final ClassPathScanningCandidateComponentProvider componentProvider = new ClassPathScanningCandidateComponentProvider(
@@ -75,4 +94,34 @@ public class ArangoEntityClassScanner {
 		return entities;
 	}
 
+	private static Set<Class<?>> readEntityIndex(final String... basePackages) throws ClassNotFoundException {
+		final Set<Class<?>> entities = new HashSet<>();
+		final ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+		final InputStream index = classLoader != null ? classLoader.getResourceAsStream(ENTITY_INDEX)
+				: ClassLoader.getSystemResourceAsStream(ENTITY_INDEX);
+		if (index == null) {
+			return entities;
+		}
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(index, StandardCharsets.UTF_8))) {
+			String className;
+			while ((className = reader.readLine()) != null) {
+				if (isInPackages(className, basePackages)) {
+					entities.add(ClassUtils.forName(className, classLoader));
+				}
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return entities;
+	}
+
+	private static boolean isInPackages(final String className, final String... basePackages) {
+		for (final String basePackage : basePackages) {
+			if (StringUtils.hasText(basePackage) && className.startsWith(basePackage + ".")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 }
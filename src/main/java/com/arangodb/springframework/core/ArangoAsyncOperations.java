@@ -0,0 +1,341 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core;
+
+import com.arangodb.ArangoCursorAsync;
+import com.arangodb.ArangoDBAsync;
+import com.arangodb.entity.*;
+import com.arangodb.model.*;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link ArangoOperations}. All operations return immediately; failures complete the
+ * returned future exceptionally with a translated {@link org.springframework.dao.DataAccessException}.
+ *
+ * @see ArangoOperations
+ */
+public interface ArangoAsyncOperations {
+
+	/**
+	 * Give direct access to the underlying asynchronous driver
+	 *
+	 * @return main access object of the asynchronous driver
+	 */
+	ArangoDBAsync driver();
+
+	/**
+	 * Performs a database query using the given {@code query} and {@code bindVars} and fetches all batches of the
+	 * result.
+	 *
+	 * @param query
+	 *            An AQL query string
+	 * @param bindVars
+	 *            key/value pairs defining the variables to bind the query to
+	 * @param options
+	 *            Additional options that will be passed to the query API, can be null
+	 * @param entityClass
+	 *            The entity type of the result
+	 * @return the results
+	 */
+	<T> CompletableFuture<List<T>> query(String query, Map<String, Object> bindVars, AqlQueryOptions options,
+		Class<T> entityClass);
+
+	/**
+	 * Performs a database query using the given {@code query} and {@code bindVars} and fetches all batches of the
+	 * result.
+	 *
+	 * @param query
+	 *            An AQL query string
+	 * @param bindVars
+	 *            key/value pairs defining the variables to bind the query to
+	 * @param entityClass
+	 *            The entity type of the result
+	 * @return the results
+	 */
+	<T> CompletableFuture<List<T>> query(String query, Map<String, Object> bindVars, Class<T> entityClass);
+
+	/**
+	 * Performs a database query using the given {@code query} and fetches all batches of the result.
+	 *
+	 * @param query
+	 *            An AQL query string
+	 * @param entityClass
+	 *            The entity type of the result
+	 * @return the results
+	 */
+	<T> CompletableFuture<List<T>> query(String query, Class<T> entityClass);
+
+	/**
+	 * Performs a database query using the given {@code query} and {@code bindVars} and fetches only the first batch of
+	 * the result. Further batches are fetched with {@link #nextBatch(ArangoCursorAsync)}; a cursor which is not
+	 * consumed until its last batch should be closed.
+	 * <p>
+	 * The results are deserialized on the threads of the driver. Eagerly loaded references of entities would be
+	 * resolved there with blocking requests, so such entities should be queried as {@link JsonNode} and read with
+	 * {@link #read(List, Class)}.
+	 *
+	 * @param query
+	 *            An AQL query string
+	 * @param bindVars
+	 *            key/value pairs defining the variables to bind the query to
+	 * @param options
+	 *            Additional options that will be passed to the query API, can be null
+	 * @param entityClass
+	 *            The entity type of the result
+	 * @return the cursor holding the first batch
+	 */
+	<T> CompletableFuture<ArangoCursorAsync<T>> cursor(String query, Map<String, Object> bindVars,
+		AqlQueryOptions options, Class<T> entityClass);
+
+	/**
+	 * Fetches the batch following the one held by the given cursor.
+	 *
+	 * @param cursor
+	 *            A cursor created by {@link #cursor(String, Map, AqlQueryOptions, Class)} which has more results
+	 * @return the cursor holding the next batch
+	 */
+	<T> CompletableFuture<ArangoCursorAsync<T>> nextBatch(ArangoCursorAsync<T> cursor);
+
+	/**
+	 * Reads the given documents as the given type, off the threads of the driver, as reading resolves eagerly loaded
+	 * references with blocking requests.
+	 *
+	 * @param documents
+	 *            documents read as {@link JsonNode}, e.g. the results of a cursor
+	 * @param entityClass
+	 *            The entity type of the result
+	 * @return the read entities
+	 */
+	<T> CompletableFuture<List<T>> read(List<JsonNode> documents, Class<T> entityClass);
+
+	/**
+	 * Retrieves the document with the given {@code id} from a collection.
+	 *
+	 * @param id
+	 *            The id or key of the document
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @param options
+	 *            Additional options, can be null
+	 * @return the document identified by the id
+	 */
+	<T> CompletableFuture<Optional<T>> find(Object id, Class<T> entityClass, DocumentReadOptions options);
+
+	/**
+	 * Retrieves the document with the given {@code id} from a collection.
+	 *
+	 * @param id
+	 *            The id or key of the document
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @return the document identified by the id
+	 */
+	<T> CompletableFuture<Optional<T>> find(Object id, Class<T> entityClass);
+
+	/**
+	 * Retrieves all documents from a collection.
+	 *
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @return the documents
+	 */
+	<T> CompletableFuture<List<T>> findAll(Class<T> entityClass);
+
+	/**
+	 * Retrieves multiple documents with the given {@code ids} from a collection.
+	 *
+	 * @param ids
+	 *            The ids or keys of the documents
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @return the documents
+	 */
+	<T> CompletableFuture<Iterable<T>> findAll(Iterable<?> ids, Class<T> entityClass);
+
+	/**
+	 * Creates new documents from the given documents, unless there is already a document with the _key given. If no
+	 * _key is given, a new unique _key is generated automatically.
+	 *
+	 * @param values
+	 *            A List of documents
+	 * @param options
+	 *            Additional options, can be null
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @return information about the documents
+	 */
+	<T> CompletableFuture<MultiDocumentEntity<DocumentCreateEntity<T>>> insertAll(Iterable<? extends T> values,
+		DocumentCreateOptions options, Class<T> entityClass);
+
+	/**
+	 * Creates a new document from the given document, unless there is already a document with the _key given. If no
+	 * _key is given, a new unique _key is generated automatically.
+	 *
+	 * @param value
+	 *            A representation of a single document
+	 * @param options
+	 *            Additional options, can be null
+	 * @return information about the document
+	 */
+	<T> CompletableFuture<DocumentCreateEntity<T>> insert(T value, DocumentCreateOptions options);
+
+	/**
+	 * Creates a new document from the given document, unless there is already a document with the _key given. If no
+	 * _key is given, a new unique _key is generated automatically.
+	 *
+	 * @param value
+	 *            A representation of a single document
+	 * @return information about the document
+	 */
+	<T> CompletableFuture<DocumentCreateEntity<T>> insert(T value);
+
+	/**
+	 * Creates a new document from the given document, unless there is already a document with the id given. In that
+	 * case it replaces the document.
+	 *
+	 * @param value
+	 *            A representation of a single document
+	 * @return the stored document
+	 */
+	<T> CompletableFuture<T> repsert(T value);
+
+	/**
+	 * Partially updates the document identified by document id or key. The value must contain only the attributes to
+	 * patch. Only the attributes specified will be updated.
+	 *
+	 * @param id
+	 *            The id or key of the document
+	 * @param value
+	 *            A representation of a single document
+	 * @param options
+	 *            Additional options, can be null
+	 * @return information about the document
+	 */
+	<T> CompletableFuture<DocumentUpdateEntity<T>> update(Object id, T value, DocumentUpdateOptions options);
+
+	/**
+	 * Replaces the document with {@code id} with the one in the body, provided there is such a document and no
+	 * precondition is violated.
+	 *
+	 * @param id
+	 *            The id or key of the document
+	 * @param value
+	 *            A representation of a single document
+	 * @param options
+	 *            Additional options, can be null
+	 * @return information about the document
+	 */
+	<T> CompletableFuture<DocumentUpdateEntity<T>> replace(Object id, T value, DocumentReplaceOptions options);
+
+	/**
+	 * Deletes the document with the given {@code id} from a collection.
+	 *
+	 * @param id
+	 *            The id or key of the document
+	 * @param options
+	 *            Additional options, can be null
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @return information about the document
+	 */
+	<T> CompletableFuture<DocumentDeleteEntity<T>> delete(Object id, DocumentDeleteOptions options,
+		Class<T> entityClass);
+
+	/**
+	 * Deletes the document with the given {@code id} from a collection.
+	 *
+	 * @param id
+	 *            The id or key of the document
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @return information about the document
+	 */
+	<T> CompletableFuture<DocumentDeleteEntity<T>> delete(Object id, Class<T> entityClass);
+
+	/**
+	 * Deletes multiple documents with the given ids from a collection with a single request.
+	 *
+	 * @param ids
+	 *            The ids or keys of the documents
+	 * @param options
+	 *            Additional options, can be null
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @return information about the documents, missing documents are reported as errors
+	 */
+	<T> CompletableFuture<MultiDocumentEntity<DocumentDeleteEntity<T>>> deleteAllById(Iterable<?> ids,
+		DocumentDeleteOptions options, Class<T> entityClass);
+
+	/**
+	 * Deletes the given entities from a collection with a single AQL query, checking the revision of each entity
+	 * like {@link ArangoOperations#deleteAllEntities(Iterable, Class)}. Splitting the entities into batches is left
+	 * to the caller.
+	 *
+	 * @param entities
+	 *            The entities to delete
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @return a future completed once the entities were deleted, or completed with an
+	 *         {@link org.springframework.dao.OptimisticLockingFailureException} with the keys of the documents whose
+	 *         revision did not match or which did not exist, after the others were deleted
+	 */
+	<T> CompletableFuture<Void> deleteAllEntities(Iterable<? extends T> entities, Class<T> entityClass);
+
+	/**
+	 * Checks whether the document exists by reading a single document head
+	 *
+	 * @param id
+	 *            The id or key of the document
+	 * @param entityClass
+	 *            The entity type representing the collection
+	 * @return true if the document exists, false if not
+	 */
+	CompletableFuture<Boolean> exists(Object id, Class<?> entityClass);
+
+	/**
+	 * Counts the documents in a collection.
+	 *
+	 * @param entityClass
+	 *            The entity type representing the collection
+	 * @return the number of documents
+	 */
+	CompletableFuture<Long> count(Class<?> entityClass);
+
+	/**
+	 * Removes all documents from a collection, but leaves the indexes intact.
+	 *
+	 * @param entityClass
+	 *            The entity type representing the collection
+	 * @return a future completed once the collection is empty
+	 */
+	CompletableFuture<Void> truncate(Class<?> entityClass);
+
+	/**
+	 * @return the blocking operations sharing converter, collections and events with these operations
+	 */
+	ArangoOperations sync();
+
+}
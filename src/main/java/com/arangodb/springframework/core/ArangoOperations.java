@@ -30,6 +30,7 @@ import org.springframework.dao.DataAccessException;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Interface that specifies a basic set of ArangoDB operations.
@@ -145,6 +146,26 @@ public interface ArangoOperations {
 	 */
 	MultiDocumentEntity<DocumentDeleteEntity<?>> deleteAll(Iterable<?> values, Class<?> entityClass) throws DataAccessException;
 
+	/**
+	 * Deletes the given entities from a collection with an AQL query per batch of entities, see
+	 * {@link com.arangodb.springframework.core.template.ArangoTemplate#setWriteBatchSize(int)}. The revision of each
+	 * entity with a {@link com.arangodb.springframework.annotation.Rev} property is checked, documents modified or
+	 * deleted in the meantime are skipped while the other documents are removed. A single
+	 * {@link com.arangodb.springframework.core.mapping.event.BeforeDeleteEvent} and
+	 * {@link com.arangodb.springframework.core.mapping.event.AfterDeleteEvent} is published per batch, with the list of
+	 * the ids to delete and of the deleted ids as source.
+	 *
+	 * @param entities
+	 *            The entities to delete
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @throws org.springframework.dao.OptimisticLockingFailureException
+	 *             after all batches, with the keys of the documents whose revision did not match or which did not
+	 *             exist
+	 * @throws DataAccessException
+	 */
+	<T> void deleteAllEntities(Iterable<? extends T> entities, Class<T> entityClass) throws DataAccessException;
+
 	/**
 	 * Deletes multiple documents with the given IDs from a collection.
 	 *
@@ -382,6 +403,21 @@ public interface ArangoOperations {
 	 */
 	<T> Iterable<T> findAll(final Iterable<?> ids, final Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Streams all documents from the given collection with a server side stream cursor, fetching the next batch
+	 * only when the current one is consumed. The returned stream must be closed to release the cursor on the server
+	 * if it is not consumed entirely.
+	 *
+	 * @param entityClass
+	 *            The entity type of the documents
+	 * @param options
+	 *            Additional options that will be passed to the query API, e.g. the {@code batchSize}, can be null.
+	 *            A stream cursor is used unless {@code stream} is set to {@code false}.
+	 * @return the documents
+	 * @throws DataAccessException
+	 */
+	<T> Stream<T> stream(Class<T> entityClass, AqlQueryOptions options) throws DataAccessException;
+
 	/**
 	 * Creates new documents from the given documents, unless there is already a document with the _key given. If no
 	 * _key is given, a new unique _key is generated automatically.
@@ -416,6 +452,66 @@ public interface ArangoOperations {
 	<T> MultiDocumentEntity<DocumentCreateEntity<?>> insertAll(Iterable<? extends T> values, Class<T> entityClass)
 			throws DataAccessException;
 
+	/**
+	 * Imports the given entities with the bulk import API, in batches of
+	 * {@link com.arangodb.springframework.core.template.ArangoTemplate#setWriteBatchSize(int)} documents (10000 if not
+	 * set) sent concurrently up to
+	 * {@link com.arangodb.springframework.core.template.ArangoTemplate#setMaxConcurrentWriteBatches(int)}. The
+	 * import does not report the keys of the created documents, so generated keys are not written back to the
+	 * entities, and it does not take part in stream transactions. No mapping events are published.
+	 *
+	 * @param values
+	 *            The entities to import
+	 * @param options
+	 *            Additional options, e.g. the {@code onDuplicate} policy, can be null
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @return the summed up counts of all batches
+	 * @throws DataAccessException
+	 */
+	<T> DocumentImportEntity importAll(Iterable<? extends T> values, DocumentImportOptions options,
+			Class<T> entityClass) throws DataAccessException;
+
+	/**
+	 * Imports the given entities with the bulk import API, see
+	 * {@link #importAll(Iterable, DocumentImportOptions, Class)}.
+	 *
+	 * @param values
+	 *            The entities to import
+	 * @param options
+	 *            Additional options, e.g. the {@code onDuplicate} policy, can be null
+	 * @param emitEvents
+	 *            whether to publish a {@link com.arangodb.springframework.core.mapping.event.BeforeSaveEvent} for
+	 *            each entity before its batch is sent and an
+	 *            {@link com.arangodb.springframework.core.mapping.event.AfterSaveEvent} for each entity of a batch
+	 *            which was imported without errors or ignored documents
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @return the summed up counts of all batches
+	 * @throws DataAccessException
+	 */
+	<T> DocumentImportEntity importAll(Iterable<? extends T> values, DocumentImportOptions options,
+			boolean emitEvents, Class<T> entityClass) throws DataAccessException;
+
+	/**
+	 * Imports the entities of the given stream with the bulk import API, see
+	 * {@link #importAll(Iterable, DocumentImportOptions, boolean, Class)}. The stream is consumed lazily but not
+	 * closed.
+	 *
+	 * @param values
+	 *            The entities to import
+	 * @param options
+	 *            Additional options, e.g. the {@code onDuplicate} policy, can be null
+	 * @param emitEvents
+	 *            whether to publish save events for the imported entities
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @return the summed up counts of all batches
+	 * @throws DataAccessException
+	 */
+	<T> DocumentImportEntity importAll(Stream<? extends T> values, DocumentImportOptions options,
+			boolean emitEvents, Class<T> entityClass) throws DataAccessException;
+
 	/**
 	 * Creates a new document from the given document, unless there is already a document with the _key given. If no
 	 * _key is given, a new unique _key is generated automatically.
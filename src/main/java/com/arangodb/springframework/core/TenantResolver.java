@@ -0,0 +1,37 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.core;
+
+/**
+ * Resolves the database of the current tenant. When set on the
+ * {@link com.arangodb.springframework.core.template.ArangoTemplate}, it is used instead of evaluating the SpEL
+ * expression of {@link com.arangodb.springframework.config.ArangoConfiguration#database()} with every operation.
+ */
+@FunctionalInterface
+public interface TenantResolver {
+
+	/**
+	 * @return the name of the database of the current tenant, must not be null
+	 */
+	String resolveDatabaseName();
+
+}
@@ -20,8 +20,11 @@
 
 package com.arangodb.springframework.core.convert;
 
+import java.io.IOException;
+
 import org.springframework.data.convert.EntityReader;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 
 /**
@@ -30,4 +33,26 @@ import com.fasterxml.jackson.databind.JsonNode;
  */
 public interface ArangoEntityReader extends EntityReader<Object, JsonNode> {
 
+	/**
+	 * Reads the value at the current position of the given parser as an instance of the given type. The parser is
+	 * advanced to the first token if it has not been started yet and is left on the last token of the value.
+	 * <p>
+	 * The default implementation reads the value as a {@link JsonNode} tree and delegates to
+	 * {@link #read(Class, Object)}. The parser must have an {@link com.fasterxml.jackson.core.ObjectCodec} set.
+	 *
+	 * @param type
+	 *            the type to read
+	 * @param source
+	 *            the parser to read from
+	 * @return the read value
+	 * @throws IOException
+	 *             if the parser fails
+	 */
+	default <R> R read(final Class<R> type, final JsonParser source) throws IOException {
+		if (source.currentToken() == null) {
+			source.nextToken();
+		}
+		return read(type, (JsonNode) source.readValueAsTree());
+	}
+
 }
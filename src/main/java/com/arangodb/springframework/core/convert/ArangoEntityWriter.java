@@ -20,7 +20,9 @@
 
 package com.arangodb.springframework.core.convert;
 
+import java.io.IOException;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 
 /**
@@ -31,4 +33,19 @@ import com.fasterxml.jackson.databind.JsonNode;
 public interface ArangoEntityWriter {
      JsonNode write(final Object source);
 
+    /**
+     * Writes the given object to the generator. The default implementation creates the {@link JsonNode} tree via
+     * {@link #write(Object)} and writes it with the generator's {@link com.fasterxml.jackson.core.ObjectCodec}.
+     *
+     * @param source
+     *            the object to write
+     * @param generator
+     *            the generator to write to
+     * @throws IOException
+     *             if the generator fails
+     */
+    default void write(final Object source, final JsonGenerator generator) throws IOException {
+        generator.writeTree(write(source));
+    }
+
 }
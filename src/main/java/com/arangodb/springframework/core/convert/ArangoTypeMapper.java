@@ -20,7 +20,13 @@
 
 package com.arangodb.springframework.core.convert;
 
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.lang.Nullable;
@@ -41,6 +47,27 @@ public interface ArangoTypeMapper {
 
 	void writeType(TypeInformation<?> type, ObjectNode node);
 
+	/**
+	 * Writes the type information as field(s) of the object currently written by the generator.
+	 *
+	 * @param type
+	 *            the type to write
+	 * @param generator
+	 *            the generator, positioned inside an object
+	 * @throws IOException
+	 *             if the generator fails
+	 */
+	default void writeType(final Class<?> type, final JsonGenerator generator) throws IOException {
+		final ObjectNode node = JsonNodeFactory.instance.objectNode();
+		writeType(type, node);
+		final Iterator<Entry<String, JsonNode>> fields = node.fields();
+		while (fields.hasNext()) {
+			final Entry<String, JsonNode> field = fields.next();
+			generator.writeFieldName(field.getKey());
+			generator.writeTree(field.getValue());
+		}
+	}
+
 	boolean isTypeKey(String key);
 
 }
@@ -22,13 +22,9 @@ package com.arangodb.springframework.core.convert;
 
 import com.arangodb.entity.BaseDocument;
 import com.arangodb.entity.BaseEdgeDocument;
-import com.arangodb.springframework.annotation.Document;
-import com.arangodb.springframework.annotation.Edge;
-import com.arangodb.springframework.annotation.From;
 import com.arangodb.springframework.annotation.Ref;
-import com.arangodb.springframework.annotation.Relations;
-import com.arangodb.springframework.annotation.To;
 import com.arangodb.springframework.core.convert.resolver.LazyLoadingProxy;
+import com.arangodb.springframework.core.convert.resolver.ReferencePrefetch;
 import com.arangodb.springframework.core.convert.resolver.ReferenceResolver;
 import com.arangodb.springframework.core.convert.resolver.RelationResolver;
 import com.arangodb.springframework.core.convert.resolver.ResolverFactory;
@@ -36,15 +32,20 @@ import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
 import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
 import com.arangodb.springframework.core.mapping.ArangoSimpleTypes;
 import com.arangodb.springframework.core.util.MetadataUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.ValueNode;
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.data.convert.CustomConversions;
-import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.context.MappingContext;
@@ -57,6 +58,7 @@ import org.springframework.data.core.TypeInformation;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
@@ -70,6 +72,7 @@ import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Mark Vollmary
@@ -90,6 +93,8 @@ public class DefaultArangoConverter implements ArangoConverter {
     private final EntityInstantiators instantiators;
     private final ResolverFactory resolverFactory;
     private final ArangoTypeMapper typeMapper;
+    private final Map<ArangoPersistentEntity<?>, EntityPlan> plans;
+    private final Map<ArangoPersistentEntity<?>, Boolean> specializable;
 
     public DefaultArangoConverter(
             final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
@@ -102,6 +107,8 @@ public class DefaultArangoConverter implements ArangoConverter {
         conversionService = new DefaultConversionService();
         conversions.registerConvertersIn(conversionService);
         instantiators = new EntityInstantiators();
+        plans = new ConcurrentHashMap<>();
+        specializable = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -127,7 +134,8 @@ public class DefaultArangoConverter implements ArangoConverter {
             final JsonNode source,
             final ArangoPersistentProperty property
     ) {
-        readProperty(entity, null, accessor, source, property);
+        EntityPlan plan = getPlan(entity);
+        readProperty(plan, plan.getStep(property.getFieldName()), null, accessor, source);
     }
 
     private Object readInternal(final TypeInformation<?> type, final JsonNode source) {
@@ -201,72 +209,394 @@ public class DefaultArangoConverter implements ArangoConverter {
                     String.format("Can't read entity type %s from type %s!", type, source.getNodeType()));
         }
 
+        EntityPlan plan = getPlan(entity);
         EntityInstantiator instantiator = instantiators.getInstantiatorFor(entity);
-        ParameterValueProvider<ArangoPersistentProperty> provider = getParameterProvider(entity, source);
+        ParameterValueProvider<ArangoPersistentProperty> provider = getParameterProvider(plan, source);
         Object instance = instantiator.createInstance(entity, provider);
         PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(instance);
 
         JsonNode idNode = getOrMissing(source, _ID);
         String id = idNode.isTextual() ? idNode.textValue() : null;
 
-        entity.doWithProperties((ArangoPersistentProperty property) -> {
-            if (!entity.isCreatorArgument(property)) {
-                JsonNode value = getOrMissing(source, property.getFieldName());
-                readProperty(entity, id, accessor, value, property);
+        for (EntityPlan.Step step : plan.getReadSteps()) {
+            JsonNode value = getOrMissing(source, step.fieldName);
+            if (!deferReference(step, accessor, value)) {
+                readProperty(plan, step, id, accessor, value);
             }
-        });
-
-        entity.doWithAssociations((Association<ArangoPersistentProperty> association) -> {
-            ArangoPersistentProperty property = association.getInverse();
-            if (!entity.isCreatorArgument(property)) {
-                JsonNode value = getOrMissing(source, property.getFieldName());
-                readProperty(entity, id, accessor, value, property);
-            }
-        });
+        }
 
         return instance;
     }
 
     private void readProperty(
-            final ArangoPersistentEntity<?> entity,
+            final EntityPlan plan,
+            final EntityPlan.Step step,
             final String parentId,
             final PersistentPropertyAccessor<?> accessor,
-            final JsonNode source,
-            final ArangoPersistentProperty property
+            final JsonNode source
+    ) {
+        Object propertyValue = readPropertyValue(plan, step, parentId, source);
+        if (propertyValue != null || !step.rawType.isPrimitive()) {
+            accessor.setProperty(step.property, propertyValue);
+        }
+    }
+
+    /**
+     * Hands the ids of a {@link Ref} property over to the {@link ReferencePrefetch} bound to the current thread, if
+     * there is one and the reference is eligible for prefetching.
+     *
+     * @return whether the reference was deferred
+     */
+    private boolean deferReference(
+            final EntityPlan.Step step,
+            final PersistentPropertyAccessor<?> accessor,
+            final JsonNode source
     ) {
-        Object propertyValue = readPropertyValue(entity, parentId, source, property);
-        if (propertyValue != null || !property.getType().isPrimitive()) {
-            accessor.setProperty(property, propertyValue);
+        if (step.kind != EntityPlan.Kind.REF || step.immutable) {
+            return false;
+        }
+        ReferencePrefetch prefetch = ReferencePrefetch.current();
+        Ref annotation = (Ref) step.annotation;
+        if (prefetch == null || !prefetch.isEnabledFor(annotation)) {
+            return false;
         }
+
+        List<String> ids;
+        if (step.property.isCollectionLike() && source.isArray()) {
+            ids = new ArrayList<>(source.size());
+            for (JsonNode element : source) {
+                if (!element.isTextual() && !element.isNull()) {
+                    return false;
+                }
+                ids.add(element.textValue());
+            }
+        } else if (!step.property.isCollectionLike() && source.isTextual()) {
+            ids = Collections.singletonList(source.textValue());
+        } else {
+            return false;
+        }
+
+        Optional<ReferenceResolver<Ref>> resolver = resolverFactory.getReferenceResolver(annotation);
+        if (resolver.isEmpty()) {
+            return false;
+        }
+        prefetch.defer(resolver.get(), annotation, accessor, step.property, ids);
+        return true;
     }
 
     private Object readPropertyValue(
-            final ArangoPersistentEntity<?> entity,
+            final EntityPlan plan,
+            final EntityPlan.Step step,
             final String parentId,
-            final JsonNode source,
-            final ArangoPersistentProperty property
+            final JsonNode source
+    ) {
+        ArangoPersistentProperty property = step.property;
+        switch (step.kind) {
+            case REF:
+                return readReference(source, property, step.annotation).orElse(null);
+            case RELATIONS:
+            case FROM:
+            case TO:
+                return readRelation(plan, parentId, source, property, step.annotation).orElse(null);
+            case SIMPLE:
+                if (source.isValueNode()) {
+                    return convertIfNecessary(readSimple(step.rawType, source), step.rawType);
+                }
+                return readInternal(property.getTypeInformation(), source);
+            default:
+                return readInternal(property.getTypeInformation(), source);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R> R read(final Class<R> type, final JsonParser source) throws IOException {
+        if (source.currentToken() == null) {
+            source.nextToken();
+        }
+        return (R) readInternal(TypeInformation.of(type), source);
+    }
+
+    /**
+     * Reads the value at the current token of the parser, leaving the parser on the last token of the value. Values
+     * which can not be read token by token (custom {@code JsonNode} converters, {@link BaseDocument}s, untyped
+     * objects, etc.) are read as a tree and passed to {@link #readInternal(TypeInformation, JsonNode)}.
+     */
+    private Object readInternal(final TypeInformation<?> type, final JsonParser source) throws IOException {
+        JsonToken token = source.currentToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Class<?> rawType = type.getType();
+
+        if (JsonNode.class.isAssignableFrom(rawType)
+                || conversions.hasCustomReadTarget(JsonNode.class, rawType)
+                || conversions.hasCustomReadTarget(DBDocumentEntity.class, rawType)) {
+            return readInternal(type, readTree(source));
+        }
+
+        if (token.isScalarValue() && token != JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return convertIfNecessary(readSimple(rawType, source), rawType);
+        }
+
+        if (token == JsonToken.START_ARRAY) {
+            if (rawType.isArray()) {
+                return readArray(type, source);
+            }
+            if (type.isCollectionLike()) {
+                return readCollection(type, source);
+            }
+            if (TypeInformation.OBJECT.equals(type) || rawType.equals(Object.class)) {
+                return readCollection(TypeInformation.COLLECTION, source);
+            }
+        } else if (token == JsonToken.START_OBJECT) {
+            if (type.isMap() && !DBDocumentEntity.class.isAssignableFrom(rawType)) {
+                return readMap(type, source);
+            }
+            if (isStreamableEntityType(rawType)) {
+                return readEntity(type, source, context.getRequiredPersistentEntity(rawType));
+            }
+        }
+
+        return readInternal(type, readTree(source));
+    }
+
+    private boolean isStreamableEntityType(final Class<?> type) {
+        return !Object.class.equals(type)
+                && !type.isInterface()
+                && !BaseDocument.class.isAssignableFrom(type)
+                && !BaseEdgeDocument.class.isAssignableFrom(type)
+                && !conversions.isSimpleType(type)
+                && isEntityType(type);
+    }
+
+    private Object readEntity(
+            final TypeInformation<?> type,
+            final JsonParser source,
+            final ArangoPersistentEntity<?> declaredEntity) throws IOException {
+
+        TypeInformation<?> typeToUse = type;
+        EntityPlan plan = getPlan(declaredEntity);
+        // a subtype announced by the type key might retype inherited properties, so their values are kept as trees
+        // until the type is known
+        boolean bufferUntilTyped = isSpecializable(declaredEntity);
+        boolean typeResolved = false;
+        String id = null;
+        Map<String, Object> values = new HashMap<>();
+        Map<String, JsonNode> trees = new HashMap<>();
+
+        while (nextField(source)) {
+            String fieldName = source.currentName();
+            JsonToken token = source.nextToken();
+
+            if (typeMapper.isTypeKey(fieldName)) {
+                if (token == JsonToken.VALUE_STRING) {
+                    ObjectNode typeNode = JsonNodeFactory.instance.objectNode().put(fieldName, source.getText());
+                    TypeInformation<?> specialized = typeMapper.readType(typeNode, typeToUse);
+                    if (!specialized.equals(typeToUse)) {
+                        EntityPlan specializedPlan = getPlan(getStreamableEntity(specialized));
+                        if (!bufferUntilTyped) {
+                            // the subtype is known to the mapping context from now on
+                            specializable.put(declaredEntity, true);
+                            reread(values, plan, specializedPlan);
+                        }
+                        plan = specializedPlan;
+                        typeToUse = specialized;
+                    }
+                } else {
+                    source.skipChildren();
+                }
+                typeResolved = true;
+                continue;
+            }
+
+            if (_ID.equals(fieldName) && token == JsonToken.VALUE_STRING) {
+                id = source.getText();
+            }
+
+            EntityPlan.Step step = plan.getStep(fieldName);
+            if (step != null && !step.isReferenceOrRelation() && (typeResolved || !bufferUntilTyped)) {
+                values.put(fieldName, readInternal(step.property.getTypeInformation(), source));
+            } else if (step != null || !typeResolved) {
+                // references and relations are resolved once the document id is known, unknown fields may
+                // belong to a subtype announced later on by the type key
+                trees.put(fieldName, readTree(source));
+            } else {
+                source.skipChildren();
+            }
+        }
+
+        EntityPlan planToUse = plan;
+        ArangoPersistentEntity<?> entity = plan.getEntity();
+        String parentId = id;
+        EntityInstantiator instantiator = instantiators.getInstantiatorFor(entity);
+        PropertyValueProvider<ArangoPersistentProperty> provider = new PropertyValueProvider<>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> T getPropertyValue(final ArangoPersistentProperty property) {
+                return (T) getReadValue(planToUse, planToUse.getStep(property.getFieldName()), parentId, values, trees);
+            }
+        };
+        Object instance = instantiator.createInstance(entity,
+                new PersistentEntityParameterValueProvider<>(entity, provider, null));
+        PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(instance);
+
+        for (EntityPlan.Step step : plan.getReadSteps()) {
+            JsonNode tree = trees.get(step.fieldName);
+            if (tree != null && deferReference(step, accessor, tree)) {
+                continue;
+            }
+            Object value = getReadValue(plan, step, parentId, values, trees);
+            if (value != null || !step.rawType.isPrimitive()) {
+                accessor.setProperty(step.property, value);
+            }
+        }
+
+        return instance;
+    }
+
+    /**
+     * @return whether the mapping context knows subtypes of the given entity, which documents might be read as
+     */
+    private boolean isSpecializable(final ArangoPersistentEntity<?> entity) {
+        return specializable.computeIfAbsent(entity, it -> context.getPersistentEntities().stream()
+                .anyMatch(other -> other != it && it.getType().isAssignableFrom(other.getType())));
+    }
+
+    /**
+     * Reads the values read with the given plan again with the properties of the specialized plan, if these retype
+     * them to a type the value is not assignable to. Only happens for the first document of a subtype not known to
+     * the mapping context yet, later documents are buffered until typed, see
+     * {@link #isSpecializable(ArangoPersistentEntity)}.
+     */
+    private void reread(final Map<String, Object> values, final EntityPlan plan, final EntityPlan specializedPlan) {
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            EntityPlan.Step step = plan.getStep(entry.getKey());
+            EntityPlan.Step specializedStep = specializedPlan.getStep(entry.getKey());
+            if (entry.getValue() != null && specializedStep != null
+                    && !specializedStep.property.getTypeInformation().equals(step.property.getTypeInformation())
+                    && !ClassUtils.isAssignableValue(specializedStep.rawType, entry.getValue())) {
+                entry.setValue(readInternal(specializedStep.property.getTypeInformation(), write(entry.getValue())));
+            }
+        }
+    }
+
+    private ArangoPersistentEntity<?> getStreamableEntity(final TypeInformation<?> type) {
+        Class<?> rawType = type.getType();
+        if (!isStreamableEntityType(rawType)
+                || conversions.hasCustomReadTarget(JsonNode.class, rawType)
+                || conversions.hasCustomReadTarget(DBDocumentEntity.class, rawType)) {
+            throw new MappingException(String.format(
+                    "Can't read type %s from a stream, because it requires the document tree! Disable the streaming serde.",
+                    rawType));
+        }
+        return context.getRequiredPersistentEntity(rawType);
+    }
+
+    private Object getReadValue(
+            final EntityPlan plan,
+            final EntityPlan.Step step,
+            final String parentId,
+            final Map<String, Object> values,
+            final Map<String, JsonNode> trees
     ) {
-        Optional<Ref> ref = property.getRef();
-        if (ref.isPresent()) {
-            return readReference(source, property, ref.get()).orElse(null);
+        if (values.containsKey(step.fieldName)) {
+            return values.get(step.fieldName);
         }
+        JsonNode tree = trees.get(step.fieldName);
+        return readPropertyValue(plan, step, parentId, tree != null ? tree : MissingNode.getInstance());
+    }
+
+    private EntityPlan getPlan(final ArangoPersistentEntity<?> entity) {
+        return plans.computeIfAbsent(entity, it -> new EntityPlan(it, conversions));
+    }
 
-        Optional<Relations> relations = property.getRelations();
-        if (relations.isPresent()) {
-            return readRelation(entity, parentId, source, property, relations.get()).orElse(null);
+    private Map<?, ?> readMap(final TypeInformation<?> type, final JsonParser source) throws IOException {
+        Class<?> keyType = getNonNullComponentType(type).getType();
+        TypeInformation<?> valueType = getNonNullMapValueType(type);
+        Map<Object, Object> map = CollectionFactory.createMap(type.getType(), keyType, 16);
+
+        while (nextField(source)) {
+            String key = source.currentName();
+            source.nextToken();
+            if (typeMapper.isTypeKey(key)) {
+                source.skipChildren();
+                continue;
+            }
+            map.put(convertIfNecessary(key, keyType), readInternal(valueType, source));
         }
 
-        Optional<From> from = property.getFrom();
-        if (from.isPresent()) {
-            return readRelation(entity, parentId, source, property, from.get()).orElse(null);
+        return map;
+    }
+
+    private Collection<?> readCollection(final TypeInformation<?> type, final JsonParser source) throws IOException {
+        TypeInformation<?> componentType = getNonNullComponentType(type);
+        Class<?> collectionType = Iterable.class.equals(type.getType()) ? Collection.class : type.getType();
+
+        Collection<Object> collection = Collection.class == collectionType || List.class == collectionType ?
+                new ArrayList<>() :
+                CollectionFactory.createCollection(collectionType, componentType.getType(), 10);
+
+        while (nextElement(source)) {
+            collection.add(readInternal(componentType, source));
         }
 
-        Optional<To> to = property.getTo();
-        if (to.isPresent()) {
-            return readRelation(entity, parentId, source, property, to.get()).orElse(null);
+        return collection;
+    }
+
+    private Object readArray(final TypeInformation<?> type, final JsonParser source) throws IOException {
+        TypeInformation<?> componentType = getNonNullComponentType(type);
+        List<Object> elements = new ArrayList<>();
+
+        while (nextElement(source)) {
+            elements.add(readInternal(componentType, source));
         }
 
-        return readInternal(property.getTypeInformation(), source);
+        Object array = Array.newInstance(componentType.getType(), elements.size());
+        for (int i = 0; i < elements.size(); ++i) {
+            Array.set(array, i, elements.get(i));
+        }
+        return array;
+    }
+
+    private Object readSimple(final Class<?> type, final JsonParser source) throws IOException {
+        switch (source.currentToken()) {
+            case VALUE_TRUE:
+                return true;
+            case VALUE_FALSE:
+                return false;
+            case VALUE_NUMBER_INT:
+                return readNumber(type, source.getNumberValue(), true);
+            case VALUE_NUMBER_FLOAT:
+                return readNumber(type, source.getNumberValue(), false);
+            case VALUE_STRING:
+                return readText(type, source.getText());
+            default:
+                throw new MappingException(
+                        String.format("Can't read type %s from token %s!", type, source.currentToken()));
+        }
+    }
+
+    private static boolean nextField(final JsonParser source) throws IOException {
+        JsonToken token = source.nextToken();
+        if (token == null) {
+            throw new MappingException("Unexpected end of input while reading an object!");
+        }
+        return token == JsonToken.FIELD_NAME;
+    }
+
+    private static boolean nextElement(final JsonParser source) throws IOException {
+        JsonToken token = source.nextToken();
+        if (token == null) {
+            throw new MappingException("Unexpected end of input while reading an array!");
+        }
+        return token != JsonToken.END_ARRAY;
+    }
+
+    private static JsonNode readTree(final JsonParser source) throws IOException {
+        JsonNode tree = source.readValueAsTree();
+        return tree != null ? tree : NullNode.getInstance();
     }
 
     private Map<?, ?> readMap(final TypeInformation<?> type, final JsonNode source) {
@@ -372,7 +702,7 @@ public class DefaultArangoConverter implements ArangoConverter {
     }
 
     private <A extends Annotation> Optional<Object> readRelation(
-            final ArangoPersistentEntity<?> entity,
+            final EntityPlan plan,
             final String parentId,
             final JsonNode source,
             final ArangoPersistentProperty property,
@@ -382,13 +712,11 @@ public class DefaultArangoConverter implements ArangoConverter {
             return Optional.empty();
         }
 
-        Class<? extends Annotation> collectionType = entity.findAnnotation(Edge.class) != null ? Edge.class
-                : Document.class;
         Optional<RelationResolver<Annotation>> resolver = resolverFactory.getRelationResolver(annotation,
-                collectionType);
+                plan.getCollectionType());
 
         // FIXME: discover intermediate types, in case annotation is Relations and maxDepth > 1
-        List<TypeInformation<?>> traversedTypes = Collections.singletonList(entity.getTypeInformation());
+        List<TypeInformation<?>> traversedTypes = plan.getTraversedTypes();
 
         if (resolver.isEmpty()) {
             return Optional.empty();
@@ -422,64 +750,11 @@ public class DefaultArangoConverter implements ArangoConverter {
         }
 
         if (source.isNumber()) {
-            if (byte.class.isAssignableFrom(type) || Byte.class.isAssignableFrom(type)) {
-                return source.numberValue().byteValue();
-            } else if (short.class.isAssignableFrom(type) || Short.class.isAssignableFrom(type)) {
-                return source.shortValue();
-            } else if (int.class.isAssignableFrom(type) || Integer.class.isAssignableFrom(type)) {
-                return source.intValue();
-            } else if (long.class.isAssignableFrom(type) || Long.class.isAssignableFrom(type)) {
-                return source.longValue();
-            } else if (float.class.isAssignableFrom(type) || Float.class.isAssignableFrom(type)) {
-                return source.floatValue();
-            } else if (double.class.isAssignableFrom(type) || Double.class.isAssignableFrom(type)) {
-                return source.doubleValue();
-            } else if (BigInteger.class.isAssignableFrom(type) && (source.isIntegralNumber())) {
-                return source.bigIntegerValue();
-            } else if (BigDecimal.class.isAssignableFrom(type) && source.isFloatingPointNumber()) {
-                return source.decimalValue();
-            } else {
-                return source.numberValue();
-            }
+            return readNumber(type, source.numberValue(), source.isIntegralNumber());
         }
 
         if (source.isTextual()) {
-            String value = source.textValue();
-            if (Class.class.isAssignableFrom(type)) {
-                try {
-                    return Class.forName(value);
-                } catch (ClassNotFoundException e) {
-                    throw new MappingException(String.format("Could not load type %s!", value), e);
-                }
-            } else if (Enum.class.isAssignableFrom(type)) {
-                @SuppressWarnings({"unchecked", "rawtypes"})
-                Enum<?> e = Enum.valueOf((Class<? extends Enum>) type, value);
-                return e;
-            } else if (byte[].class.isAssignableFrom(type)) {
-                return Base64.getDecoder().decode(value);
-            } else if (java.sql.Date.class.isAssignableFrom(type)) {
-                return new java.sql.Date(parseDate(value).getTime());
-            } else if (Timestamp.class.isAssignableFrom(type)) {
-                return new Timestamp(parseDate(value).getTime());
-            } else if (Date.class.isAssignableFrom(type)) {
-                return parseDate(value);
-            } else if (BigInteger.class.isAssignableFrom(type)) {
-                return new BigInteger(value);
-            } else if (BigDecimal.class.isAssignableFrom(type)) {
-                return new BigDecimal(value);
-            } else if (Instant.class.isAssignableFrom(type)) {
-                return JavaTimeUtil.parseInstant(value);
-            } else if (LocalDate.class.isAssignableFrom(type)) {
-                return JavaTimeUtil.parseLocalDate(value);
-            } else if (LocalDateTime.class.isAssignableFrom(type)) {
-                return JavaTimeUtil.parseLocalDateTime(value);
-            } else if (OffsetDateTime.class.isAssignableFrom(type)) {
-                return JavaTimeUtil.parseOffsetDateTime(value);
-            } else if (ZonedDateTime.class.isAssignableFrom(type)) {
-                return JavaTimeUtil.parseZonedDateTime(value);
-            } else {
-                return value;
-            }
+            return readText(type, source.textValue());
         }
 
         if (source.isObject() && DBDocumentEntity.class.isAssignableFrom(type)) {
@@ -489,6 +764,66 @@ public class DefaultArangoConverter implements ArangoConverter {
         throw new MappingException(String.format("Can't read type %s from type %s!", type, source.getNodeType()));
     }
 
+    private Object readNumber(final Class<?> type, final Number value, final boolean integral) {
+        if (byte.class.isAssignableFrom(type) || Byte.class.isAssignableFrom(type)) {
+            return value.byteValue();
+        } else if (short.class.isAssignableFrom(type) || Short.class.isAssignableFrom(type)) {
+            return value.shortValue();
+        } else if (int.class.isAssignableFrom(type) || Integer.class.isAssignableFrom(type)) {
+            return value.intValue();
+        } else if (long.class.isAssignableFrom(type) || Long.class.isAssignableFrom(type)) {
+            return value.longValue();
+        } else if (float.class.isAssignableFrom(type) || Float.class.isAssignableFrom(type)) {
+            return value.floatValue();
+        } else if (double.class.isAssignableFrom(type) || Double.class.isAssignableFrom(type)) {
+            return value.doubleValue();
+        } else if (BigInteger.class.isAssignableFrom(type) && integral) {
+            return value instanceof BigInteger bigInteger ? bigInteger : BigInteger.valueOf(value.longValue());
+        } else if (BigDecimal.class.isAssignableFrom(type) && !integral) {
+            return value instanceof BigDecimal bigDecimal ? bigDecimal : BigDecimal.valueOf(value.doubleValue());
+        } else {
+            return value;
+        }
+    }
+
+    private Object readText(final Class<?> type, final String value) {
+        if (Class.class.isAssignableFrom(type)) {
+            try {
+                return Class.forName(value);
+            } catch (ClassNotFoundException e) {
+                throw new MappingException(String.format("Could not load type %s!", value), e);
+            }
+        } else if (Enum.class.isAssignableFrom(type)) {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Enum<?> e = Enum.valueOf((Class<? extends Enum>) type, value);
+            return e;
+        } else if (byte[].class.isAssignableFrom(type)) {
+            return Base64.getDecoder().decode(value);
+        } else if (java.sql.Date.class.isAssignableFrom(type)) {
+            return new java.sql.Date(parseDate(value).getTime());
+        } else if (Timestamp.class.isAssignableFrom(type)) {
+            return new Timestamp(parseDate(value).getTime());
+        } else if (Date.class.isAssignableFrom(type)) {
+            return parseDate(value);
+        } else if (BigInteger.class.isAssignableFrom(type)) {
+            return new BigInteger(value);
+        } else if (BigDecimal.class.isAssignableFrom(type)) {
+            return new BigDecimal(value);
+        } else if (Instant.class.isAssignableFrom(type)) {
+            return JavaTimeUtil.parseInstant(value);
+        } else if (LocalDate.class.isAssignableFrom(type)) {
+            return JavaTimeUtil.parseLocalDate(value);
+        } else if (LocalDateTime.class.isAssignableFrom(type)) {
+            return JavaTimeUtil.parseLocalDateTime(value);
+        } else if (OffsetDateTime.class.isAssignableFrom(type)) {
+            return JavaTimeUtil.parseOffsetDateTime(value);
+        } else if (ZonedDateTime.class.isAssignableFrom(type)) {
+            return JavaTimeUtil.parseZonedDateTime(value);
+        } else {
+            return value;
+        }
+    }
+
     private BaseDocument readBaseDocument(final Class<?> type, final JsonNode source) {
         if (BaseDocument.class.equals(type)) {
             @SuppressWarnings("unchecked")
@@ -514,21 +849,21 @@ public class DefaultArangoConverter implements ArangoConverter {
     }
 
     private ParameterValueProvider<ArangoPersistentProperty> getParameterProvider(
-            final ArangoPersistentEntity<?> entity,
+            final EntityPlan plan,
             final JsonNode source
     ) {
-        PropertyValueProvider<ArangoPersistentProperty> provider = new ArangoPropertyValueProvider(entity, source);
-        return new PersistentEntityParameterValueProvider<>(entity, provider, null);
+        PropertyValueProvider<ArangoPersistentProperty> provider = new ArangoPropertyValueProvider(plan, source);
+        return new PersistentEntityParameterValueProvider<>(plan.getEntity(), provider, null);
     }
 
     private class ArangoPropertyValueProvider implements PropertyValueProvider<ArangoPersistentProperty> {
 
-        private final ArangoPersistentEntity<?> entity;
+        private final EntityPlan plan;
         private final JsonNode source;
         private final String id;
 
-        public ArangoPropertyValueProvider(final ArangoPersistentEntity<?> entity, final JsonNode source) {
-            this.entity = entity;
+        public ArangoPropertyValueProvider(final EntityPlan plan, final JsonNode source) {
+            this.plan = plan;
             this.source = source;
             JsonNode idNode = getOrMissing(source, _ID);
             this.id = idNode.isTextual() ? idNode.textValue() : null;
@@ -537,8 +872,9 @@ public class DefaultArangoConverter implements ArangoConverter {
         @SuppressWarnings("unchecked")
         @Override
         public <T> T getPropertyValue(final ArangoPersistentProperty property) {
-            JsonNode value = getOrMissing(source, property.getFieldName());
-            return (T) readPropertyValue(entity, id, value, property);
+            EntityPlan.Step step = plan.getStep(property.getFieldName());
+            JsonNode value = getOrMissing(source, step.fieldName);
+            return (T) readPropertyValue(plan, step, id, value);
         }
 
     }
@@ -549,6 +885,189 @@ public class DefaultArangoConverter implements ArangoConverter {
         return createInternal(entity, TypeInformation.OBJECT);
     }
 
+    @Override
+    public void write(final Object source, final JsonGenerator generator) throws IOException {
+        Object entity = source instanceof LazyLoadingProxy proxy ? proxy.getEntity() : source;
+        writeInternal(entity, TypeInformation.OBJECT, generator);
+    }
+
+    private void writeInternal(final Object source, final TypeInformation<?> definedType, final JsonGenerator generator)
+            throws IOException {
+        if (source == null) {
+            generator.writeNull();
+            return;
+        }
+
+        Class<?> rawType = source.getClass();
+        TypeInformation<?> type = TypeInformation.of(rawType);
+
+        if (conversions.isSimpleType(rawType)) {
+            writeSimple(convertSimple(source), generator);
+        } else if (BaseDocument.class.equals(rawType) || BaseEdgeDocument.class.equals(rawType)) {
+            generator.writeTree(createInternal(source, definedType));
+        } else if (type.isMap()) {
+            writeMap((Map<?, ?>) source, definedType, generator);
+        } else if (type.getType().isArray()) {
+            writeArray(source, definedType, generator);
+        } else if (type.isCollectionLike()) {
+            writeCollection(source, definedType, generator);
+        } else {
+            ArangoPersistentEntity<?> entity = context.getRequiredPersistentEntity(source.getClass());
+            writeEntity(source, entity, definedType, generator);
+        }
+    }
+
+    private void writeEntity(
+            final Object source,
+            final ArangoPersistentEntity<?> entity,
+            final TypeInformation<?> definedType,
+            final JsonGenerator generator) throws IOException {
+
+        generator.writeStartObject();
+        PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(source);
+        boolean keyWritten = false;
+
+        for (EntityPlan.Step step : getPlan(entity).getWriteSteps()) {
+            if (step.idProperty) {
+                Object id = entity.getIdentifierAccessor(source).getIdentifier();
+                if (id != null) {
+                    generator.writeStringField(_KEY, convertId(id));
+                    keyWritten = true;
+                }
+                continue;
+            }
+            Object value = accessor.getProperty(step.property);
+            if (value != null) {
+                writeProperty(value, step, generator);
+            }
+        }
+
+        if (!keyWritten) {
+            Object id = entity.getArangoIdAccessor(source).getIdentifier();
+            if (id != null) {
+                generator.writeStringField(_KEY, MetadataUtils.determineDocumentKeyFromId((String) id));
+            }
+        }
+
+        Class<?> referenceType = definedType != null ? definedType.getType() : Object.class;
+        Class<?> valueType = ClassUtils.getUserClass(source.getClass());
+        if (!valueType.equals(referenceType)) {
+            typeMapper.writeType(valueType, generator);
+        }
+
+        generator.writeEndObject();
+    }
+
+    private void writeProperty(final Object source, final EntityPlan.Step step, final JsonGenerator generator)
+            throws IOException {
+
+        TypeInformation<?> sourceType = TypeInformation.of(source.getClass());
+        String fieldName = step.fieldName;
+
+        switch (step.kind) {
+            case REF:
+                if (sourceType.isCollectionLike()) {
+                    generator.writeFieldName(fieldName);
+                    generator.writeTree(createReferences(source, (Ref) step.annotation));
+                } else {
+                    Optional<String> id = getRefId(source, (Ref) step.annotation);
+                    if (id.isPresent()) {
+                        generator.writeStringField(fieldName, id.get());
+                    }
+                }
+                break;
+            case RELATIONS:
+                // nothing to store
+                break;
+            case FROM:
+            case TO:
+                if (!sourceType.isCollectionLike()) {
+                    Optional<String> id = getRefId(source, null);
+                    if (id.isPresent()) {
+                        generator.writeStringField(fieldName, id.get());
+                    }
+                }
+                break;
+            default:
+                Object entity = source instanceof LazyLoadingProxy proxy ? proxy.getEntity() : source;
+                generator.writeFieldName(fieldName);
+                writeInternal(entity, step.property.getTypeInformation(), generator);
+        }
+    }
+
+    private void writeMap(final Map<?, ?> source, final TypeInformation<?> definedType, final JsonGenerator generator)
+            throws IOException {
+        generator.writeStartObject();
+        for (Entry<?, ?> entry : source.entrySet()) {
+            Object value = entry.getValue();
+            if (value != null) {
+                generator.writeFieldName(convertId(entry.getKey()));
+                writeInternal(value, getNonNullMapValueType(definedType), generator);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeCollection(final Object source, final TypeInformation<?> definedType, final JsonGenerator generator)
+            throws IOException {
+        generator.writeStartArray();
+        for (Object entry : asCollection(source)) {
+            if (entry == null) {
+                generator.writeNull();
+            } else {
+                writeInternal(entry, getNonNullComponentType(definedType), generator);
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeArray(final Object source, final TypeInformation<?> definedType, final JsonGenerator generator)
+            throws IOException {
+        if (byte[].class.equals(source.getClass())) {
+            generator.writeString(Base64.getEncoder().encodeToString((byte[]) source));
+            return;
+        }
+
+        generator.writeStartArray();
+        for (int i = 0; i < Array.getLength(source); ++i) {
+            Object element = Array.get(source, i);
+            if (element == null) {
+                generator.writeNull();
+            } else {
+                writeInternal(element, getNonNullComponentType(definedType), generator);
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes a value converted by {@link #convertSimple(Object)} with the same dispatch as the tree path, see
+     * {@link #createSimpleJsonNode(Object)}. Only values that are not scalars themselves are written as they are.
+     */
+    private void writeSimple(final Object source, final JsonGenerator generator) throws IOException {
+        if (source instanceof DBDocumentEntity dbDocumentEntity) {
+            writeMap(dbDocumentEntity, TypeInformation.MAP, generator);
+        } else if (source != null && ClassUtils.isPrimitiveArray(source.getClass())) {
+            writeArray(source, TypeInformation.OBJECT, generator);
+        } else {
+            JsonNode node = createSimpleJsonNode(source);
+            if (node instanceof ValueNode value && !value.isPojo() && !value.isBinary()) {
+                value.serialize(generator, null);
+            } else {
+                generator.writeTree(node);
+            }
+        }
+    }
+
+    /**
+     * @return the given simple type value converted to its custom write target, if any
+     */
+    private Object convertSimple(final Object source) {
+        Class<?> rawType = source.getClass();
+        Class<?> targetType = conversions.getCustomWriteTarget(rawType).orElse(rawType);
+        return conversionService.convert(source, targetType);
+    }
+
     private JsonNode createInternal(final Object source, final TypeInformation<?> definedType) {
         if (source == null) {
             return JsonNodeFactory.instance.nullNode();
@@ -558,9 +1077,7 @@ public class DefaultArangoConverter implements ArangoConverter {
         TypeInformation<?> type = TypeInformation.of(rawType);
 
         if (conversions.isSimpleType(rawType)) {
-            Optional<Class<?>> customWriteTarget = conversions.getCustomWriteTarget(rawType);
-            Class<?> targetType = customWriteTarget.orElse(rawType);
-            return createSimpleJsonNode(conversionService.convert(source, targetType));
+            return createSimpleJsonNode(convertSimple(source));
         } else if (BaseDocument.class.equals(rawType)) {
             return createBaseDocument((BaseDocument) source, definedType);
         } else if (BaseEdgeDocument.class.equals(rawType)) {
@@ -580,30 +1097,19 @@ public class DefaultArangoConverter implements ArangoConverter {
     private ObjectNode createEntity(final Object source, final ArangoPersistentEntity<?> entity, final TypeInformation<?> definedType) {
         ObjectNode node = JsonNodeFactory.instance.objectNode();
         PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(source);
-        entity.doWithProperties((ArangoPersistentProperty property) -> {
-            if (!property.isWritable()) {
-                return;
-            }
-            if (property.isIdProperty()) {
+        for (EntityPlan.Step step : getPlan(entity).getWriteSteps()) {
+            if (step.idProperty) {
                 Object id = entity.getIdentifierAccessor(source).getIdentifier();
                 if (id != null) {
                     node.put(_KEY, convertId(id));
                 }
-                return;
-            }
-            Object value = accessor.getProperty(property);
-            if (value != null) {
-                addProperty(value, property, node);
+                continue;
             }
-        });
-
-        entity.doWithAssociations((Association<ArangoPersistentProperty> association) -> {
-            ArangoPersistentProperty inverse = association.getInverse();
-            Object value = accessor.getProperty(inverse);
+            Object value = accessor.getProperty(step.property);
             if (value != null) {
-                addProperty(value, inverse, node);
+                addProperty(value, step, node);
             }
-        });
+        }
 
         addKeyIfNecessary(entity, source, node);
         addTypeKeyIfNecessary(definedType, source, node);
@@ -623,29 +1129,34 @@ public class DefaultArangoConverter implements ArangoConverter {
         }
     }
 
-    private void addProperty(final Object source, final ArangoPersistentProperty property, final ObjectNode node) {
+    private void addProperty(final Object source, final EntityPlan.Step step, final ObjectNode node) {
         if (source == null) {
             return;
         }
 
         TypeInformation<?> sourceType = TypeInformation.of(source.getClass());
-        String fieldName = property.getFieldName();
-
-        if (property.getRef().isPresent()) {
-            if (sourceType.isCollectionLike()) {
-                node.set(fieldName, createReferences(source, property.getRef().get()));
-            } else {
-                getRefId(source, property.getRef().get()).ifPresent(id -> node.put(fieldName, id));
-            }
-        } else if (property.getRelations().isPresent()) {
-            // nothing to store
-        } else if (property.getFrom().isPresent() || property.getTo().isPresent()) {
-            if (!sourceType.isCollectionLike()) {
-                getRefId(source, null).ifPresent(id -> node.put(fieldName, id));
-            }
-        } else {
-            Object entity = source instanceof LazyLoadingProxy proxy ? proxy.getEntity() : source;
-            node.set(fieldName, createInternal(entity, property.getTypeInformation()));
+        String fieldName = step.fieldName;
+
+        switch (step.kind) {
+            case REF:
+                if (sourceType.isCollectionLike()) {
+                    node.set(fieldName, createReferences(source, (Ref) step.annotation));
+                } else {
+                    getRefId(source, (Ref) step.annotation).ifPresent(id -> node.put(fieldName, id));
+                }
+                break;
+            case RELATIONS:
+                // nothing to store
+                break;
+            case FROM:
+            case TO:
+                if (!sourceType.isCollectionLike()) {
+                    getRefId(source, null).ifPresent(id -> node.put(fieldName, id));
+                }
+                break;
+            default:
+                Object entity = source instanceof LazyLoadingProxy proxy ? proxy.getEntity() : source;
+                node.set(fieldName, createInternal(entity, step.property.getTypeInformation()));
         }
     }
 
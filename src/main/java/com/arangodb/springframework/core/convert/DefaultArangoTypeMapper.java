@@ -20,6 +20,7 @@
 
 package com.arangodb.springframework.core.convert;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -27,6 +28,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.springframework.data.convert.MappingContextTypeInformationMapper;
@@ -132,6 +134,14 @@ public class DefaultArangoTypeMapper implements ArangoTypeMapper {
 		}
 	}
 
+	@Override
+	public void writeType(final Class<?> type, final JsonGenerator generator) throws IOException {
+		final Alias alias = getAliasFor(TypeInformation.of(type));
+		if (alias.isPresent() && typeKey != null) {
+			generator.writeStringField(typeKey, alias.getValue().toString());
+		}
+	}
+
 	@Override
 	public boolean isTypeKey(final String key) {
 		return typeKey == null ? false : typeKey.equals(key);
@@ -0,0 +1,180 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.convert;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.core.TypeInformation;
+import org.springframework.data.mapping.Association;
+
+import com.arangodb.springframework.annotation.Document;
+import com.arangodb.springframework.annotation.Edge;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Read and write plan of an {@link ArangoPersistentEntity}, computed once per entity by the
+ * {@link DefaultArangoConverter}. It holds everything the converter would otherwise rediscover for every document:
+ * the kind of each property, its annotation, whether it is a creator argument and whether its value can be read
+ * without consulting the custom conversions.
+ */
+final class EntityPlan {
+
+	enum Kind {
+		/**
+		 * Plain value without custom read conversion, read directly from scalars
+		 */
+		SIMPLE,
+		/**
+		 * Any other value, read through the generic type dispatch
+		 */
+		VALUE,
+		REF,
+		RELATIONS,
+		FROM,
+		TO
+	}
+
+	static final class Step {
+
+		final ArangoPersistentProperty property;
+		final String fieldName;
+		final Kind kind;
+		final Annotation annotation;
+		final Class<?> rawType;
+		final boolean creatorArgument;
+		final boolean idProperty;
+		final boolean writable;
+		final boolean immutable;
+
+		private Step(final ArangoPersistentEntity<?> entity, final ArangoPersistentProperty property,
+			final CustomConversions conversions) {
+			this.property = property;
+			this.fieldName = property.getFieldName();
+			this.rawType = property.getType();
+			this.creatorArgument = entity.isCreatorArgument(property);
+			this.idProperty = property.isIdProperty();
+			// associations are written regardless of their writability
+			this.writable = property.isAssociation() || property.isWritable();
+			this.immutable = property.isImmutable();
+			if (property.getRef().isPresent()) {
+				kind = Kind.REF;
+				annotation = property.getRef().get();
+			} else if (property.getRelations().isPresent()) {
+				kind = Kind.RELATIONS;
+				annotation = property.getRelations().get();
+			} else if (property.getFrom().isPresent()) {
+				kind = Kind.FROM;
+				annotation = property.getFrom().get();
+			} else if (property.getTo().isPresent()) {
+				kind = Kind.TO;
+				annotation = property.getTo().get();
+			} else {
+				kind = isSimple(rawType, conversions) ? Kind.SIMPLE : Kind.VALUE;
+				annotation = null;
+			}
+		}
+
+		boolean isReferenceOrRelation() {
+			return kind != Kind.SIMPLE && kind != Kind.VALUE;
+		}
+
+		private static boolean isSimple(final Class<?> type, final CustomConversions conversions) {
+			return !Object.class.equals(type)
+					&& !JsonNode.class.isAssignableFrom(type)
+					&& !DBDocumentEntity.class.isAssignableFrom(type)
+					&& !type.isArray()
+					&& conversions.isSimpleType(type)
+					&& !conversions.hasCustomReadTarget(JsonNode.class, type)
+					&& !conversions.hasCustomReadTarget(DBDocumentEntity.class, type);
+		}
+
+	}
+
+	private final ArangoPersistentEntity<?> entity;
+	private final Step[] readSteps;
+	private final Step[] writeSteps;
+	private final Map<String, Step> stepsByFieldName;
+	private final Class<? extends Annotation> collectionType;
+	private final List<TypeInformation<?>> traversedTypes;
+
+	EntityPlan(final ArangoPersistentEntity<?> entity, final CustomConversions conversions) {
+		this.entity = entity;
+		final List<Step> properties = new ArrayList<>();
+		final List<Step> associations = new ArrayList<>();
+		entity.doWithProperties(
+			(ArangoPersistentProperty property) -> properties.add(new Step(entity, property, conversions)));
+		entity.doWithAssociations((Association<ArangoPersistentProperty> association) -> associations
+				.add(new Step(entity, association.getInverse(), conversions)));
+
+		final List<Step> all = new ArrayList<>(properties);
+		all.addAll(associations);
+		readSteps = all.stream().filter(step -> !step.creatorArgument).toArray(Step[]::new);
+		writeSteps = all.stream().filter(step -> step.writable).toArray(Step[]::new);
+
+		stepsByFieldName = new HashMap<>();
+		for (final Step step : all) {
+			stepsByFieldName.put(step.fieldName, step);
+		}
+
+		collectionType = entity.findAnnotation(Edge.class) != null ? Edge.class : Document.class;
+		traversedTypes = Collections.singletonList(entity.getTypeInformation());
+	}
+
+	ArangoPersistentEntity<?> getEntity() {
+		return entity;
+	}
+
+	/**
+	 * @return the steps of all properties and associations which are not set through the persistence constructor,
+	 *         properties first
+	 */
+	Step[] getReadSteps() {
+		return readSteps;
+	}
+
+	/**
+	 * @return the steps of all writable properties and associations, properties first
+	 */
+	Step[] getWriteSteps() {
+		return writeSteps;
+	}
+
+	Step getStep(final String fieldName) {
+		return stepsByFieldName.get(fieldName);
+	}
+
+	Class<? extends Annotation> getCollectionType() {
+		return collectionType;
+	}
+
+	List<TypeInformation<?>> getTraversedTypes() {
+		return traversedTypes;
+	}
+
+}
@@ -21,11 +21,15 @@
 package com.arangodb.springframework.core.convert.resolver;
 
 import java.io.Serializable;
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Supplier;
 
-import org.aopalliance.intercept.MethodInvocation;
-import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cglib.core.SpringNamingPolicy;
 import org.springframework.cglib.proxy.Callback;
 import org.springframework.cglib.proxy.Enhancer;
 import org.springframework.cglib.proxy.Factory;
@@ -34,6 +38,8 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.objenesis.ObjenesisStd;
+import org.springframework.objenesis.instantiator.ObjectInstantiator;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -56,45 +62,110 @@ public abstract class AbstractResolver {
 		}
 	}
 
-	private final ObjenesisStd objenesis;
+	private static final ObjenesisStd OBJENESIS = new ObjenesisStd(false);
+	/**
+	 * Instantiators of the proxies by target type, so that creating a proxy neither has to look up the generated
+	 * class nor its instantiator. The instantiators are attached to the target classes, so that they do not keep the
+	 * classes of a redeployed application loaded.
+	 */
+	private static final ClassValue<ProxyInstantiator> PROXY_INSTANTIATORS = new ClassValue<>() {
+		@Override
+		protected ProxyInstantiator computeValue(final Class<?> type) {
+			return type.isInterface() ? interfaceProxyInstantiator(type) : classProxyInstantiator(type);
+		}
+	};
+
 	private final ConversionService conversionService;
 
 	protected AbstractResolver(final ConversionService conversionService) {
 		super();
 		this.conversionService = conversionService;
-		this.objenesis = new ObjenesisStd(true);
 	}
 
 	protected Object proxy(
 		final String id,
 		final TypeInformation<?> type,
 		final Supplier<Object> callback) {
-        final ProxyInterceptor interceptor = new ProxyInterceptor(id, type, callback, conversionService);
-		if (type.getType().isInterface()) {
-			final ProxyFactory proxyFactory = new ProxyFactory(new Class<?>[] { type.getType() });
-			for (final Class<?> interf : type.getType().getInterfaces()) {
-				proxyFactory.addInterface(interf);
-			}
-			proxyFactory.addInterface(LazyLoadingProxy.class);
-			proxyFactory.addAdvice(interceptor);
-			return proxyFactory.getProxy();
-		} else {
-			final Factory factory = (Factory) objenesis.newInstance(enhancedTypeFor(type.getType()));
+		final ProxyInterceptor interceptor = new ProxyInterceptor(id, type, callback, conversionService);
+		return proxyInstantiator(type.getType()).newProxy(interceptor);
+	}
+
+	static ProxyInstantiator proxyInstantiator(final Class<?> type) {
+		return PROXY_INSTANTIATORS.get(type);
+	}
+
+	private static ProxyInstantiator classProxyInstantiator(final Class<?> type) {
+		final ObjectInstantiator<?> instantiator = OBJENESIS.getInstantiatorOf(enhancedTypeFor(type));
+		return interceptor -> {
+			final Factory factory = (Factory) instantiator.newInstance();
 			factory.setCallbacks(new Callback[] { interceptor });
 			return factory;
-		}
+		};
+	}
+
+	/**
+	 * Interfaces, e.g. the collection types of relations, are proxied with JDK dynamic proxies, whose classes are
+	 * cached by the JDK. Generated classes could not be defined in the packages of the JDK.
+	 */
+	private static ProxyInstantiator interfaceProxyInstantiator(final Class<?> type) {
+		final Class<?>[] proxiedInterfaces = getProxiedInterfaces(type);
+		final ClassLoader classLoader = type.getClassLoader() != null
+				&& ClassUtils.isVisible(LazyLoadingProxy.class, type.getClassLoader()) ? type.getClassLoader()
+						: LazyLoadingProxy.class.getClassLoader();
+		return interceptor -> Proxy.newProxyInstance(classLoader, proxiedInterfaces, interceptor);
 	}
 
-	private Class<?> enhancedTypeFor(final Class<?> type) {
+	/**
+	 * Returns the interfaces implemented by the JDK dynamic proxies of the given interface. Called by the
+	 * ahead-of-time processing, so that the proxy classes are compiled into a native image.
+	 *
+	 * @param type
+	 *            the proxied interface, e.g. the collection type of a relation
+	 * @return the proxied interfaces
+	 */
+	public static Class<?>[] getProxiedInterfaces(final Class<?> type) {
+		final List<Class<?>> interfaces = new ArrayList<>();
+		interfaces.add(type);
+		interfaces.addAll(Arrays.asList(type.getInterfaces()));
+		interfaces.add(LazyLoadingProxy.class);
+		return interfaces.toArray(new Class<?>[0]);
+	}
+
+	/**
+	 * Creates the lazy loading proxies of a target type.
+	 */
+	interface ProxyInstantiator {
+
+		Object newProxy(ProxyInterceptor interceptor);
+
+	}
+
+	/**
+	 * Generates the lazy loading proxy class of the given type. Called by the ahead-of-time processing, so that the
+	 * class is compiled into a native image, where it is loaded instead of generated. Interfaces are proxied with JDK
+	 * dynamic proxies instead, see {@link #getProxiedInterfaces(Class)}.
+	 *
+	 * @param type
+	 *            the proxied entity class
+	 * @return the generated proxy class
+	 */
+	public static Class<?> createProxyClass(final Class<?> type) {
+		return enhancedTypeFor(type);
+	}
+
+	private static Class<?> enhancedTypeFor(final Class<?> type) {
 		final Enhancer enhancer = new Enhancer();
+		// stable class names, so that classes generated ahead-of-time are found
+		enhancer.setNamingPolicy(SpringNamingPolicy.INSTANCE);
+		enhancer.setAttemptLoad(true);
 		enhancer.setSuperclass(type);
-		enhancer.setCallbackType(org.springframework.cglib.proxy.MethodInterceptor.class);
 		enhancer.setInterfaces(new Class[] { LazyLoadingProxy.class });
+		enhancer.setCallbackType(org.springframework.cglib.proxy.MethodInterceptor.class);
 		return enhancer.createClass();
 	}
 
     static class ProxyInterceptor implements Serializable,
-			org.springframework.cglib.proxy.MethodInterceptor, org.aopalliance.intercept.MethodInterceptor {
+			org.springframework.cglib.proxy.MethodInterceptor, InvocationHandler {
 
 		private static final long serialVersionUID = -6722757823918987065L;
 		private final String id;
@@ -116,8 +187,8 @@ public abstract class AbstractResolver {
 		}
 
 		@Override
-		public Object invoke(final MethodInvocation invocation) throws Throwable {
-			return intercept(invocation.getThis(), invocation.getMethod(), invocation.getArguments(), null);
+		public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+			return intercept(proxy, method, args, null);
 		}
 
 		@Override
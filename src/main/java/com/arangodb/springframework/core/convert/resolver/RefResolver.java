@@ -20,13 +20,18 @@
 
 package com.arangodb.springframework.core.convert.resolver;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
 import com.arangodb.springframework.core.util.MetadataUtils;
 import org.springframework.data.core.TypeInformation;
+import org.springframework.data.util.Lazy;
 
 import com.arangodb.springframework.annotation.Ref;
 import com.arangodb.springframework.core.ArangoOperations;
@@ -52,9 +57,21 @@ public class RefResolver extends AbstractResolver implements ReferenceResolver<R
 
     @Override
     public Object resolveMultiple(final Collection<String> ids, final TypeInformation<?> type, final Ref annotation) {
-        return ids.stream()
-                .map(id -> resolveOne(id, getNonNullComponentType(type), annotation))
-                .collect(Collectors.toList());
+        final TypeInformation<?> componentType = getNonNullComponentType(type);
+        final List<String> idList = new ArrayList<>(ids);
+        if (!annotation.lazy()) {
+            return _resolveMultiple(idList, componentType);
+        }
+
+        // all proxies of the collection share one lookup, triggered by the first access to any of them
+        final Lazy<List<Object>> resolved = Lazy.of(() -> _resolveMultiple(idList, componentType));
+        final List<Object> proxies = new ArrayList<>(idList.size());
+        for (int i = 0; i < idList.size(); i++) {
+            final int index = i;
+            final String id = idList.get(i);
+            proxies.add(id == null ? null : proxy(id, componentType, () -> resolved.get().get(index)));
+        }
+        return proxies;
     }
 
     private Object _resolve(final String id, final TypeInformation<?> type) {
@@ -62,6 +79,34 @@ public class RefResolver extends AbstractResolver implements ReferenceResolver<R
                 .orElseThrow(() -> cannotResolveException(id, type));
     }
 
+    @Override
+    public Map<String, Object> resolveAll(final Collection<String> ids, final TypeInformation<?> type, final Ref annotation) {
+        final List<String> idList = new ArrayList<>(ids);
+        final List<Object> documents = _resolveMultiple(idList, type);
+        final Map<String, Object> resolved = new HashMap<>(idList.size());
+        for (int i = 0; i < idList.size(); i++) {
+            resolved.put(idList.get(i), documents.get(i));
+        }
+        return resolved;
+    }
+
+    private List<Object> _resolveMultiple(final List<String> ids, final TypeInformation<?> type) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final Map<String, Object> bindVars = Collections.singletonMap("ids", ids);
+        final List<Object> documents = new ArrayList<>(
+                template.query("FOR id IN @ids RETURN DOCUMENT(id)", bindVars, type.getType()).asListRemaining());
+
+        for (int i = 0; i < ids.size(); i++) {
+            if (ids.get(i) != null && documents.get(i) == null) {
+                throw cannotResolveException(ids.get(i), type);
+            }
+        }
+        return documents;
+    }
+
     @Override
     public String write(final Object source, final ArangoPersistentEntity<?> entity, final Object id) {
         return MetadataUtils.createIdFromCollectionAndKey(entity.getCollection(), String.valueOf(id));
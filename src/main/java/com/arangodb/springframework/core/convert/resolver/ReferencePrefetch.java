@@ -0,0 +1,193 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.convert.resolver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.data.core.TypeInformation;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+
+import com.arangodb.springframework.annotation.Ref;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+
+/**
+ * Collects the {@link Ref} properties of all documents deserialized while fetching a cursor batch and resolves them
+ * with one request per target type, before the documents are handed to the caller.
+ * <p>
+ * A prefetch is bound to the current thread by {@link #execute(Supplier)}; the converter defers eligible references
+ * to the {@link #current() current} prefetch instead of resolving them one by one.
+ *
+ * @see Ref#prefetch()
+ * @see com.arangodb.springframework.annotation.QueryOptions#prefetchReferences()
+ */
+public final class ReferencePrefetch {
+
+	private static final ThreadLocal<ReferencePrefetch> CURRENT = new ThreadLocal<>();
+	private static final ThreadLocal<Boolean> ALL_REFERENCES = new ThreadLocal<>();
+
+	private final boolean allReferences;
+	private final List<DeferredReference> deferred;
+
+	private ReferencePrefetch(final boolean allReferences) {
+		this.allReferences = allReferences;
+		this.deferred = new ArrayList<>();
+	}
+
+	/**
+	 * Creates a prefetch for a new cursor. It prefetches all non-lazy references if the cursor is created within
+	 * {@link #withAllReferences(Supplier)}, otherwise only references annotated with {@code @Ref(prefetch = true)}.
+	 */
+	public static ReferencePrefetch create() {
+		return new ReferencePrefetch(Boolean.TRUE.equals(ALL_REFERENCES.get()));
+	}
+
+	/**
+	 * Runs the given action, which creates a cursor, so that the cursor prefetches all non-lazy references.
+	 */
+	public static <T> T withAllReferences(final Supplier<T> action) {
+		final Boolean previous = ALL_REFERENCES.get();
+		ALL_REFERENCES.set(true);
+		try {
+			return action.get();
+		} finally {
+			ALL_REFERENCES.set(previous);
+		}
+	}
+
+	/**
+	 * @return the prefetch bound to the current thread, or {@code null} if references have to be resolved directly
+	 */
+	public static ReferencePrefetch current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Runs the given action, which fetches documents, with this prefetch bound to the current thread and resolves
+	 * all references deferred in the meantime.
+	 */
+	public <T> T execute(final Supplier<T> action) {
+		final ReferencePrefetch previous = CURRENT.get();
+		CURRENT.set(this);
+		final T result;
+		try {
+			result = action.get();
+		} finally {
+			CURRENT.set(previous);
+		}
+		resolveDeferred();
+		return result;
+	}
+
+	public boolean isEnabledFor(final Ref annotation) {
+		return !annotation.lazy() && (allReferences || annotation.prefetch());
+	}
+
+	/**
+	 * Defers the resolution of the given ids. Once resolved, the result is set on the given property.
+	 *
+	 * @param ids
+	 *            the referenced ids, a single one if the property is not collection like
+	 */
+	public void defer(
+		final ReferenceResolver<Ref> resolver,
+		final Ref annotation,
+		final PersistentPropertyAccessor<?> accessor,
+		final ArangoPersistentProperty property,
+		final List<String> ids) {
+		deferred.add(new DeferredReference(resolver, annotation, accessor, property, ids));
+	}
+
+	private void resolveDeferred() {
+		if (deferred.isEmpty()) {
+			return;
+		}
+		final List<DeferredReference> references = new ArrayList<>(deferred);
+		deferred.clear();
+
+		final Map<Class<?>, Set<String>> idsByType = new LinkedHashMap<>();
+		final Map<Class<?>, DeferredReference> samples = new LinkedHashMap<>();
+		for (final DeferredReference reference : references) {
+			final Class<?> type = reference.targetType().getType();
+			final Set<String> ids = idsByType.computeIfAbsent(type, it -> new LinkedHashSet<>());
+			for (final String id : reference.ids) {
+				if (id != null) {
+					ids.add(id);
+				}
+			}
+			samples.putIfAbsent(type, reference);
+		}
+
+		final Map<Class<?>, Map<String, Object>> resolvedByType = new LinkedHashMap<>();
+		idsByType.forEach((type, ids) -> {
+			final DeferredReference sample = samples.get(type);
+			resolvedByType.put(type, sample.resolver.resolveAll(ids, sample.targetType(), sample.annotation));
+		});
+
+		for (final DeferredReference reference : references) {
+			final Map<String, Object> resolved = resolvedByType.get(reference.targetType().getType());
+			if (reference.property.isCollectionLike()) {
+				final List<Object> values = new ArrayList<>(reference.ids.size());
+				for (final String id : reference.ids) {
+					values.add(id == null ? null : resolved.get(id));
+				}
+				reference.accessor.setProperty(reference.property, values);
+			} else {
+				reference.accessor.setProperty(reference.property, resolved.get(reference.ids.get(0)));
+			}
+		}
+	}
+
+	private static class DeferredReference {
+
+		private final ReferenceResolver<Ref> resolver;
+		private final Ref annotation;
+		private final PersistentPropertyAccessor<?> accessor;
+		private final ArangoPersistentProperty property;
+		private final List<String> ids;
+
+		DeferredReference(final ReferenceResolver<Ref> resolver, final Ref annotation,
+			final PersistentPropertyAccessor<?> accessor, final ArangoPersistentProperty property,
+			final List<String> ids) {
+			this.resolver = resolver;
+			this.annotation = annotation;
+			this.accessor = accessor;
+			this.property = property;
+			this.ids = ids;
+		}
+
+		TypeInformation<?> targetType() {
+			final TypeInformation<?> type = property.getTypeInformation();
+			if (!property.isCollectionLike()) {
+				return type;
+			}
+			final TypeInformation<?> componentType = type.getComponentType();
+			return componentType != null ? componentType : TypeInformation.OBJECT;
+		}
+
+	}
+
+}
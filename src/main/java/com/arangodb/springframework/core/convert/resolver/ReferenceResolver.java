@@ -22,6 +22,8 @@ package com.arangodb.springframework.core.convert.resolver;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
 import org.springframework.data.core.TypeInformation;
@@ -33,4 +35,17 @@ public interface ReferenceResolver<A extends Annotation> {
 	Object resolveOne(String id, TypeInformation<?> type, A annotation);
 	Object resolveMultiple(Collection<String> ids, TypeInformation<?> type, A annotation);
 	String write(Object source, ArangoPersistentEntity<?> entity, Object id);
+
+	/**
+	 * Resolves the given ids, which all reference documents of the given type, at once.
+	 *
+	 * @return the resolved documents by id
+	 */
+	default Map<String, Object> resolveAll(final Collection<String> ids, final TypeInformation<?> type, final A annotation) {
+		final Map<String, Object> resolved = new LinkedHashMap<>();
+		for (final String id : ids) {
+			resolved.put(id, resolveOne(id, type, annotation));
+		}
+		return resolved;
+	}
 }
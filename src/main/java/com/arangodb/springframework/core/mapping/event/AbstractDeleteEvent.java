@@ -37,7 +37,9 @@ public abstract class AbstractDeleteEvent<T> extends ArangoMappingEvent<Object>
 	}
 
 	/**
-	 * Returns the {@code _id} or {@code _key} of the (to be) deleted entity.
+	 * Returns the {@code _id} or {@code _key} of the (to be) deleted entity, or the list of them for a batch of
+	 * entities deleted with
+	 * {@link com.arangodb.springframework.core.ArangoOperations#deleteAllEntities(Iterable, Class)}.
 	 */
 	@Override
 	public Object getSource() {
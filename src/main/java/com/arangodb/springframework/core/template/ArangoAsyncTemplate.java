@@ -0,0 +1,476 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import com.arangodb.ArangoCollectionAsync;
+import com.arangodb.ArangoCursorAsync;
+import com.arangodb.ArangoDBAsync;
+import com.arangodb.ArangoDatabaseAsync;
+import com.arangodb.entity.*;
+import com.arangodb.model.*;
+import com.arangodb.springframework.core.ArangoAsyncOperations;
+import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.event.AfterDeleteEvent;
+import com.arangodb.springframework.core.mapping.event.AfterLoadEvent;
+import com.arangodb.springframework.core.mapping.event.AfterSaveEvent;
+import com.arangodb.springframework.core.mapping.event.BeforeDeleteEvent;
+import com.arangodb.springframework.core.mapping.event.BeforeSaveEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link ArangoAsyncOperations} built on the asynchronous driver API. It shares converter, mapping events,
+ * exception translation, database resolution and collection cache with the given {@link ArangoTemplate}.
+ * <p>
+ * The first operation on a collection creates the collection and its indexes through the {@link ArangoTemplate},
+ * blocking the calling thread once. References of read entities are resolved with the blocking template as well, so
+ * documents, including the documents returned by writes, are read as {@link JsonNode} trees by the driver and
+ * converted on the conversion executor (see {@link #setConversionExecutor(Executor)}) instead of the threads of the
+ * driver.
+ */
+public class ArangoAsyncTemplate implements ArangoAsyncOperations, DisposableBean {
+
+    private static final int DEFAULT_CONVERSION_THREADS = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+    private final ArangoTemplate template;
+    private final ArangoDBAsync arango;
+    private final ExecutorService defaultConversionExecutor;
+    private volatile Executor conversionExecutor;
+
+    public ArangoAsyncTemplate(final ArangoTemplate template) {
+        super();
+        this.template = template;
+        this.arango = template.driver().async();
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("arango-async-conversion-");
+        threadFactory.setDaemon(true);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_CONVERSION_THREADS,
+                DEFAULT_CONVERSION_THREADS, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        defaultConversionExecutor = executor;
+        conversionExecutor = executor;
+    }
+
+    /**
+     * @param conversionExecutor
+     *            the executor converting read documents to entities. Eagerly loaded references are resolved with
+     *            blocking requests on it, so it must be suited for blocking tasks. By default a pool of at most
+     *            {@code max(4, 2 * availableProcessors)} threads owned by this template is used.
+     */
+    public void setConversionExecutor(final Executor conversionExecutor) {
+        this.conversionExecutor = conversionExecutor;
+    }
+
+    /**
+     * Shuts the default conversion executor down.
+     */
+    @Override
+    public void destroy() {
+        defaultConversionExecutor.shutdown();
+    }
+
+    private ArangoDatabaseAsync db() {
+        return arango.db(template.databaseName());
+    }
+
+    private ArangoCollectionAsync _collection(final Class<?> entityClass, final Object id) {
+        return db().collection(template.collectionName(entityClass, id));
+    }
+
+    /**
+     * Evicts the cached document with the given key, or all cached documents of the collection if the key is
+     * {@code null}. The collection must have been resolved on the calling thread, e.g. by its tenant, as evictions run
+     * once the write completed.
+     */
+    private void evictCached(final ArangoCollectionAsync collection, final String key) {
+        template.evictCached(collection.db().name(), collection.name(), key);
+    }
+
+    /**
+     * Runs the given operation, translating exceptions thrown by it as well as exceptions the returned future
+     * completes with.
+     */
+    private <T> CompletableFuture<T> execute(final Supplier<CompletableFuture<T>> operation) {
+        final CompletableFuture<T> future;
+        try {
+            future = operation.get();
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(template.translateException(e));
+        }
+        return future.handle((result, e) -> {
+            if (e == null) {
+                return result;
+            }
+            final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            throw new CompletionException(
+                    cause instanceof RuntimeException runtimeException ? template.translateException(runtimeException) : cause);
+        });
+    }
+
+    @Override
+    public ArangoDBAsync driver() {
+        return arango;
+    }
+
+    @Override
+    public ArangoOperations sync() {
+        return template;
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> query(final String query, final Map<String, Object> bindVars,
+                                                final AqlQueryOptions options, final Class<T> entityClass) {
+        return cursor(query, bindVars, options, JsonNode.class)
+                .thenCompose(cursor -> collect(cursor, new ArrayList<>()))
+                .thenCompose(documents -> read(documents, entityClass));
+    }
+
+    private CompletableFuture<List<JsonNode>> collect(final ArangoCursorAsync<JsonNode> cursor,
+                                                      final List<JsonNode> results) {
+        results.addAll(cursor.getResult());
+        if (cursor.hasMore()) {
+            return nextBatch(cursor).thenCompose(next -> collect(next, results));
+        }
+        return CompletableFuture.completedFuture(results);
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> read(final List<JsonNode> documents, final Class<T> entityClass) {
+        return execute(() -> CompletableFuture.supplyAsync(() -> {
+            final List<T> results = new ArrayList<>(documents.size());
+            for (final JsonNode document : documents) {
+                results.add(read(document, entityClass));
+            }
+            return results;
+        }, conversionExecutor));
+    }
+
+    private <T> T read(final JsonNode document, final Class<T> entityClass) {
+        final T result = document != null ? template.getConverter().read(entityClass, document) : null;
+        if (result != null) {
+            template.potentiallyEmitEvent(new AfterLoadEvent<>(result));
+        }
+        return result;
+    }
+
+    /**
+     * @return the type passed to the driver for the documents returned by writes, which are then converted with
+     *         {@link #readReturned(Object, Class)} on the conversion executor
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <T> Class<T> returnedType() {
+        return (Class) JsonNode.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T readReturned(final T document, final Class<?> entityClass) {
+        return document instanceof JsonNode node ? (T) template.getConverter().read(entityClass, node) : document;
+    }
+
+    @Override
+    public <T> CompletableFuture<ArangoCursorAsync<T>> cursor(final String query, final Map<String, Object> bindVars,
+                                                              final AqlQueryOptions options, final Class<T> entityClass) {
+        return execute(() -> db()
+                .query(query, entityClass, bindVars == null ? null : template.prepareBindVars(bindVars), options)
+                .thenApply(this::emitAfterLoadEvents));
+    }
+
+    @Override
+    public <T> CompletableFuture<ArangoCursorAsync<T>> nextBatch(final ArangoCursorAsync<T> cursor) {
+        return execute(() -> cursor.nextBatch().thenApply(this::emitAfterLoadEvents));
+    }
+
+    private <T> ArangoCursorAsync<T> emitAfterLoadEvents(final ArangoCursorAsync<T> cursor) {
+        for (final T result : cursor.getResult()) {
+            // trees are not entities yet, the event is emitted once they are read
+            if (result != null && !(result instanceof JsonNode)) {
+                template.potentiallyEmitEvent(new AfterLoadEvent<>(result));
+            }
+        }
+        return cursor;
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> query(final String query, final Map<String, Object> bindVars,
+                                                final Class<T> entityClass) {
+        return query(query, bindVars, null, entityClass);
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> query(final String query, final Class<T> entityClass) {
+        return query(query, null, null, entityClass);
+    }
+
+    @Override
+    public <T> CompletableFuture<Optional<T>> find(final Object id, final Class<T> entityClass,
+                                                   final DocumentReadOptions options) {
+        return execute(() -> _collection(entityClass, id)
+                .getDocument(template.determineDocumentKeyFromId(id), JsonNode.class, options)
+                .thenApplyAsync(document -> Optional.ofNullable(read(document, entityClass)), conversionExecutor));
+    }
+
+    @Override
+    public <T> CompletableFuture<Optional<T>> find(final Object id, final Class<T> entityClass) {
+        return find(id, entityClass, new DocumentReadOptions());
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> findAll(final Class<T> entityClass) {
+        final String query = "FOR entity IN @@col RETURN entity";
+        final Map<String, Object> bindVars = Collections.singletonMap("@col", entityClass);
+        return query(query, bindVars, null, entityClass);
+    }
+
+    @Override
+    public <T> CompletableFuture<Iterable<T>> findAll(final Iterable<?> ids, final Class<T> entityClass) {
+        return execute(() -> {
+            final Collection<String> keys = new ArrayList<>();
+            ids.forEach(id -> keys.add(template.determineDocumentKeyFromId(id)));
+            return _collection(entityClass, null).getDocuments(keys, JsonNode.class)
+                    .thenCompose(result -> read(new ArrayList<>(result.getDocuments()), entityClass))
+                    .thenApply(docs -> docs);
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<MultiDocumentEntity<DocumentCreateEntity<T>>> insertAll(
+            final Iterable<? extends T> values, final DocumentCreateOptions options, final Class<T> entityClass) {
+
+        return execute(() -> {
+            template.potentiallyEmitBeforeSaveEvent(values);
+            final List<T> documents = new ArrayList<>();
+            values.forEach(documents::add);
+            final ArangoCollectionAsync collection = _collection(entityClass, null);
+            return collection.insertDocuments(documents, options, ArangoAsyncTemplate.<T>returnedType())
+                    .thenApplyAsync(result -> {
+                        for (final DocumentCreateEntity<T> document : result.getDocuments()) {
+                            document.setNew(readReturned(document.getNew(), entityClass));
+                            document.setOld(readReturned(document.getOld(), entityClass));
+                            evictCached(collection, document.getKey());
+                        }
+                        template.updateDBFields(values, result);
+                        template.potentiallyEmitAfterSaveEvent(values, result);
+                        return result;
+                    }, conversionExecutor);
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<DocumentCreateEntity<T>> insert(final T value, final DocumentCreateOptions options) {
+        return execute(() -> {
+            template.potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+            final ArangoCollectionAsync collection = _collection(value.getClass(), null);
+            return collection.insertDocument(value, options, ArangoAsyncTemplate.<T>returnedType())
+                    .thenApplyAsync(result -> {
+                        result.setNew(readReturned(result.getNew(), value.getClass()));
+                        result.setOld(readReturned(result.getOld(), value.getClass()));
+                        evictCached(collection, result.getKey());
+                        template.updateDBFields(value, result);
+                        template.potentiallyEmitEvent(new AfterSaveEvent<>(value));
+                        return result;
+                    }, conversionExecutor);
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<DocumentCreateEntity<T>> insert(final T value) {
+        return insert(value, new DocumentCreateOptions());
+    }
+
+    @Override
+    public <T> CompletableFuture<T> repsert(final T value) {
+        @SuppressWarnings("unchecked") final Class<T> clazz = (Class<T>) value.getClass();
+        return execute(() -> {
+            final ArangoCollectionAsync collection = _collection(clazz, null);
+            final Map<String, Object> bindVars = new HashMap<>();
+            bindVars.put("@col", collection.name());
+            bindVars.put("doc", value);
+
+            template.potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+            return collection.db()
+                    .query(ArangoTemplate.REPSERT_QUERY, JsonNode.class, template.prepareBindVars(bindVars), null)
+                    .thenApplyAsync(cursor -> {
+                        final Iterator<JsonNode> it = cursor.getResult().iterator();
+                        final T result = read(it.hasNext() ? it.next() : null, clazz);
+                        evictCached(collection, template.determineDocumentKey(result));
+                        template.updateDBFieldsFromObject(value, result);
+                        template.potentiallyEmitEvent(new AfterSaveEvent<>(result));
+                        return result;
+                    }, conversionExecutor);
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<DocumentUpdateEntity<T>> update(final Object id, final T value,
+                                                                 final DocumentUpdateOptions options) {
+        return execute(() -> {
+            template.potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+            final ArangoCollectionAsync collection = _collection(value.getClass(), id);
+            final String key = template.determineDocumentKeyFromId(id);
+            return collection.updateDocument(key, value, options, ArangoAsyncTemplate.<T>returnedType())
+                    .thenApplyAsync(result -> {
+                        result.setNew(readReturned(result.getNew(), value.getClass()));
+                        result.setOld(readReturned(result.getOld(), value.getClass()));
+                        evictCached(collection, key);
+                        template.updateDBFields(value, result);
+                        template.potentiallyEmitEvent(new AfterSaveEvent<>(value));
+                        return result;
+                    }, conversionExecutor);
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<DocumentUpdateEntity<T>> replace(final Object id, final T value,
+                                                                  final DocumentReplaceOptions options) {
+        return execute(() -> {
+            template.potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+            final ArangoCollectionAsync collection = _collection(value.getClass(), id);
+            final String key = template.determineDocumentKeyFromId(id);
+            return collection.replaceDocument(key, value, options, ArangoAsyncTemplate.<T>returnedType())
+                    .thenApplyAsync(result -> {
+                        result.setNew(readReturned(result.getNew(), value.getClass()));
+                        result.setOld(readReturned(result.getOld(), value.getClass()));
+                        evictCached(collection, key);
+                        template.updateDBFields(value, result);
+                        template.potentiallyEmitEvent(new AfterSaveEvent<>(value));
+                        return result;
+                    }, conversionExecutor);
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<DocumentDeleteEntity<T>> delete(final Object id, final DocumentDeleteOptions options,
+                                                                 final Class<T> entityClass) {
+        return execute(() -> {
+            template.potentiallyEmitEvent(new BeforeDeleteEvent<>(id, entityClass));
+            final ArangoCollectionAsync collection = _collection(entityClass, id);
+            final String key = template.determineDocumentKeyFromId(id);
+            return collection.deleteDocument(key, options, ArangoAsyncTemplate.<T>returnedType())
+                    .thenApplyAsync(result -> {
+                        result.setOld(readReturned(result.getOld(), entityClass));
+                        evictCached(collection, key);
+                        template.potentiallyEmitEvent(new AfterDeleteEvent<>(id, entityClass));
+                        return result;
+                    }, conversionExecutor);
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<DocumentDeleteEntity<T>> delete(final Object id, final Class<T> entityClass) {
+        return delete(id, new DocumentDeleteOptions(), entityClass);
+    }
+
+    @Override
+    public <T> CompletableFuture<MultiDocumentEntity<DocumentDeleteEntity<T>>> deleteAllById(
+            final Iterable<?> ids, final DocumentDeleteOptions options, final Class<T> entityClass) {
+        return execute(() -> {
+            final List<String> keys = new ArrayList<>();
+            for (final Object id : ids) {
+                template.potentiallyEmitEvent(new BeforeDeleteEvent<>(id, entityClass));
+                keys.add(template.determineDocumentKeyFromId(id));
+            }
+            final ArangoCollectionAsync collection = _collection(entityClass, null);
+            return collection.deleteDocuments(keys, options, ArangoAsyncTemplate.<T>returnedType())
+                    .thenApplyAsync(result -> {
+                        for (final DocumentDeleteEntity<T> document : result.getDocuments()) {
+                            document.setOld(readReturned(document.getOld(), entityClass));
+                            evictCached(collection, document.getKey());
+                        }
+                        template.potentiallyEmitAfterDeleteEvent(ids, entityClass, result);
+                        return result;
+                    }, conversionExecutor);
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> deleteAllEntities(final Iterable<? extends T> entities,
+                                                         final Class<T> entityClass) {
+        return execute(() -> {
+            final ArangoPersistentEntity<?> persistentEntity = template.getConverter().getMappingContext()
+                    .getRequiredPersistentEntity(entityClass);
+            final List<Object> ids = new ArrayList<>();
+            final List<Map<String, Object>> docs = new ArrayList<>();
+            for (final T entity : entities) {
+                final Object id = persistentEntity.getIdentifierAccessor(entity).getRequiredIdentifier();
+                ids.add(id);
+                docs.add(template.removeManyDocument(persistentEntity, entity, id));
+            }
+            if (docs.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            template.potentiallyEmitEvent(new BeforeDeleteEvent<>(List.copyOf(ids), entityClass));
+            final ArangoCollectionAsync collection = _collection(entityClass, null);
+            // a single batch holds the keys of all removed documents
+            final AqlQueryOptions options = new AqlQueryOptions().batchSize(docs.size());
+            return collection.db()
+                    .query(ArangoTemplate.REMOVE_MANY_QUERY, String.class,
+                            ArangoTemplate.removeManyBindVars(collection.name(), docs), options)
+                    .whenComplete((cursor, e) -> {
+                        if (e != null) {
+                            // the documents removed before the failure are unknown
+                            evictCached(collection, null);
+                        }
+                    })
+                    .thenApplyAsync(cursor -> {
+                        final List<String> failedKeys = new ArrayList<>();
+                        template.removedMany(collection.db().name(), collection.name(), ids, docs,
+                                new HashSet<>(cursor.getResult()), entityClass, failedKeys);
+                        if (!failedKeys.isEmpty()) {
+                            throw ArangoTemplate.removeManyConflict(failedKeys);
+                        }
+                        return null;
+                    }, conversionExecutor);
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> exists(final Object id, final Class<?> entityClass) {
+        return execute(() -> _collection(entityClass, null).documentExists(template.determineDocumentKeyFromId(id)));
+    }
+
+    @Override
+    public CompletableFuture<Long> count(final Class<?> entityClass) {
+        return execute(() -> _collection(entityClass, null).count().thenApply(CollectionPropertiesEntity::getCount));
+    }
+
+    @Override
+    public CompletableFuture<Void> truncate(final Class<?> entityClass) {
+        return execute(() -> {
+            final ArangoCollectionAsync collection = _collection(entityClass, null);
+            return collection.truncate().thenApply(result -> {
+                evictCached(collection, null);
+                return null;
+            });
+        });
+    }
+
+}
@@ -24,6 +24,7 @@ import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoIterator;
 import com.arangodb.entity.CursorStats;
 import com.arangodb.entity.CursorWarning;
+import com.arangodb.springframework.core.convert.resolver.ReferencePrefetch;
 import com.arangodb.springframework.core.mapping.event.AfterLoadEvent;
 import com.arangodb.springframework.core.mapping.event.ArangoMappingEvent;
 import org.slf4j.LoggerFactory;
@@ -46,11 +47,14 @@ class ArangoExtCursor<T> implements ArangoCursor<T> {
     private final ArangoCursor<T> delegate;
     private final Class<T> type;
     private final ApplicationEventPublisher eventPublisher;
+    private final ReferencePrefetch prefetch;
 
-    public ArangoExtCursor(ArangoCursor<T> delegate, Class<T> type, ApplicationEventPublisher eventPublisher) {
+    public ArangoExtCursor(ArangoCursor<T> delegate, Class<T> type, ApplicationEventPublisher eventPublisher,
+                           ReferencePrefetch prefetch) {
         this.delegate = delegate;
         this.type = type;
         this.eventPublisher = eventPublisher;
+        this.prefetch = prefetch;
     }
 
     @Override
@@ -89,11 +93,7 @@ class ArangoExtCursor<T> implements ArangoCursor<T> {
         while (hasNext()) {
             remaining.add(next());
         }
-        try {
-            close();
-        } catch (final Exception e) {
-            LoggerFactory.getLogger(ArangoExtCursor.class).warn("Could not close cursor: ", e);
-        }
+        closeQuietly();
         return remaining;
     }
 
@@ -114,7 +114,15 @@ class ArangoExtCursor<T> implements ArangoCursor<T> {
 
     @Override
     public Stream<T> stream() {
-        return StreamSupport.stream(spliterator(), false);
+        return StreamSupport.stream(spliterator(), false).onClose(this::closeQuietly);
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (final Exception e) {
+            LoggerFactory.getLogger(ArangoExtCursor.class).warn("Could not close cursor: ", e);
+        }
     }
 
     @Override
@@ -124,12 +132,13 @@ class ArangoExtCursor<T> implements ArangoCursor<T> {
 
     @Override
     public boolean hasNext() {
-        return delegate.hasNext();
+        // fetches and deserializes the next batch, if necessary
+        return prefetch.execute(delegate::hasNext);
     }
 
     @Override
     public T next() {
-        T result = delegate.next();
+        T result = prefetch.execute(delegate::next);
         potentiallyEmitEvent(result, AfterLoadEvent::new);
         return result;
     }
@@ -26,8 +26,10 @@ import com.arangodb.model.*;
 import com.arangodb.springframework.annotation.*;
 import com.arangodb.springframework.core.ArangoOperations;
 import com.arangodb.springframework.core.CollectionOperations;
+import com.arangodb.springframework.core.TenantResolver;
 import com.arangodb.springframework.core.UserOperations;
 import com.arangodb.springframework.core.convert.ArangoConverter;
+import com.arangodb.springframework.core.convert.resolver.ReferencePrefetch;
 import com.arangodb.springframework.core.convert.resolver.ResolverFactory;
 import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
 import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
@@ -35,14 +37,21 @@ import com.arangodb.springframework.core.mapping.event.*;
 import com.arangodb.springframework.core.template.DefaultUserOperation.CollectionCallback;
 import com.arangodb.springframework.core.util.ArangoExceptionTranslator;
 import com.arangodb.springframework.core.util.MetadataUtils;
+import com.arangodb.springframework.transaction.ArangoTransactionManager;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.expression.BeanFactoryAccessor;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
@@ -50,17 +59,35 @@ import org.springframework.expression.Expression;
 import org.springframework.expression.ParserContext;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Mark Vollmary
  * @author Christian Lechner
  * @author Reşat SABIQ
  */
-public class ArangoTemplate implements ArangoOperations, CollectionCallback, ApplicationContextAware {
+public class ArangoTemplate implements ArangoOperations, CollectionCallback, ApplicationContextAware,
+        SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArangoTemplate.class);
 
     private static final String REPSERT_QUERY_BODY =
             "UPSERT { _key: doc._key } " +
@@ -70,8 +97,13 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
                     "OPTIONS { ignoreRevs: false } " +
                     "RETURN NEW";
 
-    private static final String REPSERT_QUERY = "LET doc = @doc " + REPSERT_QUERY_BODY;
+    static final String REPSERT_QUERY = "LET doc = @doc " + REPSERT_QUERY_BODY;
     private static final String REPSERT_MANY_QUERY = "FOR doc IN @docs " + REPSERT_QUERY_BODY;
+    static final String REMOVE_MANY_QUERY = "FOR doc IN @docs "
+            + "REMOVE doc IN @@col OPTIONS { ignoreRevs: false, ignoreErrors: true } RETURN OLD._key";
+
+    private static final int DEFAULT_BOUNDED_BATCH_SIZE = 10_000;
+    private static final int SCHEMA_BOOTSTRAP_PARALLELISM = 8;
 
     private static final SpelExpressionParser PARSER = new SpelExpressionParser();
 
@@ -82,12 +114,18 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
     private final ArangoDB arango;
     private final String databaseName;
     private final Expression databaseExpression;
-    private final Map<String, ArangoDatabase> databaseCache;
-    private final Map<CollectionCacheKey, CollectionCacheValue> collectionCache;
+    private final HandleCache<String, ArangoDatabase> databaseCache;
+    private final HandleCache<CollectionCacheKey, CollectionCacheValue> collectionCache;
+    private final DocumentCache documentCache = new DocumentCache();
+    private final Object transactionEvictionsKey = new Object();
+    private volatile TenantResolver tenantResolver;
 
     private final StandardEvaluationContext context;
 
     private ApplicationEventPublisher eventPublisher;
+    private volatile int writeBatchSize;
+    private volatile int maxConcurrentWriteBatches = 1;
+    private volatile SchemaBootstrap schemaBootstrap = SchemaBootstrap.LAZY;
 
     public ArangoTemplate(final ArangoDB arango, final String database, final ArangoConverter converter,
                           final ResolverFactory resolverFactory) {
@@ -104,16 +142,108 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
         this.resolverFactory = resolverFactory;
         this.exceptionTranslator = exceptionTranslator;
         this.context = new StandardEvaluationContext();
-        // set concurrency level to 1 as writes are very rare compared to reads
-        collectionCache = new ConcurrentHashMap<>(8, 0.9f, 1);
-        databaseCache = new ConcurrentHashMap<>(8, 0.9f, 1);
+        collectionCache = new HandleCache<>(value -> value.getCollection().exists());
+        databaseCache = new HandleCache<>(ArangoDatabase::exists);
         version = null;
     }
 
+    /**
+     * Splits {@link #insertAll(Iterable, DocumentCreateOptions, Class)} and {@link #repsertAll(Iterable, Class)} into
+     * requests of at most the given number of documents. The values are read lazily from the given iterable, so the
+     * size of the request bodies does not depend on the number of values. The batches are not written atomically.
+     * {@link #importAll(Iterable, DocumentImportOptions, boolean, Class)} and
+     * {@link #deleteAllEntities(Iterable, Class)} are always split, into batches of 10000 documents by default.
+     *
+     * @param writeBatchSize
+     *            the maximum number of documents per request, non-positive values (the default) write all values with
+     *            a single request
+     */
+    public void setWriteBatchSize(final int writeBatchSize) {
+        this.writeBatchSize = writeBatchSize;
+    }
+
+    /**
+     * @param maxConcurrentWriteBatches
+     *            the maximum number of batches (see {@link #setWriteBatchSize(int)}) sent concurrently, {@code 1} by
+     *            default. Batches within a stream transaction are always sent one after another.
+     */
+    public void setMaxConcurrentWriteBatches(final int maxConcurrentWriteBatches) {
+        if (maxConcurrentWriteBatches < 1) {
+            throw new IllegalArgumentException("maxConcurrentWriteBatches must be positive");
+        }
+        this.maxConcurrentWriteBatches = maxConcurrentWriteBatches;
+    }
+
+    /**
+     * @param tenantResolver
+     *            resolves the database of the current tenant instead of the SpEL expression of the database name,
+     *            {@code null} (the default) evaluates the expression
+     */
+    public void setTenantResolver(final TenantResolver tenantResolver) {
+        this.tenantResolver = tenantResolver;
+    }
+
+    /**
+     * Bounds the number of cached database and collection handles, which otherwise grows with the number of tenants.
+     * Evicted handles are loaded again on the next access, checking whether the database or collection exists.
+     *
+     * @param maximumSize
+     *            the maximum number of cached handles of each kind, non-positive values (the default) do not bound
+     *            the caches
+     */
+    public void setHandleCacheMaximumSize(final int maximumSize) {
+        databaseCache.setMaximumSize(maximumSize);
+        collectionCache.setMaximumSize(maximumSize);
+    }
+
+    /**
+     * @param idleTimeout
+     *            the time after which database and collection handles not used are evicted, {@code null} (the
+     *            default) keeps them
+     */
+    public void setHandleCacheIdleTimeout(final Duration idleTimeout) {
+        databaseCache.setIdleTimeout(idleTimeout);
+        collectionCache.setIdleTimeout(idleTimeout);
+    }
+
+    /**
+     * Validates cached database and collection handles in the background, so that databases or collections dropped
+     * by other clients are created again without blocking the operation using the handle.
+     *
+     * @param refreshInterval
+     *            the time after which a handle is validated with its next use, {@code null} (the default) never
+     *            validates handles
+     * @param executor
+     *            runs the validations, {@code null} uses the common fork join pool
+     */
+    public void setHandleCacheRefresh(final Duration refreshInterval, final Executor executor) {
+        databaseCache.setRefreshInterval(refreshInterval);
+        collectionCache.setRefreshInterval(refreshInterval);
+        if (executor != null) {
+            databaseCache.setRefreshExecutor(executor);
+            collectionCache.setRefreshExecutor(executor);
+        }
+    }
+
+    /**
+     * @return the counters of the database handle cache
+     */
+    public HandleCacheStatistics getDatabaseCacheStatistics() {
+        return databaseCache.statistics();
+    }
+
+    /**
+     * @return the counters of the collection handle cache
+     */
+    public HandleCacheStatistics getCollectionCacheStatistics() {
+        return collectionCache.statistics();
+    }
+
     private ArangoDatabase db() {
-        final String key = databaseExpression != null ? databaseExpression.getValue(context, String.class)
-                : databaseName;
-        return databaseCache.computeIfAbsent(key, name -> {
+        final TenantResolver resolver = tenantResolver;
+        final String key = resolver != null ? resolver.resolveDatabaseName()
+                : databaseExpression != null ? databaseExpression.getValue(context, String.class) : databaseName;
+        return databaseCache.get(key, name -> {
             final ArangoDatabase db = arango.db(name);
             if (!db.exists()) {
                 db.create();
@@ -122,6 +252,47 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
         });
     }
 
+    /**
+     * @return the name of the current database, which is created if necessary
+     */
+    public String databaseName() {
+        return db().name();
+    }
+
+    private String streamTransactionId() {
+        return ArangoTransactionManager.currentStreamTransactionId(this, this::databaseName);
+    }
+
+    /**
+     * Applies the stream transaction bound to the current thread, if any, to a copy of the given options. The options
+     * of the caller are never modified, so they can be reused outside of the transaction.
+     */
+    private <O extends TransactionalOptions<O>> O withStreamTransaction(final O options, final Supplier<O> defaults) {
+        final String transactionId = streamTransactionId();
+        if (transactionId == null || (options != null && options.getStreamTransactionId() != null)) {
+            return options;
+        }
+        final O transactional = options != null ? copy(options) : defaults.get();
+        return transactional.streamTransactionId(transactionId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <O> O copy(final O options) {
+        if (options instanceof AqlQueryOptions queryOptions) {
+            return (O) queryOptions.clone();
+        }
+        final O copy = (O) BeanUtils.instantiateClass(options.getClass());
+        ReflectionUtils.shallowCopyFieldState(options, copy);
+        return copy;
+    }
+
+    /**
+     * @return the name of the collection of the given entity and id, which is created if necessary
+     */
+    String collectionName(final Class<?> entityClass, final Object id) {
+        return _collection(entityClass, id).name();
+    }
+
     private ArangoCollection _collection(final String name) {
         return _collection(name, null, null);
     }
@@ -139,10 +310,15 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
     private ArangoCollection _collection(final String name, final ArangoPersistentEntity<?> persistentEntity,
                                          final CollectionCreateOptions options) {
+        return _collection(db(), name, persistentEntity, options);
+    }
+
+    private ArangoCollection _collection(final ArangoDatabase db, final String name,
+                                         final ArangoPersistentEntity<?> persistentEntity,
+                                         final CollectionCreateOptions options) {
 
-        final ArangoDatabase db = db();
         final Class<?> entityClass = persistentEntity != null ? persistentEntity.getType() : null;
-        final CollectionCacheValue value = collectionCache.computeIfAbsent(new CollectionCacheKey(db.name(), name),
+        final CollectionCacheValue value = collectionCache.get(new CollectionCacheKey(db.name(), name),
                 key -> {
                     final ArangoCollection collection = db.collection(name);
                     if (!collection.exists()) {
@@ -155,97 +331,129 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
         final ArangoCollection collection = value.getCollection();
         if (persistentEntity != null && !entities.contains(entityClass)) {
             value.addEntityClass(entityClass);
+            documentCache.register(entityClass, name);
             ensureCollectionIndexes(collection(collection), persistentEntity);
         }
         return collection;
     }
 
-    @SuppressWarnings("deprecation")
     private static void ensureCollectionIndexes(final CollectionOperations collection,
                                                 final ArangoPersistentEntity<?> persistentEntity) {
-        persistentEntity.getPersistentIndexes().forEach(index -> ensurePersistentIndex(collection, index));
-        persistentEntity.getPersistentIndexedProperties().forEach(p -> ensurePersistentIndex(collection, p));
-        persistentEntity.getGeoIndexes().forEach(index -> ensureGeoIndex(collection, index));
-        persistentEntity.getGeoIndexedProperties().forEach(p -> ensureGeoIndex(collection, p));
-        persistentEntity.getFulltextIndexes().forEach(index -> ensureFulltextIndex(collection, index));
-        persistentEntity.getFulltextIndexedProperties().forEach(p -> ensureFulltextIndex(collection, p));
-        persistentEntity.getTtlIndex().ifPresent(index -> ensureTtlIndex(collection, index));
-        persistentEntity.getTtlIndexedProperty().ifPresent(p -> ensureTtlIndex(collection, p));
-        persistentEntity.getMDIndexes().forEach(index -> ensureMDIndex(collection, index));
-        persistentEntity.getMDPrefixedIndexes().forEach(index -> ensureMDPrefixedIndex(collection, index));
-    }
-
-    private static void ensurePersistentIndex(final CollectionOperations collection, final PersistentIndex annotation) {
-        collection.ensurePersistentIndex(Arrays.asList(annotation.fields()),
-                new PersistentIndexOptions()
-                        .unique(annotation.unique())
-                        .sparse(annotation.sparse())
-                        .deduplicate(annotation.deduplicate()));
-    }
-
-    private static void ensurePersistentIndex(final CollectionOperations collection,
-                                              final ArangoPersistentProperty value) {
-        final PersistentIndexOptions options = new PersistentIndexOptions();
-        value.getPersistentIndexed().ifPresent(i -> options
-                .unique(i.unique())
-                .sparse(i.sparse())
-                .deduplicate(i.deduplicate()));
-        collection.ensurePersistentIndex(Collections.singleton(value.getFieldName()), options);
-    }
-
-    private static void ensureGeoIndex(final CollectionOperations collection, final GeoIndex annotation) {
-        collection.ensureGeoIndex(Arrays.asList(annotation.fields()),
-                new GeoIndexOptions().geoJson(annotation.geoJson()));
-    }
-
-    private static void ensureGeoIndex(final CollectionOperations collection, final ArangoPersistentProperty value) {
-        final GeoIndexOptions options = new GeoIndexOptions();
-        value.getGeoIndexed().ifPresent(i -> options.geoJson(i.geoJson()));
-        collection.ensureGeoIndex(Collections.singleton(value.getFieldName()), options);
-    }
-
-    @SuppressWarnings("deprecation")
-    private static void ensureFulltextIndex(final CollectionOperations collection, final FulltextIndex annotation) {
-        collection.ensureFulltextIndex(Collections.singleton(annotation.field()),
-                new FulltextIndexOptions().minLength(annotation.minLength() > -1 ? annotation.minLength() : null));
+        IndexDefinition.of(persistentEntity).forEach(index -> index.ensure(collection));
     }
 
-    @SuppressWarnings("deprecation")
-    private static void ensureFulltextIndex(final CollectionOperations collection,
-                                            final ArangoPersistentProperty value) {
-        final FulltextIndexOptions options = new FulltextIndexOptions();
-        value.getFulltextIndexed().ifPresent(i -> options.minLength(i.minLength() > -1 ? i.minLength() : null));
-        collection.ensureFulltextIndex(Collections.singleton(value.getFieldName()), options);
+    /**
+     * @param schemaBootstrap
+     *            whether to create or verify the collections and indexes of all entities once all singletons are
+     *            instantiated, {@link SchemaBootstrap#LAZY} (the default) creates them with the first use of each
+     *            entity
+     */
+    public void setSchemaBootstrap(final SchemaBootstrap schemaBootstrap) {
+        this.schemaBootstrap = schemaBootstrap;
     }
 
-    private static void ensureTtlIndex(final CollectionOperations collection, final TtlIndex annotation) {
-        collection.ensureTtlIndex(Collections.singleton(annotation.field()),
-                new TtlIndexOptions().expireAfter(annotation.expireAfter()));
+    @Override
+    public void afterSingletonsInstantiated() {
+        // registered before their first use as well, so that writes of other entities to their collections evict
+        schemaEntities().forEach(entity -> documentCache.register(entity.getType(), entity.getCollection()));
+        switch (schemaBootstrap) {
+            case CREATE:
+                ensureSchema();
+                break;
+            case VERIFY:
+                verifySchema().forEach(drift -> LOGGER.warn("Schema drift: {}", drift));
+                break;
+            default:
+                break;
+        }
     }
 
-    private static void ensureTtlIndex(final CollectionOperations collection, final ArangoPersistentProperty value) {
-        final TtlIndexOptions options = new TtlIndexOptions();
-        value.getTtlIndexed().ifPresent(i -> options.expireAfter(i.expireAfter()));
-        collection.ensureTtlIndex(Collections.singleton(value.getFieldName()), options);
+    /**
+     * Creates the collections and indexes of all {@link Document} and {@link Edge} entities of the mapping context,
+     * in parallel across entities. Entities whose collection name is a SpEL expression are skipped, as it depends on
+     * the tenant. The collections are created in the database of the current tenant.
+     */
+    public void ensureSchema() throws DataAccessException {
+        // the tenant is resolved on the calling thread, not on the threads of the pool
+        final ArangoDatabase db = db();
+        inParallel(schemaEntities(), persistentEntity -> _collection(db, persistentEntity.getCollection(),
+                persistentEntity, persistentEntity.getCollectionOptions()));
     }
 
-    private static void ensureMDIndex(final CollectionOperations collection, final MDIndex annotation) {
-        collection.ensureMDIndex(Arrays.asList(annotation.fields()),
-                new MDIndexOptions()
-                        .unique(annotation.unique())
-                        .fieldValueTypes(annotation.fieldValueTypes())
-                        .sparse(annotation.sparse())
-        );
+    /**
+     * Compares the collections and indexes of the current database with the ones declared by the entities (see
+     * {@link #ensureSchema()}), without creating any of them.
+     *
+     * @return the missing collections, missing indexes and indexes not declared by any entity of their collection
+     */
+    public List<SchemaDrift> verifySchema() throws DataAccessException {
+        final ArangoDatabase db = db();
+        final Map<String, List<ArangoPersistentEntity<?>>> entitiesByCollection = schemaEntities().stream()
+                .collect(Collectors.groupingBy(ArangoPersistentEntity::getCollection, LinkedHashMap::new,
+                        Collectors.toList()));
+        return inParallel(entitiesByCollection.entrySet(),
+                entry -> verifyCollection(db.collection(entry.getKey()), entry.getValue()))
+                .stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    private static List<SchemaDrift> verifyCollection(final ArangoCollection collection,
+                                                      final List<ArangoPersistentEntity<?>> entities) {
+        final List<SchemaDrift> drifts = new ArrayList<>();
+        if (!collection.exists()) {
+            entities.forEach(entity -> drifts.add(new SchemaDrift(SchemaDrift.Kind.MISSING_COLLECTION,
+                    collection.name(), entity.getType().getName())));
+            return drifts;
+        }
+        final Collection<IndexEntity> existing = collection.getIndexes();
+        final List<IndexDefinition> declared = entities.stream()
+                .flatMap(entity -> IndexDefinition.of(entity).stream()).collect(Collectors.toList());
+        declared.stream().filter(index -> existing.stream().noneMatch(index::matches))
+                .forEach(index -> drifts.add(new SchemaDrift(SchemaDrift.Kind.MISSING_INDEX, collection.name(),
+                        index.toString())));
+        existing.stream()
+                .filter(index -> index.getType() != IndexType.primary && index.getType() != IndexType.edge)
+                .filter(index -> declared.stream().noneMatch(definition -> definition.matches(index)))
+                .forEach(index -> drifts.add(new SchemaDrift(SchemaDrift.Kind.UNDECLARED_INDEX, collection.name(),
+                        index.getType() + " index " + index.getName() + " on " + index.getFields())));
+        return drifts;
+    }
+
+    private List<ArangoPersistentEntity<?>> schemaEntities() {
+        final String expressionPrefix = ParserContext.TEMPLATE_EXPRESSION.getExpressionPrefix();
+        final List<ArangoPersistentEntity<?>> entities = new ArrayList<>();
+        for (final ArangoPersistentEntity<?> entity : converter.getMappingContext().getPersistentEntities()) {
+            final Document document = entity.findAnnotation(Document.class);
+            final Edge edge = entity.findAnnotation(Edge.class);
+            final String collection = edge != null ? edge.value() : document != null ? document.value() : null;
+            if (collection != null && !collection.contains(expressionPrefix)) {
+                entities.add(entity);
+            }
+        }
+        return entities;
     }
 
-    private static void ensureMDPrefixedIndex(final CollectionOperations collection, final MDPrefixedIndex annotation) {
-        collection.ensureMDPrefixedIndex(Arrays.asList(annotation.fields()),
-                new MDPrefixedIndexOptions()
-                        .prefixFields(Arrays.asList(annotation.prefixFields()))
-                        .unique(annotation.unique())
-                        .fieldValueTypes(annotation.fieldValueTypes())
-                        .sparse(annotation.sparse())
-        );
+    /**
+     * Applies the given task to each value on a temporary pool of at most {@link #SCHEMA_BOOTSTRAP_PARALLELISM}
+     * threads.
+     *
+     * @return the results in the order of the values
+     */
+    private <V, R> List<R> inParallel(final Collection<V> values, final Function<V, R> task) {
+        if (values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(values.size(), SCHEMA_BOOTSTRAP_PARALLELISM));
+        try {
+            final List<CompletableFuture<R>> results = values.stream()
+                    .map(value -> CompletableFuture.supplyAsync(() -> task.apply(value), executor))
+                    .collect(Collectors.toList());
+            return results.stream().map(ArangoTemplate::await).collect(Collectors.toList());
+        } catch (final RuntimeException e) {
+            throw translateException(e);
+        } finally {
+            executor.shutdown();
+        }
     }
 
     private Optional<String> determineCollectionFromId(final Object id) {
@@ -253,7 +461,7 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
                 : Optional.empty();
     }
 
-    private String determineDocumentKeyFromId(final Object id) {
+    String determineDocumentKeyFromId(final Object id) {
         return MetadataUtils.determineDocumentKeyFromId(converter.convertId(id));
     }
 
@@ -299,14 +507,17 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
     public <T> ArangoCursor<T> query(final String query, final Map<String, Object> bindVars,
                                      final AqlQueryOptions options, final Class<T> entityClass) throws DataAccessException {
         try {
-            ArangoCursor<T> cursor = db().query(query, entityClass, bindVars == null ? null : prepareBindVars(bindVars), options);
-            return new ArangoExtCursor<>(cursor, entityClass, eventPublisher);
+            final ReferencePrefetch prefetch = ReferencePrefetch.create();
+            ArangoCursor<T> cursor = prefetch.execute(
+                    () -> db().query(query, entityClass, bindVars == null ? null : prepareBindVars(bindVars),
+                            withStreamTransaction(options, AqlQueryOptions::new)));
+            return new ArangoExtCursor<>(cursor, entityClass, eventPublisher, prefetch);
         } catch (final ArangoDBException e) {
             throw translateException(e);
         }
     }
 
-    private Map<String, Object> prepareBindVars(final Map<String, Object> bindVars) {
+    Map<String, Object> prepareBindVars(final Map<String, Object> bindVars) {
         final Map<String, Object> prepared = new HashMap<>(bindVars.size());
         for (final Entry<String, Object> entry : bindVars.entrySet()) {
             if (entry.getKey().startsWith("@") && entry.getValue() instanceof Class<?> clazz) {
@@ -327,11 +538,15 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
         potentiallyEmitBeforeDeleteEvent(values, entityClass);
 
+        final ArangoCollection collection = _collection(entityClass);
         MultiDocumentEntity<DocumentDeleteEntity<T>> result;
         try {
-            result = _collection(entityClass).deleteDocuments(toList(values), options, entityClass);
+            result = collection.deleteDocuments(toList(values),
+                    withStreamTransaction(options, DocumentDeleteOptions::new), entityClass);
         } catch (final ArangoDBException e) {
             throw translateException(e);
+        } finally {
+            evictCached(collection);
         }
 
         potentiallyEmitAfterDeleteEvent(values, entityClass, result);
@@ -347,6 +562,102 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
         return deleteAll(values, new DocumentDeleteOptions(), (Class) entityClass);
     }
 
+    @Override
+    public <T> void deleteAllEntities(final Iterable<? extends T> entities, final Class<T> entityClass)
+            throws DataAccessException {
+        final ArangoPersistentEntity<?> persistentEntity = converter.getMappingContext()
+                .getRequiredPersistentEntity(entityClass);
+        final int batchSize = writeBatchSize > 0 ? writeBatchSize : DEFAULT_BOUNDED_BATCH_SIZE;
+        final List<Object> ids = new ArrayList<>(Math.min(batchSize, 64));
+        final List<Map<String, Object>> docs = new ArrayList<>(Math.min(batchSize, 64));
+        final List<String> failedKeys = new ArrayList<>();
+        for (final T entity : entities) {
+            final Object id = persistentEntity.getIdentifierAccessor(entity).getRequiredIdentifier();
+            ids.add(id);
+            docs.add(removeManyDocument(persistentEntity, entity, id));
+            if (docs.size() == batchSize) {
+                removeMany(ids, docs, entityClass, failedKeys);
+                ids.clear();
+                docs.clear();
+            }
+        }
+        if (!docs.isEmpty()) {
+            removeMany(ids, docs, entityClass, failedKeys);
+        }
+        if (!failedKeys.isEmpty()) {
+            throw removeManyConflict(failedKeys);
+        }
+    }
+
+    /**
+     * @return the document removing the given entity with {@link #REMOVE_MANY_QUERY}, with the revision of entities
+     *         with a {@link Rev} property
+     */
+    Map<String, Object> removeManyDocument(final ArangoPersistentEntity<?> persistentEntity, final Object entity,
+                                           final Object id) {
+        final Map<String, Object> doc = new HashMap<>(4);
+        doc.put("_key", determineDocumentKeyFromId(id));
+        persistentEntity.getRevProperty()
+                .map(persistentEntity.getPropertyAccessor(entity)::getProperty)
+                .map(rev -> converter.convertIfNecessary(rev, String.class))
+                .ifPresent(rev -> doc.put("_rev", rev));
+        return doc;
+    }
+
+    static Map<String, Object> removeManyBindVars(final String collection, final List<Map<String, Object>> docs) {
+        final Map<String, Object> bindVars = new HashMap<>();
+        bindVars.put("@col", collection);
+        bindVars.put("docs", docs);
+        return bindVars;
+    }
+
+    static OptimisticLockingFailureException removeManyConflict(final List<String> failedKeys) {
+        return new OptimisticLockingFailureException("Documents were modified or deleted in the meantime: " + failedKeys);
+    }
+
+    /**
+     * Removes a batch of documents, the query skips documents with a different revision or no longer existing and
+     * returns the keys of the removed ones. The keys of the skipped documents are added to the given list.
+     */
+    private void removeMany(final List<Object> ids, final List<Map<String, Object>> docs, final Class<?> entityClass,
+                            final List<String> failedKeys) {
+        potentiallyEmitEvent(new BeforeDeleteEvent<>(List.copyOf(ids), entityClass));
+
+        final ArangoCollection collection = _collection(entityClass);
+        final Set<String> removedKeys = new HashSet<>();
+        try {
+            query(REMOVE_MANY_QUERY, removeManyBindVars(collection.name(), docs), String.class)
+                    .forEach(removedKeys::add);
+        } catch (final RuntimeException e) {
+            // the documents removed before the failure are unknown
+            evictCached(collection);
+            throw e;
+        }
+        removedMany(collection.db().name(), collection.name(), ids, docs, removedKeys, entityClass, failedKeys);
+    }
+
+    /**
+     * Evicts the documents removed by a batch of {@link #REMOVE_MANY_QUERY}, publishes the {@link AfterDeleteEvent} of
+     * the batch and adds the keys of the documents which were not removed to the given list.
+     */
+    void removedMany(final String database, final String collection, final List<Object> ids,
+                     final List<Map<String, Object>> docs, final Set<String> removedKeys, final Class<?> entityClass,
+                     final List<String> failedKeys) {
+        final List<Object> removedIds = new ArrayList<>(removedKeys.size());
+        for (int i = 0; i < docs.size(); i++) {
+            final String key = (String) docs.get(i).get("_key");
+            if (removedKeys.contains(key)) {
+                evictCached(database, collection, key);
+                removedIds.add(ids.get(i));
+            } else {
+                failedKeys.add(key);
+            }
+        }
+        if (!removedIds.isEmpty()) {
+            potentiallyEmitEvent(new AfterDeleteEvent<>(removedIds, entityClass));
+        }
+    }
+
     @Override
     public <T> MultiDocumentEntity<DocumentDeleteEntity<T>> deleteAllById(Iterable<?> ids, DocumentDeleteOptions options, Class<T> entityClass) throws DataAccessException {
         if (ids == null) {
@@ -374,12 +685,16 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
         potentiallyEmitEvent(new BeforeDeleteEvent<>(id, entityClass));
 
+        final ArangoCollection collection = _collection(entityClass, id);
+        final String key = determineDocumentKeyFromId(id);
         DocumentDeleteEntity<T> result;
         try {
-            result = _collection(entityClass, id).deleteDocument(determineDocumentKeyFromId(id), options, entityClass);
+            result = collection.deleteDocument(key, withStreamTransaction(options, DocumentDeleteOptions::new),
+                    entityClass);
         } catch (final ArangoDBException e) {
             throw translateException(e);
         }
+        evictCached(collection, key);
 
         potentiallyEmitEvent(new AfterDeleteEvent<>(id, entityClass));
         return result;
@@ -399,11 +714,15 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
         potentiallyEmitBeforeSaveEvent(values);
 
+        final ArangoCollection collection = _collection(entityClass);
         MultiDocumentEntity<DocumentUpdateEntity<T>> result;
         try {
-            result = _collection(entityClass).updateDocuments(toList(values), options, entityClass);
+            result = collection.updateDocuments(toList(values),
+                    withStreamTransaction(options, DocumentUpdateOptions::new), entityClass);
         } catch (final ArangoDBException e) {
             throw translateException(e);
+        } finally {
+            evictCached(collection);
         }
 
         updateDBFields(values, result);
@@ -426,12 +745,15 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
         potentiallyEmitEvent(new BeforeSaveEvent<>(value));
 
+        final ArangoCollection collection = _collection(value.getClass(), id);
+        final String key = determineDocumentKeyFromId(id);
         DocumentUpdateEntity<T> result;
         try {
-            result = _collection(value.getClass(), id).updateDocument(determineDocumentKeyFromId(id), value, options);
+            result = collection.updateDocument(key, value, withStreamTransaction(options, DocumentUpdateOptions::new));
         } catch (final ArangoDBException e) {
             throw translateException(e);
         }
+        evictCached(collection, key);
 
         updateDBFields(value, result);
         potentiallyEmitEvent(new AfterSaveEvent<>(value));
@@ -452,11 +774,15 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
         potentiallyEmitBeforeSaveEvent(values);
 
+        final ArangoCollection collection = _collection(entityClass);
         MultiDocumentEntity<DocumentUpdateEntity<T>> result;
         try {
-            result = _collection(entityClass).replaceDocuments(toList(values), options, entityClass);
+            result = collection.replaceDocuments(toList(values),
+                    withStreamTransaction(options, DocumentReplaceOptions::new), entityClass);
         } catch (final ArangoDBException e) {
             throw translateException(e);
+        } finally {
+            evictCached(collection);
         }
 
         updateDBFields(values, result);
@@ -478,12 +804,16 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
             throws DataAccessException {
         potentiallyEmitEvent(new BeforeSaveEvent<>(value));
 
+        final ArangoCollection collection = _collection(value.getClass(), id);
+        final String key = determineDocumentKeyFromId(id);
         DocumentUpdateEntity<T> result;
         try {
-            result = _collection(value.getClass(), id).replaceDocument(determineDocumentKeyFromId(id), value, options);
+            result = collection.replaceDocument(key, value,
+                    withStreamTransaction(options, DocumentReplaceOptions::new));
         } catch (final ArangoDBException e) {
             throw translateException(e);
         }
+        evictCached(collection, key);
 
         updateDBFields(value, result);
         potentiallyEmitEvent(new AfterSaveEvent<>(value));
@@ -499,7 +829,12 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
     public <T> Optional<T> find(final Object id, final Class<T> entityClass, final DocumentReadOptions options)
             throws DataAccessException {
         try {
-            T res = _collection(entityClass, id).getDocument(determineDocumentKeyFromId(id), entityClass, options);
+            final ArangoCollection collection = _collection(entityClass, id);
+            final String key = determineDocumentKeyFromId(id);
+            final DocumentReadOptions readOptions = withStreamTransaction(options, DocumentReadOptions::new);
+            final DocumentCache.Region region = cacheRegion(entityClass, readOptions);
+            T res = region != null ? findCached(region, collection, key, entityClass, readOptions)
+                    : collection.getDocument(key, entityClass, readOptions);
             if (res != null) {
                 potentiallyEmitEvent(new AfterLoadEvent<>(res));
             }
@@ -521,13 +856,29 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
         return query(query, bindVars, null, entityClass).asListRemaining();
     }
 
+    @Override
+    public <T> Stream<T> stream(final Class<T> entityClass, final AqlQueryOptions options) throws DataAccessException {
+        final AqlQueryOptions streamOptions = options != null ? options.clone() : new AqlQueryOptions();
+        if (streamOptions.getStream() == null) {
+            streamOptions.stream(true);
+        }
+        final String query = "FOR entity IN @@col RETURN entity";
+        final Map<String, Object> bindVars = Collections.singletonMap("@col", entityClass);
+        return query(query, bindVars, streamOptions, entityClass).stream();
+    }
+
     @Override
     public <T> Iterable<T> findAll(final Iterable<?> ids, final Class<T> entityClass)
             throws DataAccessException {
         try {
             final Collection<String> keys = new ArrayList<>();
             ids.forEach(id -> keys.add(determineDocumentKeyFromId(id)));
-            Collection<T> docs = _collection(entityClass).getDocuments(keys, entityClass).getDocuments();
+            final ArangoCollection collection = _collection(entityClass);
+            final DocumentReadOptions options = withStreamTransaction(new DocumentReadOptions(),
+                    DocumentReadOptions::new);
+            final DocumentCache.Region region = cacheRegion(entityClass, options);
+            Collection<T> docs = region != null ? findAllCached(region, collection, keys, entityClass, options)
+                    : collection.getDocuments(keys, entityClass, options).getDocuments();
             for (T doc : docs) {
                 if (doc != null) {
                     potentiallyEmitEvent(new AfterLoadEvent<>(doc));
@@ -539,17 +890,234 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
         }
     }
 
+    /**
+     * @return the cache region of the given entity, {@code null} if it is not cached or the read must not be served
+     *         from the cache, i.e. within a stream transaction or with a precondition on the revision
+     */
+    private DocumentCache.Region cacheRegion(final Class<?> entityClass, final DocumentReadOptions options) {
+        if (options != null && (options.getStreamTransactionId() != null || options.getIfMatch() != null
+                || options.getIfNoneMatch() != null)) {
+            return null;
+        }
+        return documentCache.region(entityClass);
+    }
+
+    private <T> T findCached(final DocumentCache.Region region, final ArangoCollection collection, final String key,
+                             final Class<T> entityClass, final DocumentReadOptions options) {
+        final String database = collection.db().name();
+        final long generation = documentCache.generation();
+        final DocumentCache.Entry cached = region.get(database, collection.name(), key);
+        if (cached != null && !cached.isExpired()) {
+            return converter.read(entityClass, cached.getDocument());
+        }
+        final JsonNode document;
+        if (cached != null && region.isRevalidate() && cached.getRev() != null) {
+            document = revalidate(collection, key, cached);
+        } else {
+            document = collection.getDocument(key, JsonNode.class,
+                    options != null ? options : new DocumentReadOptions());
+        }
+        if (document == null) {
+            region.remove(database, collection.name(), key);
+            return null;
+        }
+        region.put(database, collection.name(), key, document, generation);
+        return converter.read(entityClass, document);
+    }
+
+    /**
+     * Reads the given document unless it still has the revision of the cached one, in which case the server responds
+     * with {@code 304 Not Modified} and no body.
+     *
+     * @return the current document, the cached one if it did not change, or {@code null} if it was deleted
+     */
+    private JsonNode revalidate(final ArangoCollection collection, final String key, final DocumentCache.Entry cached) {
+        final Request<Void> request = Request.<Void>builder()
+                .db(collection.db().name())
+                .method(Request.Method.GET)
+                .path("/_api/document/" + collection.name() + "/" + URLEncoder.encode(key, StandardCharsets.UTF_8))
+                .header("If-None-Match", cached.getRev())
+                .build();
+        try {
+            return arango.execute(request, JsonNode.class).getBody();
+        } catch (final ArangoDBException e) {
+            final Integer responseCode = e.getResponseCode();
+            if (responseCode != null && responseCode == 304) {
+                return cached.getDocument();
+            }
+            if (responseCode != null && responseCode == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Serves the cached documents and reads the missing or expired ones with a single request. Expired documents are
+     * read again without revalidation, as that would cost a request per document.
+     */
+    private <T> List<T> findAllCached(final DocumentCache.Region region, final ArangoCollection collection,
+                                      final Collection<String> keys, final Class<T> entityClass,
+                                      final DocumentReadOptions options) {
+        final String database = collection.db().name();
+        final long generation = documentCache.generation();
+        final Map<String, JsonNode> documents = new HashMap<>(keys.size());
+        final Set<String> missing = new LinkedHashSet<>();
+        for (final String key : keys) {
+            final DocumentCache.Entry cached = region.get(database, collection.name(), key);
+            if (cached != null && !cached.isExpired()) {
+                documents.put(key, cached.getDocument());
+            } else {
+                missing.add(key);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (final JsonNode document : collection.getDocuments(missing, JsonNode.class, options).getDocuments()) {
+                final String key = document.get("_key").asText();
+                documents.put(key, document);
+                region.put(database, collection.name(), key, document, generation);
+            }
+        }
+        final List<T> result = new ArrayList<>(keys.size());
+        for (final String key : keys) {
+            final JsonNode document = documents.get(key);
+            if (document != null) {
+                result.add(converter.read(entityClass, document));
+            }
+        }
+        return result;
+    }
+
+    private void evictCached(final ArangoCollection collection, final String key) {
+        evictCached(collection.db().name(), collection.name(), key);
+    }
+
+    private void evictCached(final ArangoCollection collection) {
+        evictCached(collection.db().name(), collection.name(), null);
+    }
+
+    /**
+     * Evicts the cached document with the given key, or all cached documents of the collection if the key is
+     * {@code null}. The names are resolved by the caller, as {@link ArangoAsyncTemplate} evicts on the threads of the
+     * driver, where the database of the caller cannot be resolved.
+     * <p>
+     * Writes within a stream transaction only become visible to other readers with the commit, so a concurrent read
+     * outside of the transaction might cache the document as it was before. The eviction is therefore repeated once
+     * the transaction completed.
+     */
+    void evictCached(final String database, final String collection, final String key) {
+        if (!documentCache.isCached(collection)) {
+            return;
+        }
+        if (key != null) {
+            documentCache.evict(database, collection, key);
+        } else {
+            documentCache.evictCollection(database, collection);
+        }
+        if (TransactionSynchronizationManager.getResource(this) != null
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionEvictions evictions = (TransactionEvictions) TransactionSynchronizationManager
+                    .getResource(transactionEvictionsKey);
+            if (evictions == null) {
+                evictions = new TransactionEvictions();
+                TransactionSynchronizationManager.bindResource(transactionEvictionsKey, evictions);
+                TransactionSynchronizationManager.registerSynchronization(evictions);
+            }
+            evictions.add(database, collection, key);
+        }
+    }
+
+    /**
+     * @return the key of the given entity, {@code null} if the entity or its id is {@code null}
+     */
+    String determineDocumentKey(final Object entity) {
+        final Object id = entity != null ? converter.getMappingContext().getRequiredPersistentEntity(entity.getClass())
+                .getIdentifierAccessor(entity).getIdentifier() : null;
+        return id != null ? determineDocumentKeyFromId(id) : null;
+    }
+
+    /**
+     * Evicts the cached documents of the collection of the given entity (see {@link EntityCache}), e.g. after the
+     * collection was written by an AQL query.
+     */
+    public void evictCache(final Class<?> entityClass) throws DataAccessException {
+        cacheEviction(entityClass).run();
+    }
+
+    /**
+     * Resolves the database and collection of the given entity on the calling thread and returns the eviction of
+     * their cached documents (see {@link EntityCache}), which can run on any thread, e.g. once an asynchronous query
+     * completed.
+     */
+    public Runnable cacheEviction(final Class<?> entityClass) throws DataAccessException {
+        final ArangoCollection collection = _collection(entityClass);
+        final String database = collection.db().name();
+        final String name = collection.name();
+        return () -> evictCached(database, name, null);
+    }
+
+    /**
+     * The evictions of the writes within a stream transaction, repeated once the transaction completed. Bound to the
+     * transaction while it is active, so that a single synchronization is registered per transaction.
+     */
+    private final class TransactionEvictions implements TransactionSynchronization {
+
+        private final Map<String, Map<String, Set<String>>> keys = new HashMap<>();
+        private final Map<String, Set<String>> collections = new HashMap<>();
+
+        private void add(final String database, final String collection, final String key) {
+            if (key == null) {
+                collections.computeIfAbsent(database, name -> new HashSet<>()).add(collection);
+            } else {
+                keys.computeIfAbsent(database, name -> new HashMap<>())
+                        .computeIfAbsent(collection, name -> new HashSet<>()).add(key);
+            }
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(transactionEvictionsKey);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(transactionEvictionsKey, this);
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(transactionEvictionsKey);
+            collections.forEach((database, names) -> names
+                    .forEach(collection -> documentCache.evictCollection(database, collection)));
+            keys.forEach((database, names) -> names.forEach((collection, evicted) -> {
+                if (!collections.getOrDefault(database, Collections.emptySet()).contains(collection)) {
+                    evicted.forEach(key -> documentCache.evict(database, collection, key));
+                }
+            }));
+        }
+
+    }
+
     @Override
     public <T> MultiDocumentEntity<DocumentCreateEntity<T>> insertAll(
             final Iterable<? extends T> values, final DocumentCreateOptions options, final Class<T> entityClass) throws DataAccessException {
 
+        final int batchSize = writeBatchSize;
+        if (batchSize > 0) {
+            return insertAllInBatches(values, options, entityClass, batchSize);
+        }
+
         potentiallyEmitBeforeSaveEvent(values);
 
+        final ArangoCollection collection = _collection(entityClass);
         MultiDocumentEntity<DocumentCreateEntity<T>> result;
         try {
-            result = _collection(entityClass).insertDocuments(toList(values), options, entityClass);
+            result = collection.insertDocuments(toList(values),
+                    withStreamTransaction(options, DocumentCreateOptions::new), entityClass);
         } catch (final ArangoDBException e) {
             throw translateException(e);
+        } finally {
+            evictCached(collection);
         }
 
         updateDBFields(values, result);
@@ -557,22 +1125,133 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
         return result;
     }
 
+    /**
+     * Returned documents are deserialized as {@link JsonNode} on the threads of the driver and converted on the calling
+     * thread, where eagerly loaded references may be resolved with blocking requests.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private <T> MultiDocumentEntity<DocumentCreateEntity<T>> insertAllInBatches(
+            final Iterable<? extends T> values, final DocumentCreateOptions options, final Class<T> entityClass,
+            final int batchSize) {
+
+        final ArangoCollection collection = _collection(entityClass);
+        final ArangoCollectionAsync asyncCollection = arango.async().db(collection.db().name()).collection(collection.name());
+        final DocumentCreateOptions batchOptions = withStreamTransaction(options, DocumentCreateOptions::new);
+        final Class<T> resultType = (Class) JsonNode.class;
+
+        final List<DocumentCreateEntity<T>> documents = new ArrayList<>();
+        final List<ErrorEntity> errors = new ArrayList<>();
+        final List<Object> documentsAndErrors = new ArrayList<>();
+        try {
+            inBatches(values, batchSize, batchOptions != null && batchOptions.getStreamTransactionId() != null,
+                    batch -> {
+                        potentiallyEmitBeforeSaveEvent(batch);
+                        return asyncCollection.insertDocuments(batch, batchOptions, resultType);
+                    },
+                    (batch, result) -> {
+                        for (final DocumentCreateEntity document : result.getDocuments()) {
+                            document.setNew(readReturned(document.getNew(), entityClass));
+                            document.setOld(readReturned(document.getOld(), entityClass));
+                        }
+                        updateDBFields(batch, result);
+                        potentiallyEmitAfterSaveEvent(batch, result);
+                        documents.addAll(result.getDocuments());
+                        errors.addAll(result.getErrors());
+                        documentsAndErrors.addAll(result.getDocumentsAndErrors());
+                    });
+        } finally {
+            evictCached(collection);
+        }
+
+        final MultiDocumentEntity<DocumentCreateEntity<T>> result = new MultiDocumentEntity<>();
+        result.setDocuments(documents);
+        result.setErrors(errors);
+        result.setDocumentsAndErrors(documentsAndErrors);
+        return result;
+    }
+
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <T> MultiDocumentEntity<DocumentCreateEntity<?>> insertAll(Iterable<? extends T> values, Class<T> entityClass) throws DataAccessException {
         return insertAll(values, new DocumentCreateOptions(), (Class) entityClass);
     }
 
+    @Override
+    public <T> DocumentImportEntity importAll(final Iterable<? extends T> values, final DocumentImportOptions options,
+                                              final Class<T> entityClass) throws DataAccessException {
+        return importAll(values, options, false, entityClass);
+    }
+
+    @Override
+    public <T> DocumentImportEntity importAll(final Iterable<? extends T> values, final DocumentImportOptions options,
+                                              final boolean emitEvents, final Class<T> entityClass) throws DataAccessException {
+        final ArangoCollection collection = _collection(entityClass);
+        final ArangoCollectionAsync asyncCollection = arango.async().db(collection.db().name()).collection(collection.name());
+        final int batchSize = writeBatchSize > 0 ? writeBatchSize : DEFAULT_BOUNDED_BATCH_SIZE;
+
+        final DocumentImportEntity result = new DocumentImportEntity();
+        result.setCreated(0);
+        result.setErrors(0);
+        result.setEmpty(0);
+        result.setUpdated(0);
+        result.setIgnored(0);
+        final List<String> details = new ArrayList<>();
+        try {
+            inBatches(values, batchSize, false,
+                    batch -> {
+                        if (emitEvents) {
+                            potentiallyEmitBeforeSaveEvent(batch);
+                        }
+                        return asyncCollection.importDocuments(batch, options);
+                    },
+                    (batch, imported) -> {
+                        if (emitEvents && count(imported.getErrors()) == 0 && count(imported.getIgnored()) == 0) {
+                            batch.forEach(value -> potentiallyEmitEvent(new AfterSaveEvent<>(value)));
+                        }
+                        result.setCreated(result.getCreated() + count(imported.getCreated()));
+                        result.setErrors(result.getErrors() + count(imported.getErrors()));
+                        result.setEmpty(result.getEmpty() + count(imported.getEmpty()));
+                        result.setUpdated(result.getUpdated() + count(imported.getUpdated()));
+                        result.setIgnored(result.getIgnored() + count(imported.getIgnored()));
+                        if (imported.getDetails() != null) {
+                            details.addAll(imported.getDetails());
+                        }
+                    });
+        } finally {
+            evictCached(collection);
+        }
+        result.setDetails(details);
+        return result;
+    }
+
+    @Override
+    public <T> DocumentImportEntity importAll(final Stream<? extends T> values, final DocumentImportOptions options,
+                                              final boolean emitEvents, final Class<T> entityClass) throws DataAccessException {
+        final Iterable<T> iterable = () -> values.<T>map(value -> value).iterator();
+        return importAll(iterable, options, emitEvents, entityClass);
+    }
+
+    private static int count(final Integer count) {
+        return count != null ? count : 0;
+    }
+
     @Override
     public <T> DocumentCreateEntity<T> insert(final T value, final DocumentCreateOptions options) throws DataAccessException {
         potentiallyEmitEvent(new BeforeSaveEvent<>(value));
 
+        final ArangoCollection collection = _collection(value.getClass());
         DocumentCreateEntity<T> result;
         try {
-            result = _collection(value.getClass()).insertDocument(value, options);
+            result = collection.insertDocument(value, withStreamTransaction(options, DocumentCreateOptions::new));
         } catch (final ArangoDBException e) {
             throw translateException(e);
         }
+        if (result.getKey() != null) {
+            evictCached(collection, result.getKey());
+        } else {
+            // silent inserts might have overwritten any document
+            evictCached(collection);
+        }
 
         updateDBFields(value, result);
         potentiallyEmitEvent(new AfterSaveEvent<>(value));
@@ -587,12 +1266,12 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
     @Override
     public <T> T repsert(final T value) throws DataAccessException {
         @SuppressWarnings("unchecked") final Class<T> clazz = (Class<T>) value.getClass();
-        final String collectionName = _collection(clazz).name();
+        final ArangoCollection collection = _collection(clazz);
 
         potentiallyEmitEvent(new BeforeSaveEvent<>(value));
 
         Map<String, Object> bindVars = new HashMap<>();
-        bindVars.put("@col", collectionName);
+        bindVars.put("@col", collection.name());
         bindVars.put("doc", value);
 
         final T result;
@@ -606,6 +1285,7 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
         } catch (final ArangoDBException e) {
             throw translateException(e);
         }
+        evictCached(collection, determineDocumentKey(result));
 
         updateDBFieldsFromObject(value, result);
         potentiallyEmitEvent(new AfterSaveEvent<>(result));
@@ -615,16 +1295,26 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public <T> Iterable<T> repsertAll(final Iterable<T> values, final Class<? super T> entityClass) throws DataAccessException {
-        if (!values.iterator().hasNext()) {
+        // values are iterated only once, so that one-shot iterables are supported
+        final Iterator<T> iterator = values.iterator();
+        if (!iterator.hasNext()) {
             return Collections.emptyList();
         }
 
-        final String collectionName = _collection(entityClass).name();
-        potentiallyEmitBeforeSaveEvent(values);
+        final int batchSize = writeBatchSize;
+        if (batchSize > 0) {
+            return repsertAllInBatches(() -> iterator, entityClass, batchSize);
+        }
+
+        final List<T> documents = new ArrayList<>();
+        iterator.forEachRemaining(documents::add);
+        final ArangoCollection collection = _collection(entityClass);
+        final String collectionName = collection.name();
+        potentiallyEmitBeforeSaveEvent(documents);
 
         Map<String, Object> bindVars = new HashMap<>();
         bindVars.put("@col", collectionName);
-        bindVars.put("docs", values);
+        bindVars.put("docs", documents);
 
         List result;
         try {
@@ -635,13 +1325,106 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
             ).asListRemaining();
         } catch (final ArangoDBException e) {
             throw translateException(e);
+        } finally {
+            evictCached(collection);
         }
 
-        updateDBFieldsFromObjects(values, result);
+        updateDBFieldsFromObjects(documents, result);
         result.forEach(it -> potentiallyEmitEvent(new AfterSaveEvent<>(it)));
         return result;
     }
 
+    /**
+     * Returned documents are deserialized as {@link JsonNode} on the threads of the driver and converted on the calling
+     * thread, where eagerly loaded references may be resolved with blocking requests.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private <T> Iterable<T> repsertAllInBatches(final Iterable<T> values, final Class<? super T> entityClass,
+                                                final int batchSize) {
+        final ArangoCollection collection = _collection(entityClass);
+        final ArangoDatabaseAsync asyncDb = arango.async().db(collection.db().name());
+        final AqlQueryOptions options = withStreamTransaction(new AqlQueryOptions(), AqlQueryOptions::new);
+
+        final List result = new ArrayList<>();
+        try {
+            inBatches(values, batchSize, options.getStreamTransactionId() != null,
+                    batch -> {
+                        potentiallyEmitBeforeSaveEvent(batch);
+                        final Map<String, Object> bindVars = new HashMap<>();
+                        bindVars.put("@col", collection.name());
+                        bindVars.put("docs", batch);
+                        return asyncDb.query(REPSERT_MANY_QUERY, JsonNode.class, bindVars, options)
+                                .thenCompose(cursor -> collect(cursor, new ArrayList<>()));
+                    },
+                    (batch, returned) -> {
+                        final List<Object> documents = new ArrayList<>(returned.size());
+                        returned.forEach(it -> documents.add(readReturned(it, entityClass)));
+                        documents.forEach(it -> potentiallyEmitEvent(new AfterLoadEvent<>(it)));
+                        updateDBFieldsFromObjects(batch, documents);
+                        documents.forEach(it -> potentiallyEmitEvent(new AfterSaveEvent<>(it)));
+                        result.addAll(documents);
+                    });
+        } finally {
+            evictCached(collection);
+        }
+        return result;
+    }
+
+    private Object readReturned(final Object document, final Class<?> entityClass) {
+        return document instanceof JsonNode node ? converter.read(entityClass, node) : document;
+    }
+
+    private static <T> CompletableFuture<List<T>> collect(final ArangoCursorAsync<T> cursor, final List<T> results) {
+        results.addAll(cursor.getResult());
+        if (Boolean.TRUE.equals(cursor.hasMore())) {
+            return cursor.nextBatch().thenCompose(next -> collect(next, results));
+        }
+        return CompletableFuture.completedFuture(results);
+    }
+
+    /**
+     * Reads the given values lazily in batches and sends each batch with the given request, keeping at most
+     * {@link #maxConcurrentWriteBatches} requests in flight. Completed batches are passed to the given callback on the
+     * calling thread, in the order of the values.
+     */
+    private <V, R> void inBatches(final Iterable<? extends V> values, final int batchSize, final boolean inTransaction,
+                                  final Function<List<V>, CompletableFuture<R>> request,
+                                  final BiConsumer<List<V>, R> onCompletion) {
+        // stream transactions do not support concurrent requests
+        final int concurrency = inTransaction ? 1 : maxConcurrentWriteBatches;
+        final Deque<List<V>> batches = new ArrayDeque<>();
+        final Deque<CompletableFuture<R>> responses = new ArrayDeque<>();
+        final Iterator<? extends V> iterator = values.iterator();
+        try {
+            while (iterator.hasNext()) {
+                final List<V> batch = new ArrayList<>(batchSize);
+                while (iterator.hasNext() && batch.size() < batchSize) {
+                    batch.add(iterator.next());
+                }
+                if (responses.size() >= concurrency) {
+                    onCompletion.accept(batches.poll(), await(responses.poll()));
+                }
+                batches.add(batch);
+                responses.add(request.apply(batch));
+            }
+            while (!responses.isEmpty()) {
+                onCompletion.accept(batches.poll(), await(responses.poll()));
+            }
+        } catch (final RuntimeException e) {
+            // do not leave requests running once the operation failed
+            responses.forEach(response -> response.handle((r, t) -> null).join());
+            throw translateException(e);
+        }
+    }
+
+    private static <R> R await(final CompletableFuture<R> response) {
+        try {
+            return response.join();
+        } catch (final CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
     private void updateDBFieldsFromObjects(final Iterable<?> values, final Iterable<?> res) {
         final Iterator<?> valueIterator = values.iterator();
         final Iterator<?> resIterator = res.iterator();
@@ -650,7 +1433,7 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
         }
     }
 
-    private void updateDBFieldsFromObject(final Object toModify, final Object toRead) {
+    void updateDBFieldsFromObject(final Object toModify, final Object toRead) {
         final ArangoPersistentEntity<?> entityToRead = converter.getMappingContext().getRequiredPersistentEntity(toRead.getClass());
         final PersistentPropertyAccessor<?> accessorToRead = entityToRead.getPropertyAccessor(toRead);
         final ArangoPersistentProperty idPropertyToRead = entityToRead.getIdProperty();
@@ -685,7 +1468,7 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
         }
     }
 
-    private <T> void updateDBFields(final Iterable<T> values, final MultiDocumentEntity<? extends DocumentEntity> res) {
+    <T> void updateDBFields(final Iterable<T> values, final MultiDocumentEntity<? extends DocumentEntity> res) {
         final Iterator<T> valueIterator = values.iterator();
         if (res.getErrors().isEmpty()) {
             final Iterator<? extends DocumentEntity> documentIterator = res.getDocuments().iterator();
@@ -704,7 +1487,7 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
         }
     }
 
-    private void updateDBFields(final Object value, final DocumentEntity documentEntity) {
+    void updateDBFields(final Object value, final DocumentEntity documentEntity) {
         final ArangoPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(value.getClass());
         final PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(value);
         final ArangoPersistentProperty idProperty = entity.getIdProperty();
@@ -720,7 +1503,8 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
     @Override
     public boolean exists(final Object id, final Class<?> entityClass) throws DataAccessException {
         try {
-            return _collection(entityClass).documentExists(determineDocumentKeyFromId(id));
+            return _collection(entityClass).documentExists(determineDocumentKeyFromId(id),
+                    withStreamTransaction(new DocumentExistsOptions(), DocumentExistsOptions::new));
         } catch (final ArangoDBException e) {
             throw translateException(e);
         }
@@ -735,8 +1519,8 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
             throw translateException(e);
         }
         databaseCache.remove(db.name());
-        collectionCache.keySet().stream().filter(key -> key.getDb().equals(db.name()))
-                .forEach(collectionCache::remove);
+        collectionCache.removeIf(key -> key.getDb().equals(db.name()));
+        documentCache.evictDatabase(db.name());
     }
 
     @Override
@@ -756,7 +1540,8 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
     }
 
     private CollectionOperations collection(final ArangoCollection collection) {
-        return new DefaultCollectionOperations(collection, collectionCache, exceptionTranslator);
+        return new DefaultCollectionOperations(collection, collectionCache, documentCache, exceptionTranslator,
+                this::streamTransactionId);
     }
 
     @Override
@@ -786,20 +1571,20 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
         eventPublisher = applicationContext;
     }
 
-    private void potentiallyEmitEvent(final ArangoMappingEvent<?> event) {
+    void potentiallyEmitEvent(final ArangoMappingEvent<?> event) {
         if (eventPublisher != null) {
             eventPublisher.publishEvent(event);
         }
     }
 
-    private void potentiallyEmitBeforeSaveEvent(final Iterable<?> values) {
+    void potentiallyEmitBeforeSaveEvent(final Iterable<?> values) {
         for (final Object value : values) {
             potentiallyEmitEvent(new BeforeSaveEvent<>(value));
         }
     }
 
-    private void potentiallyEmitAfterSaveEvent(final Iterable<?> values,
-                                               final MultiDocumentEntity<? extends DocumentEntity> result) {
+    void potentiallyEmitAfterSaveEvent(final Iterable<?> values,
+                                       final MultiDocumentEntity<? extends DocumentEntity> result) {
 
         final Iterator<?> valueIterator = values.iterator();
         final Iterator<?> documentIterator = result.getDocumentsAndErrors().iterator();
@@ -819,7 +1604,7 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
         }
     }
 
-    private void potentiallyEmitAfterDeleteEvent(final Iterable<?> values, final Class<?> entityClass,
+    void potentiallyEmitAfterDeleteEvent(final Iterable<?> values, final Class<?> entityClass,
                                                  final MultiDocumentEntity<? extends DocumentEntity> result) {
 
         final Iterator<?> valueIterator = values.iterator();
@@ -22,11 +22,15 @@ package com.arangodb.springframework.core.template;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import com.arangodb.model.*;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 import com.arangodb.ArangoCollection;
 import com.arangodb.ArangoDBException;
@@ -42,15 +46,48 @@ import com.arangodb.springframework.core.CollectionOperations;
 public class DefaultCollectionOperations implements CollectionOperations {
 
 	private final ArangoCollection collection;
-	private final Map<CollectionCacheKey, CollectionCacheValue> collectionCache;
+	private final Consumer<CollectionCacheKey> collectionCacheEviction;
+	@Nullable
+	private final DocumentCache documentCache;
 	private final PersistenceExceptionTranslator exceptionTranslator;
+	private final Supplier<String> streamTransactionId;
 
+	/**
+	 * @deprecated {@link ArangoTemplate} no longer caches collection handles in a map. Operations created with this
+	 *             constructor do not evict the entities cached by the template (see
+	 *             {@link com.arangodb.springframework.annotation.EntityCache}) on {@link #truncate()} and
+	 *             {@link #drop()}, use {@link ArangoTemplate#collection(Class)} instead.
+	 */
+	@Deprecated
 	protected DefaultCollectionOperations(final ArangoCollection collection,
 		final Map<CollectionCacheKey, CollectionCacheValue> collectionCache,
 		final PersistenceExceptionTranslator exceptionTranslator) {
+		this(collection, collectionCache::remove, null, exceptionTranslator, () -> null);
+	}
+
+	/**
+	 * @param documentCache
+	 *            the cache of the template, the cached documents of the collection are evicted by
+	 *            {@link #truncate()} and {@link #drop()}
+	 * @param streamTransactionId
+	 *            supplies the id of the stream transaction {@link #truncate()} and {@link #count()} take part in, may
+	 *            supply null
+	 */
+	protected DefaultCollectionOperations(final ArangoCollection collection,
+		final HandleCache<CollectionCacheKey, CollectionCacheValue> collectionCache, final DocumentCache documentCache,
+		final PersistenceExceptionTranslator exceptionTranslator, final Supplier<String> streamTransactionId) {
+		this(collection, collectionCache::remove, documentCache, exceptionTranslator, streamTransactionId);
+		Assert.notNull(documentCache, "DocumentCache must not be null!");
+	}
+
+	private DefaultCollectionOperations(final ArangoCollection collection,
+		final Consumer<CollectionCacheKey> collectionCacheEviction, @Nullable final DocumentCache documentCache,
+		final PersistenceExceptionTranslator exceptionTranslator, final Supplier<String> streamTransactionId) {
 		this.collection = collection;
-		this.collectionCache = collectionCache;
+		this.collectionCacheEviction = collectionCacheEviction;
+		this.documentCache = documentCache;
 		this.exceptionTranslator = exceptionTranslator;
+		this.streamTransactionId = streamTransactionId;
 	}
 
 	@Override
@@ -60,27 +97,38 @@ public class DefaultCollectionOperations implements CollectionOperations {
 
 	@Override
 	public void drop() throws DataAccessException {
-		collectionCache.remove(new CollectionCacheKey(collection.db().name(), collection.name()));
+		collectionCacheEviction.accept(new CollectionCacheKey(collection.db().name(), collection.name()));
 		try {
 			collection.drop();
 		} catch (final ArangoDBException e) {
 			throw translateException(e);
+		} finally {
+			evictCachedDocuments();
 		}
 	}
 
 	@Override
 	public void truncate() throws DataAccessException {
 		try {
-			collection.truncate();
+			collection.truncate(new CollectionTruncateOptions().streamTransactionId(streamTransactionId.get()));
 		} catch (final ArangoDBException e) {
 			throw translateException(e);
+		} finally {
+			evictCachedDocuments();
+		}
+	}
+
+	private void evictCachedDocuments() {
+		if (documentCache != null) {
+			documentCache.evictCollection(collection.db().name(), collection.name());
 		}
 	}
 
 	@Override
 	public long count() throws DataAccessException {
 		try {
-			final Long count = collection.count().getCount();
+			final Long count = collection.count(new CollectionCountOptions().streamTransactionId(streamTransactionId.get()))
+					.getCount();
 			return count != null ? count : -1L;
 		} catch (final ArangoDBException e) {
 			throw translateException(e);
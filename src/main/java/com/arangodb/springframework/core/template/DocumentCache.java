@@ -0,0 +1,256 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.core.template;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import com.arangodb.springframework.annotation.EntityCache;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Second-level cache of the documents read by {@link ArangoTemplate}, for the entities annotated with
+ * {@link EntityCache}.
+ * <p>
+ * The documents are kept as {@link JsonNode} trees and converted with every hit, so that callers never share entity
+ * instances. Every entity has its own region, bounded by the ttl and the maximum size of its annotation. The entries
+ * of all regions are keyed by database, collection and document key, so that a write invalidates the document for
+ * every entity reading it.
+ * <p>
+ * Every invalidation increments a generation. Documents read before an invalidation are not kept, as they might have
+ * been read before the write.
+ * <p>
+ * Only the collections of cached entities are invalidated (see {@link #register(Class, String)}), so that writes to
+ * other collections cost nothing.
+ */
+class DocumentCache {
+
+	private final Map<Class<?>, Optional<Region>> regions = new ConcurrentHashMap<>();
+	private final Set<String> collections = ConcurrentHashMap.newKeySet();
+	private final AtomicLong generation = new AtomicLong();
+	private volatile boolean active;
+
+	/**
+	 * @return the region of the given entity, {@code null} if it is not annotated with {@link EntityCache}
+	 */
+	Region region(final Class<?> entityClass) {
+		return regions.computeIfAbsent(entityClass, type -> {
+			final Optional<Region> region = Optional
+					.ofNullable(AnnotatedElementUtils.findMergedAnnotation(type, EntityCache.class))
+					.map(Region::new);
+			if (region.isPresent()) {
+				active = true;
+			}
+			return region;
+		}).orElse(null);
+	}
+
+	/**
+	 * Registers the collection of the given entity if the entity is cached. Called before the first read or write of
+	 * the entity in the collection, so that a write racing with the first read either happens before the read or
+	 * invalidates the collection.
+	 */
+	void register(final Class<?> entityClass, final String collection) {
+		if (region(entityClass) != null) {
+			collections.add(collection);
+		}
+	}
+
+	/**
+	 * @return whether documents of the given collection might be cached in any database
+	 */
+	boolean isCached(final String collection) {
+		return collections.contains(collection);
+	}
+
+	/**
+	 * @return the current generation, to be passed to {@link Region#put(String, String, String, JsonNode, long)}
+	 *         for documents read afterwards
+	 */
+	long generation() {
+		return generation.get();
+	}
+
+	void evict(final String database, final String collection, final String key) {
+		if (isCached(collection)) {
+			evictIf(id(database, collection, key), true);
+		}
+	}
+
+	void evictCollection(final String database, final String collection) {
+		if (isCached(collection)) {
+			evictIf(id(database, collection, ""), false);
+		}
+	}
+
+	void evictDatabase(final String database) {
+		if (active) {
+			evictIf(database + "/", false);
+		}
+	}
+
+	private void evictIf(final String id, final boolean exact) {
+		// incremented before removing, see Region#put
+		generation.incrementAndGet();
+		for (final Optional<Region> region : regions.values()) {
+			region.ifPresent(r -> {
+				if (exact) {
+					r.entries.remove(id);
+				} else {
+					r.entries.keySet().removeIf(candidate -> candidate.startsWith(id));
+				}
+			});
+		}
+	}
+
+	private static String id(final String database, final String collection, final String key) {
+		return database + "/" + collection + "/" + key;
+	}
+
+	final class Region {
+
+		private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+		private final long ttl;
+		private final int maximumSize;
+		private final boolean revalidate;
+
+		private Region(final EntityCache annotation) {
+			ttl = TimeUnit.SECONDS.toNanos(annotation.ttl());
+			maximumSize = annotation.maximumSize();
+			revalidate = annotation.revalidate();
+		}
+
+		/**
+		 * @return whether expired documents are revalidated by their revision
+		 */
+		boolean isRevalidate() {
+			return revalidate;
+		}
+
+		/**
+		 * @return the cached document, which might be expired, or {@code null}
+		 */
+		Entry get(final String database, final String collection, final String key) {
+			final Entry entry = entries.get(id(database, collection, key));
+			if (entry != null) {
+				entry.accessed = System.nanoTime();
+			}
+			return entry;
+		}
+
+		/**
+		 * Caches the given document, unless an invalidation happened since the given generation.
+		 */
+		void put(
+			final String database,
+			final String collection,
+			final String key,
+			final JsonNode document,
+			final long generation) {
+
+			if (ttl <= 0 || maximumSize <= 0 || generation != DocumentCache.this.generation.get()) {
+				return;
+			}
+			final String id = id(database, collection, key);
+			final Entry entry = new Entry(document, System.nanoTime() + ttl);
+			entries.put(id, entry);
+			// an invalidation racing with the put increments the generation before removing, so either it removes
+			// the entry or the entry is removed here
+			if (generation != DocumentCache.this.generation.get()) {
+				entries.remove(id, entry);
+			} else if (entries.size() > maximumSize) {
+				evict();
+			}
+		}
+
+		void remove(final String database, final String collection, final String key) {
+			entries.remove(id(database, collection, key));
+		}
+
+		private synchronized void evict() {
+			if (entries.size() <= maximumSize) {
+				// already swept by a concurrent put
+				return;
+			}
+			final long now = System.nanoTime();
+			final List<Map.Entry<String, Entry>> candidates = new ArrayList<>(entries.size());
+			for (final Map.Entry<String, Entry> candidate : entries.entrySet()) {
+				if (candidate.getValue().isExpired(now) && !revalidate) {
+					entries.remove(candidate.getKey(), candidate.getValue());
+				} else {
+					candidates.add(candidate);
+				}
+			}
+			final int target = maximumSize - maximumSize / 10;
+			if (candidates.size() > target) {
+				candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().accessed));
+				candidates.subList(0, candidates.size() - target)
+						.forEach(candidate -> entries.remove(candidate.getKey(), candidate.getValue()));
+			}
+		}
+
+	}
+
+	static final class Entry {
+
+		private final JsonNode document;
+		private final long expires;
+		private volatile long accessed;
+
+		private Entry(final JsonNode document, final long expires) {
+			this.document = document;
+			this.expires = expires;
+			this.accessed = System.nanoTime();
+		}
+
+		JsonNode getDocument() {
+			return document;
+		}
+
+		/**
+		 * @return the revision of the document, {@code null} if it was read without
+		 */
+		String getRev() {
+			final JsonNode rev = document.get("_rev");
+			return rev != null && rev.isTextual() ? rev.asText() : null;
+		}
+
+		boolean isExpired() {
+			return isExpired(System.nanoTime());
+		}
+
+		private boolean isExpired(final long now) {
+			return now - expires > 0;
+		}
+
+	}
+
+}
@@ -0,0 +1,220 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.core.template;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Caches database and collection handles of {@link ArangoTemplate}, optionally bounded by size and idle time.
+ * <p>
+ * Entries exceeding the maximum size are evicted least recently used first, in batches of a tenth of the maximum
+ * size, so that the sweep is amortized over many loads. Entries older than the refresh interval are still returned,
+ * while they are validated in the background. Entries failing the validation are removed and loaded again on the
+ * next access.
+ */
+class HandleCache<K, V> {
+
+	private static final long NEVER = 0;
+
+	private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>(8, 0.9f, 1);
+	private final Predicate<? super V> validator;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder refreshes = new LongAdder();
+
+	private volatile int maximumSize;
+	private volatile long idleTimeout = NEVER;
+	private volatile long refreshInterval = NEVER;
+	private volatile Executor refreshExecutor = ForkJoinPool.commonPool();
+
+	/**
+	 * @param validator
+	 *            tells whether a cached value is still valid, called in the background once the refresh interval
+	 *            elapsed
+	 */
+	HandleCache(final Predicate<? super V> validator) {
+		this.validator = validator;
+	}
+
+	/**
+	 * @param maximumSize
+	 *            the maximum number of entries, non-positive values (the default) do not bound the cache
+	 */
+	void setMaximumSize(final int maximumSize) {
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * @param idleTimeout
+	 *            the time after which entries not accessed are evicted, {@code null} (the default) keeps them
+	 */
+	void setIdleTimeout(final Duration idleTimeout) {
+		this.idleTimeout = toNanos(idleTimeout);
+	}
+
+	/**
+	 * @param refreshInterval
+	 *            the time after which entries are validated in the background, {@code null} (the default) never
+	 *            validates them
+	 */
+	void setRefreshInterval(final Duration refreshInterval) {
+		this.refreshInterval = toNanos(refreshInterval);
+	}
+
+	void setRefreshExecutor(final Executor refreshExecutor) {
+		this.refreshExecutor = refreshExecutor;
+	}
+
+	/**
+	 * @return the cached value of the given key, loaded with the given function if absent
+	 */
+	V get(final K key, final Function<? super K, ? extends V> loader) {
+		final long now = System.nanoTime();
+		Entry<V> entry = entries.get(key);
+		if (entry != null && isIdle(entry, now)) {
+			if (entries.remove(key, entry)) {
+				evictions.increment();
+			}
+			entry = null;
+		}
+		if (entry != null) {
+			hits.increment();
+			entry.accessed = now;
+			refreshIfStale(key, entry, now);
+			return entry.value;
+		}
+
+		final boolean[] loaded = { false };
+		entry = entries.computeIfAbsent(key, k -> {
+			loaded[0] = true;
+			return new Entry<>(loader.apply(k), now);
+		});
+		if (loaded[0]) {
+			misses.increment();
+			final int max = maximumSize;
+			if (max > 0 && entries.size() > max) {
+				evict(max);
+			}
+		} else {
+			hits.increment();
+			entry.accessed = now;
+		}
+		return entry.value;
+	}
+
+	void remove(final K key) {
+		entries.remove(key);
+	}
+
+	void removeIf(final Predicate<? super K> predicate) {
+		entries.keySet().removeIf(predicate);
+	}
+
+	HandleCacheStatistics statistics() {
+		return new HandleCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), refreshes.sum(), entries.size());
+	}
+
+	private synchronized void evict(final int max) {
+		if (entries.size() <= max) {
+			// already swept by a concurrent load
+			return;
+		}
+		final long now = System.nanoTime();
+		final List<Map.Entry<K, Entry<V>>> candidates = new ArrayList<>(entries.size());
+		for (final Map.Entry<K, Entry<V>> candidate : entries.entrySet()) {
+			if (isIdle(candidate.getValue(), now)) {
+				remove(candidate);
+			} else {
+				candidates.add(candidate);
+			}
+		}
+		final int target = max - max / 10;
+		if (candidates.size() > target) {
+			candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().accessed));
+			candidates.subList(0, candidates.size() - target).forEach(this::remove);
+		}
+	}
+
+	private void remove(final Map.Entry<K, Entry<V>> candidate) {
+		if (entries.remove(candidate.getKey(), candidate.getValue())) {
+			evictions.increment();
+		}
+	}
+
+	private boolean isIdle(final Entry<V> entry, final long now) {
+		final long timeout = idleTimeout;
+		return timeout != NEVER && now - entry.accessed > timeout;
+	}
+
+	private void refreshIfStale(final K key, final Entry<V> entry, final long now) {
+		final long interval = refreshInterval;
+		if (interval == NEVER || now - entry.validated <= interval || !entry.refreshing.compareAndSet(false, true)) {
+			return;
+		}
+		refreshExecutor.execute(() -> {
+			try {
+				if (validator.test(entry.value)) {
+					entry.validated = System.nanoTime();
+				} else if (entries.remove(key, entry)) {
+					evictions.increment();
+				}
+				refreshes.increment();
+			} catch (final RuntimeException e) {
+				// the entry is kept and validated again with the next access
+			} finally {
+				entry.refreshing.set(false);
+			}
+		});
+	}
+
+	private static long toNanos(final Duration duration) {
+		return duration == null || duration.isZero() || duration.isNegative() ? NEVER : duration.toNanos();
+	}
+
+	private static class Entry<V> {
+
+		private final V value;
+		private final AtomicBoolean refreshing = new AtomicBoolean();
+		private volatile long accessed;
+		private volatile long validated;
+
+		Entry(final V value, final long now) {
+			this.value = value;
+			this.accessed = now;
+			this.validated = now;
+		}
+
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.core.template;
+
+/**
+ * Snapshot of the counters of the database or collection handle cache of {@link ArangoTemplate}.
+ *
+ * @see ArangoTemplate#getDatabaseCacheStatistics()
+ * @see ArangoTemplate#getCollectionCacheStatistics()
+ */
+public final class HandleCacheStatistics {
+
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+	private final long refreshCount;
+	private final int size;
+
+	HandleCacheStatistics(final long hitCount, final long missCount, final long evictionCount,
+		final long refreshCount, final int size) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.refreshCount = refreshCount;
+		this.size = size;
+	}
+
+	/**
+	 * @return the number of lookups returning a cached handle
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of lookups loading the handle, i.e. checking whether the database or collection exists
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return the number of handles evicted because of the size limit, the idle timeout or a failed validation
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return the number of handles validated in the background
+	 */
+	public long getRefreshCount() {
+		return refreshCount;
+	}
+
+	/**
+	 * @return the number of cached handles
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		return "HandleCacheStatistics [hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount="
+				+ evictionCount + ", refreshCount=" + refreshCount + ", size=" + size + "]";
+	}
+
+}
@@ -0,0 +1,197 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.core.template;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import com.arangodb.entity.IndexEntity;
+import com.arangodb.entity.IndexType;
+import com.arangodb.model.FulltextIndexOptions;
+import com.arangodb.model.GeoIndexOptions;
+import com.arangodb.model.MDIndexOptions;
+import com.arangodb.model.MDPrefixedIndexOptions;
+import com.arangodb.model.PersistentIndexOptions;
+import com.arangodb.model.TtlIndexOptions;
+import com.arangodb.springframework.annotation.FulltextIndex;
+import com.arangodb.springframework.annotation.GeoIndex;
+import com.arangodb.springframework.annotation.MDIndex;
+import com.arangodb.springframework.annotation.MDPrefixedIndex;
+import com.arangodb.springframework.annotation.PersistentIndex;
+import com.arangodb.springframework.annotation.PersistentIndexed;
+import com.arangodb.springframework.annotation.TtlIndex;
+import com.arangodb.springframework.core.CollectionOperations;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+
+/**
+ * An index declared by the annotations of an entity, which can either be ensured or compared to the existing indexes
+ * of the collection.
+ */
+final class IndexDefinition {
+
+	private final IndexType type;
+	private final List<String> fields;
+	private final Boolean unique;
+	private final Boolean sparse;
+	private final BiFunction<CollectionOperations, List<String>, IndexEntity> ensure;
+
+	private IndexDefinition(final IndexType type, final List<String> fields, final Boolean unique,
+		final Boolean sparse, final BiFunction<CollectionOperations, List<String>, IndexEntity> ensure) {
+		this.type = type;
+		this.fields = fields;
+		this.unique = unique;
+		this.sparse = sparse;
+		this.ensure = ensure;
+	}
+
+	/**
+	 * @return the indexes declared by the annotations of the given entity and its properties
+	 */
+	@SuppressWarnings("deprecation")
+	static List<IndexDefinition> of(final ArangoPersistentEntity<?> persistentEntity) {
+		final List<IndexDefinition> indexes = new ArrayList<>();
+		persistentEntity.getPersistentIndexes().forEach(index -> indexes.add(persistent(index)));
+		persistentEntity.getPersistentIndexedProperties().forEach(p -> indexes.add(persistent(p)));
+		persistentEntity.getGeoIndexes().forEach(index -> indexes.add(geo(index)));
+		persistentEntity.getGeoIndexedProperties().forEach(p -> indexes.add(geo(p)));
+		persistentEntity.getFulltextIndexes().forEach(index -> indexes.add(fulltext(index)));
+		persistentEntity.getFulltextIndexedProperties().forEach(p -> indexes.add(fulltext(p)));
+		persistentEntity.getTtlIndex().ifPresent(index -> indexes.add(ttl(index)));
+		persistentEntity.getTtlIndexedProperty().ifPresent(p -> indexes.add(ttl(p)));
+		persistentEntity.getMDIndexes().forEach(index -> indexes.add(md(index)));
+		persistentEntity.getMDPrefixedIndexes().forEach(index -> indexes.add(mdPrefixed(index)));
+		return indexes;
+	}
+
+	IndexEntity ensure(final CollectionOperations collection) {
+		return ensure.apply(collection, fields);
+	}
+
+	/**
+	 * @return whether the given existing index satisfies this definition
+	 */
+	boolean matches(final IndexEntity index) {
+		return matchesType(index.getType()) && fields.equals(new ArrayList<>(index.getFields()))
+				&& (unique == null || unique.equals(index.getUnique()))
+				&& (sparse == null || sparse.equals(index.getSparse()));
+	}
+
+	private boolean matchesType(final IndexType other) {
+		if (type == IndexType.geo) {
+			return other == IndexType.geo || other == IndexType.geo1 || other == IndexType.geo2;
+		}
+		return type == other;
+	}
+
+	@Override
+	public String toString() {
+		return type + " index on " + fields + (Boolean.TRUE.equals(unique) ? " (unique)" : "")
+				+ (Boolean.TRUE.equals(sparse) ? " (sparse)" : "");
+	}
+
+	private static IndexDefinition persistent(final PersistentIndex annotation) {
+		final PersistentIndexOptions options = new PersistentIndexOptions()
+				.unique(annotation.unique())
+				.sparse(annotation.sparse())
+				.deduplicate(annotation.deduplicate());
+		return new IndexDefinition(IndexType.persistent, Arrays.asList(annotation.fields()), annotation.unique(),
+				annotation.sparse(), (collection, fields) -> collection.ensurePersistentIndex(fields, options));
+	}
+
+	private static IndexDefinition persistent(final ArangoPersistentProperty value) {
+		final PersistentIndexOptions options = new PersistentIndexOptions();
+		value.getPersistentIndexed().ifPresent(i -> options
+				.unique(i.unique())
+				.sparse(i.sparse())
+				.deduplicate(i.deduplicate()));
+		return new IndexDefinition(IndexType.persistent, Collections.singletonList(value.getFieldName()),
+				value.getPersistentIndexed().map(PersistentIndexed::unique).orElse(null),
+				value.getPersistentIndexed().map(PersistentIndexed::sparse).orElse(null),
+				(collection, fields) -> collection.ensurePersistentIndex(fields, options));
+	}
+
+	private static IndexDefinition geo(final GeoIndex annotation) {
+		final GeoIndexOptions options = new GeoIndexOptions().geoJson(annotation.geoJson());
+		return new IndexDefinition(IndexType.geo, Arrays.asList(annotation.fields()), null, null,
+				(collection, fields) -> collection.ensureGeoIndex(fields, options));
+	}
+
+	private static IndexDefinition geo(final ArangoPersistentProperty value) {
+		final GeoIndexOptions options = new GeoIndexOptions();
+		value.getGeoIndexed().ifPresent(i -> options.geoJson(i.geoJson()));
+		return new IndexDefinition(IndexType.geo, Collections.singletonList(value.getFieldName()), null, null,
+				(collection, fields) -> collection.ensureGeoIndex(fields, options));
+	}
+
+	@SuppressWarnings("deprecation")
+	private static IndexDefinition fulltext(final FulltextIndex annotation) {
+		final FulltextIndexOptions options = new FulltextIndexOptions()
+				.minLength(annotation.minLength() > -1 ? annotation.minLength() : null);
+		return new IndexDefinition(IndexType.fulltext, Collections.singletonList(annotation.field()), null, null,
+				(collection, fields) -> collection.ensureFulltextIndex(fields, options));
+	}
+
+	@SuppressWarnings("deprecation")
+	private static IndexDefinition fulltext(final ArangoPersistentProperty value) {
+		final FulltextIndexOptions options = new FulltextIndexOptions();
+		value.getFulltextIndexed().ifPresent(i -> options.minLength(i.minLength() > -1 ? i.minLength() : null));
+		return new IndexDefinition(IndexType.fulltext, Collections.singletonList(value.getFieldName()), null, null,
+				(collection, fields) -> collection.ensureFulltextIndex(fields, options));
+	}
+
+	private static IndexDefinition ttl(final TtlIndex annotation) {
+		final TtlIndexOptions options = new TtlIndexOptions().expireAfter(annotation.expireAfter());
+		return new IndexDefinition(IndexType.ttl, Collections.singletonList(annotation.field()), null, null,
+				(collection, fields) -> collection.ensureTtlIndex(fields, options));
+	}
+
+	private static IndexDefinition ttl(final ArangoPersistentProperty value) {
+		final TtlIndexOptions options = new TtlIndexOptions();
+		value.getTtlIndexed().ifPresent(i -> options.expireAfter(i.expireAfter()));
+		return new IndexDefinition(IndexType.ttl, Collections.singletonList(value.getFieldName()), null, null,
+				(collection, fields) -> collection.ensureTtlIndex(fields, options));
+	}
+
+	private static IndexDefinition md(final MDIndex annotation) {
+		final MDIndexOptions options = new MDIndexOptions()
+				.unique(annotation.unique())
+				.fieldValueTypes(annotation.fieldValueTypes())
+				.sparse(annotation.sparse());
+		return new IndexDefinition(IndexType.mdi, Arrays.asList(annotation.fields()), annotation.unique(),
+				annotation.sparse(), (collection, fields) -> collection.ensureMDIndex(fields, options));
+	}
+
+	private static IndexDefinition mdPrefixed(final MDPrefixedIndex annotation) {
+		final MDPrefixedIndexOptions options = new MDPrefixedIndexOptions()
+				.prefixFields(Arrays.asList(annotation.prefixFields()))
+				.unique(annotation.unique())
+				.fieldValueTypes(annotation.fieldValueTypes())
+				.sparse(annotation.sparse());
+		return new IndexDefinition(IndexType.mdiPrefixed, Arrays.asList(annotation.fields()), annotation.unique(),
+				annotation.sparse(), (collection, fields) -> collection.ensureMDPrefixedIndex(fields, options));
+	}
+
+}
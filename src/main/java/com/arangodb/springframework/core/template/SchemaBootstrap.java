@@ -0,0 +1,47 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.core.template;
+
+/**
+ * When {@link ArangoTemplate} creates the collections and indexes of the entities.
+ *
+ * @see ArangoTemplate#setSchemaBootstrap(SchemaBootstrap)
+ */
+public enum SchemaBootstrap {
+
+	/**
+	 * Creates the collection and indexes of an entity the first time the entity is used.
+	 */
+	LAZY,
+
+	/**
+	 * Creates the collections and indexes of all entities at startup, see {@link ArangoTemplate#ensureSchema()}.
+	 */
+	CREATE,
+
+	/**
+	 * Logs the differences between the existing collections and indexes and the entities at startup, without creating
+	 * any, see {@link ArangoTemplate#verifySchema()}. Collections and indexes are still created lazily.
+	 */
+	VERIFY
+
+}
@@ -0,0 +1,76 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.core.template;
+
+/**
+ * A difference between the collections and indexes in the database and the ones declared by the entities.
+ *
+ * @see ArangoTemplate#verifySchema()
+ */
+public final class SchemaDrift {
+
+	public enum Kind {
+		/**
+		 * The collection of an entity does not exist.
+		 */
+		MISSING_COLLECTION,
+		/**
+		 * An index declared by an entity does not exist.
+		 */
+		MISSING_INDEX,
+		/**
+		 * An index exists, which is not declared by any entity of the collection.
+		 */
+		UNDECLARED_INDEX
+	}
+
+	private final Kind kind;
+	private final String collection;
+	private final String description;
+
+	SchemaDrift(final Kind kind, final String collection, final String description) {
+		this.kind = kind;
+		this.collection = collection;
+		this.description = description;
+	}
+
+	public Kind getKind() {
+		return kind;
+	}
+
+	public String getCollection() {
+		return collection;
+	}
+
+	/**
+	 * @return the missing or undeclared index or the entity of the missing collection
+	 */
+	public String getDescription() {
+		return description;
+	}
+
+	@Override
+	public String toString() {
+		return kind + " in collection " + collection + ": " + description;
+	}
+
+}
@@ -27,7 +27,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.StringJoiner;
 import java.util.stream.Collectors;
 
@@ -42,13 +45,23 @@ public final class AqlUtils {
 	}
 
 	public static String buildLimitClause(final Pageable pageable) {
+		return buildLimitClause(pageable, 0);
+	}
+
+	/**
+	 * @param pageable
+	 * @param lookahead
+	 *            number of documents to read beyond the page, e.g. to tell whether a next slice exists
+	 * @return the limit clause of the page
+	 */
+	public static String buildLimitClause(final Pageable pageable, final int lookahead) {
 		if (pageable.isUnpaged()) {
 			return "";
 		}
 
 		final StringJoiner clause = new StringJoiner(", ", "LIMIT ", "");
 		clause.add(String.valueOf(pageable.getOffset()));
-		clause.add(String.valueOf(pageable.getPageSize()));
+		clause.add(String.valueOf(pageable.getPageSize() + lookahead));
 		return clause.toString();
 	}
 
@@ -57,12 +70,27 @@ public final class AqlUtils {
 	}
 
 	public static String buildPageableClause(final Pageable pageable, @Nullable final String varName) {
-		return buildPageableClause(pageable, varName, new StringBuilder()).toString();
+		return buildPageableClause(pageable, varName, 0);
+	}
+
+	/**
+	 * @param pageable
+	 * @param varName
+	 * @param lookahead
+	 *            number of documents to read beyond the page, e.g. to tell whether a next slice exists
+	 * @return the sort and limit clause of the page
+	 */
+	public static String buildPageableClause(
+		final Pageable pageable,
+		@Nullable final String varName,
+		final int lookahead) {
+		return buildPageableClause(pageable, varName, lookahead, new StringBuilder()).toString();
 	}
 
 	private static StringBuilder buildPageableClause(
 		final Pageable pageable,
 		@Nullable final String varName,
+		final int lookahead,
 		final StringBuilder clause) {
 
 		if (pageable.isUnpaged()) {
@@ -76,7 +104,7 @@ public final class AqlUtils {
 			clause.append(' ');
 		}
 
-		clause.append("LIMIT ").append(pageable.getOffset()).append(", ").append(pageable.getPageSize());
+		clause.append("LIMIT ").append(pageable.getOffset()).append(", ").append(pageable.getPageSize() + lookahead);
 		return clause;
 	}
 
@@ -233,6 +261,65 @@ public final class AqlUtils {
 		return escaped.toString();
 	}
 
+	/**
+	 * Builds an object literal containing only the given attributes of a document, so that projections do not
+	 * transfer the whole document. Property paths are resolved to the mapped field names, nested paths create nested
+	 * objects. An attribute that is not an object is returned as is, instead of being replaced by a nested object.
+	 *
+	 * @param propertyPaths
+	 *            the projected property paths of the domain class, e.g. {@code address.city}
+	 * @param fields
+	 *            top level fields to include additionally, e.g. system attributes or the type hint
+	 * @param context
+	 * @param domainClass
+	 * @param varName
+	 *            the variable of the document
+	 * @return the object literal
+	 */
+	public static String buildProjection(
+		final Collection<String> propertyPaths,
+		final Collection<String> fields,
+		final ArangoMappingContext context,
+		final Class<?> domainClass,
+		final String varName) {
+
+		final Map<String, Map<String, ?>> tree = new LinkedHashMap<>();
+		fields.forEach(field -> tree.put(field, null));
+		for (final String propertyPath : propertyPaths) {
+			Map<String, Map<String, ?>> node = tree;
+			final List<String> path = context.getPersistentPropertyPath(propertyPath, domainClass).stream()
+					.map(ArangoPersistentProperty::getFieldName).collect(Collectors.toList());
+			for (int i = 0; i < path.size(); i++) {
+				final String field = path.get(i);
+				if (i == path.size() - 1) {
+					// the whole attribute supersedes projected sub attributes
+					node.put(field, null);
+				} else if (node.containsKey(field) && node.get(field) == null) {
+					break;
+				} else {
+					@SuppressWarnings("unchecked")
+					final Map<String, Map<String, ?>> child = (Map<String, Map<String, ?>>) node
+							.computeIfAbsent(field, f -> new LinkedHashMap<>());
+					node = child;
+				}
+			}
+		}
+		return buildProjection(tree, varName);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static String buildProjection(final Map<String, Map<String, ?>> tree, final String expression) {
+		final StringJoiner projection = new StringJoiner(", ", "{ ", " }");
+		tree.forEach((field, children) -> {
+			final String attribute = expression + "." + buildFieldName(field);
+			final String value = children == null ? attribute
+					: "IS_OBJECT(" + attribute + ") ? "
+							+ buildProjection((Map<String, Map<String, ?>>) children, attribute) + " : " + attribute;
+			projection.add("\"" + field.replace("\\", "\\\\").replace("\"", "\\\"") + "\": " + value);
+		});
+		return projection.toString();
+	}
+
 	public static String buildCollectionName(final String collection) {
 		return collection.contains("-") ? "`" + collection + "`" : collection;
 	}
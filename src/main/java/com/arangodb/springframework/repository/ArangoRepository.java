@@ -20,6 +20,10 @@
 
 package com.arangodb.springframework.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -36,4 +40,21 @@ import org.springframework.data.repository.query.QueryByExampleExecutor;
  */
 @NoRepositoryBean
 public interface ArangoRepository<T, ID> extends CrudRepository<T, ID>, PagingAndSortingRepository<T, ID>, QueryByExampleExecutor<T> {
+
+	/**
+	 * Returns a window of the documents in the collection, starting after the given position. Keyset positions are
+	 * resolved by filtering on the sort properties, with the id appended as tiebreaker, and so do not have to skip
+	 * over the preceding documents like offset positions.
+	 *
+	 * @param position
+	 *            the position to start after, {@link ScrollPosition#keyset()} or {@link ScrollPosition#offset()} to
+	 *            start from the beginning
+	 * @param sort
+	 *            the sort of the documents
+	 * @param limit
+	 *            the maximum size of the window
+	 * @return the window of documents
+	 */
+	Window<T> findAll(ScrollPosition position, Sort sort, Limit limit);
+
 }
@@ -25,10 +25,13 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
+import org.springframework.data.repository.core.RepositoryMetadata;
 
 import com.arangodb.springframework.annotation.Document;
 import com.arangodb.springframework.annotation.Edge;
+import com.arangodb.springframework.repository.aot.ArangoRepositoryRegistrationAotProcessor;
 
 /**
  * 
@@ -55,6 +58,11 @@ public class ArangoRepositoryConfigurationExtension extends RepositoryConfigurat
 		return ArangoRepositoryFactoryBean.class.getName();
 	}
 
+	@Override
+	public Class<? extends BeanRegistrationAotProcessor> getRepositoryAotProcessor() {
+		return ArangoRepositoryRegistrationAotProcessor.class;
+	}
+
 	@Override
 	protected Collection<Class<? extends Annotation>> getIdentifyingAnnotations() {
 		return Arrays.asList(Document.class, Edge.class);
@@ -65,4 +73,10 @@ public class ArangoRepositoryConfigurationExtension extends RepositoryConfigurat
 		return Collections.singleton(ArangoRepository.class);
 	}
 
+	@Override
+	protected boolean useRepositoryConfiguration(final RepositoryMetadata metadata) {
+		// reactive repositories are picked up by ReactiveArangoRepositoryConfigurationExtension
+		return !metadata.isReactiveRepository();
+	}
+
 }
@@ -0,0 +1,324 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.repository;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.springframework.core.convert.ArangoConverter;
+import com.arangodb.springframework.core.mapping.ArangoMappingContext;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.template.ArangoTemplate;
+import com.arangodb.springframework.core.util.AqlUtils;
+import com.arangodb.springframework.repository.query.ScrollSupport;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * {@link FluentQuery.FetchableFluentQuery} of the documents matching an {@link Example}. Sort, limit and projection
+ * as well as the terminal operations are part of the generated AQL, so only the documents and fields that are used
+ * get fetched.
+ *
+ * @param <S>
+ *            the probe type of the example
+ * @param <R>
+ *            the result type
+ */
+class FetchableFluentQueryByExample<S, R> implements FluentQuery.FetchableFluentQuery<R> {
+
+	private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+	private static final List<String> SYSTEM_FIELDS = Arrays.asList("_key", "_id", "_rev", "_from", "_to");
+
+	private final ArangoTemplate template;
+	private final ArangoExampleConverter<S> exampleConverter;
+	private final Example<S> example;
+	private final Class<R> resultType;
+	private final Sort sort;
+	private final int limit;
+	private final Set<String> properties;
+
+	private final ArangoConverter converter;
+	private final ArangoMappingContext context;
+	private final ArangoPersistentEntity<?> entity;
+
+	FetchableFluentQueryByExample(final ArangoTemplate template, final ArangoExampleConverter<S> exampleConverter,
+		final Example<S> example, final Class<R> resultType) {
+		this(template, exampleConverter, example, resultType, Sort.unsorted(), 0, Collections.emptySet());
+	}
+
+	private FetchableFluentQueryByExample(final ArangoTemplate template,
+		final ArangoExampleConverter<S> exampleConverter, final Example<S> example, final Class<R> resultType,
+		final Sort sort, final int limit, final Set<String> properties) {
+		this.template = template;
+		this.exampleConverter = exampleConverter;
+		this.example = example;
+		this.resultType = resultType;
+		this.sort = sort;
+		this.limit = limit;
+		this.properties = properties;
+		converter = template.getConverter();
+		context = (ArangoMappingContext) converter.getMappingContext();
+		entity = context.getRequiredPersistentEntity(example.getProbeType());
+	}
+
+	@Override
+	public FetchableFluentQuery<R> sortBy(final Sort sort) {
+		Assert.notNull(sort, "Sort must not be null!");
+		return new FetchableFluentQueryByExample<>(template, exampleConverter, example, resultType, this.sort.and(sort),
+				limit, properties);
+	}
+
+	@Override
+	public FetchableFluentQuery<R> limit(final int limit) {
+		Assert.isTrue(limit >= 0, "Limit must not be negative!");
+		return new FetchableFluentQueryByExample<>(template, exampleConverter, example, resultType, sort, limit,
+				properties);
+	}
+
+	@Override
+	public <N> FetchableFluentQuery<N> as(final Class<N> resultType) {
+		Assert.notNull(resultType, "Result type must not be null!");
+		return new FetchableFluentQueryByExample<>(template, exampleConverter, example, resultType, sort, limit,
+				properties);
+	}
+
+	@Override
+	public FetchableFluentQuery<R> project(final Collection<String> properties) {
+		Assert.notNull(properties, "Projection properties must not be null!");
+		final Set<String> projected = new LinkedHashSet<>(this.properties);
+		projected.addAll(properties);
+		return new FetchableFluentQueryByExample<>(template, exampleConverter, example, resultType, sort, limit,
+				Collections.unmodifiableSet(projected));
+	}
+
+	@Nullable
+	@Override
+	public R oneValue() {
+		final List<R> results = fetch(sort, "LIMIT 2", null);
+		if (results.size() > 1) {
+			throw new IncorrectResultSizeDataAccessException(1, results.size());
+		}
+		return results.isEmpty() ? null : results.get(0);
+	}
+
+	@Nullable
+	@Override
+	public R firstValue() {
+		final List<R> results = fetch(sort, "LIMIT 1", null);
+		return results.isEmpty() ? null : results.get(0);
+	}
+
+	@Override
+	public List<R> all() {
+		return fetch(sort, buildLimitClause(), null);
+	}
+
+	@Override
+	public Page<R> page(final Pageable pageable) {
+		Assert.notNull(pageable, "Pageable must not be null!");
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(all());
+		}
+		final Map<String, Object> bindVars = new HashMap<>();
+		final ArangoCursor<?> cursor = query(sort.and(pageable.getSort()), AqlUtils.buildLimitClause(pageable),
+			Collections.emptySet(), bindVars, new AqlQueryOptions().fullCount(true), getTypeToRead());
+		final List<R> content = convertAll(cursor.asListRemaining());
+		return new PageImpl<>(content, pageable, ((Number) cursor.getStats().getFullCount()).longValue());
+	}
+
+	/**
+	 * Reads one document beyond the slice to determine whether a next slice exists, without counting all matches.
+	 */
+	@Override
+	public Slice<R> slice(final Pageable pageable) {
+		Assert.notNull(pageable, "Pageable must not be null!");
+		if (pageable.isUnpaged()) {
+			return new SliceImpl<>(all());
+		}
+		final List<R> content = fetch(sort.and(pageable.getSort()), AqlUtils.buildLimitClause(pageable, 1), null);
+		final boolean hasNext = content.size() > pageable.getPageSize();
+		return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+	}
+
+	@Override
+	public Window<R> scroll(final ScrollPosition scrollPosition) {
+		Assert.notNull(scrollPosition, "ScrollPosition must not be null!");
+		final ScrollSupport scroll = new ScrollSupport(converter, entity.getType(), scrollPosition, sort,
+				limit > 0 ? Limit.of(limit) : Limit.unlimited());
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String clauses = scroll.buildFilterClause("e", bindVars::put) + " " + buildSortClause(scroll.getSort())
+				+ " " + scroll.buildLimitClause();
+		// the keys of the window positions are read from the entities, so the sort properties must be fetched
+		final Set<String> keyProperties = scroll.getSort().stream().map(Sort.Order::getProperty)
+				.collect(Collectors.toSet());
+		final Class<?> typeToRead = getTypeToRead();
+		if (typeToRead == entity.getType()) {
+			final ArangoCursor<?> cursor = query(null, clauses, keyProperties, bindVars, null, typeToRead);
+			return scroll.toWindow(cursor.asListRemaining()).map(this::convert);
+		}
+		// DTOs are read directly, the entity is only read for the keys of the requested positions
+		final ArangoCursor<JsonNode> cursor = query(null, clauses, keyProperties, bindVars, null, JsonNode.class);
+		return scroll.toWindow(cursor.asListRemaining(), document -> converter.read(entity.getType(), document))
+				.map(document -> converter.read(resultType, document));
+	}
+
+	@Override
+	public Stream<R> stream() {
+		final ArangoCursor<?> cursor = query(sort, buildLimitClause(), Collections.emptySet(), new HashMap<>(),
+			new AqlQueryOptions().stream(true), getTypeToRead());
+		return cursor.stream().map(this::convert);
+	}
+
+	@Override
+	public long count() {
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String query = String.format("FOR e IN @@col %s %s COLLECT WITH COUNT INTO length RETURN length",
+			buildFilterClause(bindVars), buildLimitClause());
+		template.collection(entity.getType());
+		return template.query(query, bindVars, null, Long.class).next();
+	}
+
+	@Override
+	public boolean exists() {
+		final Map<String, Object> bindVars = new HashMap<>();
+		final String query = String.format("FOR e IN @@col %s LIMIT 1 RETURN true", buildFilterClause(bindVars));
+		template.collection(entity.getType());
+		return template.query(query, bindVars, null, Boolean.class).hasNext();
+	}
+
+	private List<R> fetch(final Sort sort, final String limitClause, @Nullable final AqlQueryOptions options) {
+		return convertAll(query(sort, limitClause, Collections.emptySet(), new HashMap<>(), options, getTypeToRead())
+				.asListRemaining());
+	}
+
+	/**
+	 * @param sort
+	 *            the sort to apply, null if the clauses already contain it
+	 * @param clauses
+	 *            the clauses following the sort
+	 * @param keyProperties
+	 *            properties to fetch in addition to the projected ones
+	 */
+	private <T> ArangoCursor<T> query(@Nullable final Sort sort, final String clauses,
+		final Collection<String> keyProperties, final Map<String, Object> bindVars,
+		@Nullable final AqlQueryOptions options, final Class<T> typeToRead) {
+		final String sortClause = sort != null ? buildSortClause(sort) : "";
+		final String query = String.format("FOR e IN @@col %s %s %s RETURN %s", buildFilterClause(bindVars),
+			sortClause, clauses, buildReturnExpression(keyProperties));
+		template.collection(entity.getType());
+		return template.query(query, bindVars, options, typeToRead);
+	}
+
+	private String buildFilterClause(final Map<String, Object> bindVars) {
+		bindVars.put("@col", entity.getCollection());
+		final String predicate = exampleConverter.convertExampleToPredicate(example, bindVars);
+		return predicate.isEmpty() ? "" : "FILTER " + predicate;
+	}
+
+	private String buildSortClause(final Sort sort) {
+		return AqlUtils.buildSortClause(AqlUtils.toPersistentSort(sort, context, entity.getType()), "e");
+	}
+
+	private String buildLimitClause() {
+		return limit > 0 ? "LIMIT " + limit : "";
+	}
+
+	private String buildReturnExpression(final Collection<String> keyProperties) {
+		final Collection<String> projected = getProjectedProperties();
+		if (projected.isEmpty()) {
+			return "e";
+		}
+		final Set<String> fields = new LinkedHashSet<>(SYSTEM_FIELDS);
+		final ObjectNode typeInformation = JsonNodeFactory.instance.objectNode();
+		converter.getTypeMapper().writeType(entity.getType(), typeInformation);
+		typeInformation.fieldNames().forEachRemaining(fields::add);
+		final List<String> propertyPaths = Stream.concat(projected.stream(), keyProperties.stream())
+				.filter(property -> entity.getPersistentProperty(property.split("\\.", 2)[0]) != null)
+				.collect(Collectors.toList());
+		return AqlUtils.buildProjection(propertyPaths, fields, context, entity.getType(), "e");
+	}
+
+	/**
+	 * @return the properties the results are read from, empty if the whole documents are needed
+	 */
+	private Collection<String> getProjectedProperties() {
+		if (!properties.isEmpty()) {
+			return properties;
+		}
+		if (resultType.isAssignableFrom(entity.getType())) {
+			return Collections.emptyList();
+		}
+		final ReturnedType returnedType = ReturnedType.of(resultType, entity.getType(), PROJECTION_FACTORY);
+		return returnedType.isProjecting() ? returnedType.getInputProperties() : Collections.emptyList();
+	}
+
+	private Class<?> getTypeToRead() {
+		return resultType.isInterface() || resultType.isAssignableFrom(entity.getType()) ? entity.getType()
+				: resultType;
+	}
+
+	private List<R> convertAll(final List<?> results) {
+		return results.stream().map(this::convert).collect(Collectors.toList());
+	}
+
+	/**
+	 * @param result
+	 *            a result read with {@link #getTypeToRead()}
+	 */
+	@SuppressWarnings("unchecked")
+	private R convert(final Object result) {
+		if (resultType.isInterface() && !resultType.isInstance(result)) {
+			return PROJECTION_FACTORY.createProjection(resultType, result);
+		}
+		return (R) result;
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.data.repository.config.RepositoryRegistrationAotProcessor;
+import org.springframework.data.repository.core.RepositoryMetadata;
+
+/**
+ * Configuration extension for reactive ArangoDB repositories.
+ */
+public class ReactiveArangoRepositoryConfigurationExtension extends ArangoRepositoryConfigurationExtension {
+
+	@Override
+	public String getModuleName() {
+		return "Reactive ArangoDB";
+	}
+
+	@Override
+	public String getRepositoryFactoryBeanClassName() {
+		return ReactiveArangoRepositoryFactoryBean.class.getName();
+	}
+
+	@Override
+	public Class<? extends BeanRegistrationAotProcessor> getRepositoryAotProcessor() {
+		// the generated query methods are blocking
+		return RepositoryRegistrationAotProcessor.class;
+	}
+
+	@Override
+	protected Collection<Class<?>> getIdentifyingTypes() {
+		return Collections.singleton(ReactiveArangoRepository.class);
+	}
+
+	@Override
+	protected boolean useRepositoryConfiguration(final RepositoryMetadata metadata) {
+		return metadata.isReactiveRepository();
+	}
+
+}
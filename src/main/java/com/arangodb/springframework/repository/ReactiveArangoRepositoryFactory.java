@@ -0,0 +1,129 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.lang.Nullable;
+
+import com.arangodb.springframework.config.ArangoConfiguration;
+import com.arangodb.springframework.core.ArangoAsyncOperations;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.springframework.repository.query.AbstractArangoQuery;
+import com.arangodb.springframework.repository.query.ReactiveArangoQuery;
+
+/**
+ * Reactive counterpart of {@link ArangoRepositoryFactory}, creating {@link SimpleReactiveArangoRepository} instances
+ * and query methods returning {@link reactor.core.publisher.Flux} or {@link reactor.core.publisher.Mono}.
+ */
+public class ReactiveArangoRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+	private final ArangoAsyncOperations operations;
+	private final ApplicationContext applicationContext;
+	private final boolean returnOriginalEntities;
+	private final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context;
+
+	public ReactiveArangoRepositoryFactory(final ArangoAsyncOperations operations,
+										   final ApplicationContext applicationContext,
+										   final ArangoConfiguration arangoConfiguration) {
+		this.operations = operations;
+		this.applicationContext = applicationContext;
+		this.context = operations.sync().getConverter().getMappingContext();
+		returnOriginalEntities = arangoConfiguration.returnOriginalEntities();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T, ID> ArangoEntityInformation<T, ID> getEntityInformation(final Class<T> domainClass) {
+		return new ArangoPersistentEntityInformation<>(
+				(ArangoPersistentEntity<T>) context.getRequiredPersistentEntity(domainClass));
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Override
+	protected Object getTargetRepository(final RepositoryInformation metadata) {
+		return new SimpleReactiveArangoRepository(operations, metadata.getDomainType(), returnOriginalEntities);
+	}
+
+	@Override
+	protected Class<?> getRepositoryBaseClass(final RepositoryMetadata metadata) {
+		return SimpleReactiveArangoRepository.class;
+	}
+
+	@Override
+	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(
+			@Nullable final QueryLookupStrategy.Key key, final ValueExpressionDelegate delegate) {
+
+		if (key == null) {
+			return Optional.empty();
+		}
+		QueryLookupStrategy strategy = null;
+		switch (key) {
+		case CREATE_IF_NOT_FOUND:
+			strategy = new ReactiveArangoQueryLookupStrategy(operations, applicationContext);
+			break;
+		case CREATE:
+			break;
+		case USE_DECLARED_QUERY:
+			break;
+		}
+		return Optional.ofNullable(strategy);
+	}
+
+	static class ReactiveArangoQueryLookupStrategy implements QueryLookupStrategy {
+
+		private final ArangoAsyncOperations operations;
+		private final QueryLookupStrategy delegate;
+
+		public ReactiveArangoQueryLookupStrategy(final ArangoAsyncOperations operations,
+												 final ApplicationContext applicationContext) {
+			this.operations = operations;
+			this.delegate = new ArangoRepositoryFactory.DefaultArangoQueryLookupStrategy(operations.sync(),
+					applicationContext);
+		}
+
+		@Override
+		public RepositoryQuery resolveQuery(
+			final Method method,
+			final RepositoryMetadata metadata,
+			final ProjectionFactory factory,
+			final NamedQueries namedQueries) {
+
+			final AbstractArangoQuery query = (AbstractArangoQuery) delegate.resolveQuery(method, metadata, factory,
+				namedQueries);
+			return new ReactiveArangoQuery(query, operations);
+		}
+
+	}
+
+}
@@ -33,6 +33,7 @@ import com.arangodb.springframework.core.mapping.ArangoMappingContext;
 import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
 import com.arangodb.springframework.core.template.ArangoTemplate;
 import com.arangodb.springframework.core.util.AqlUtils;
+import com.arangodb.springframework.repository.query.ScrollSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.OptimisticLockingFailureException;
@@ -212,13 +213,16 @@ public class SimpleArangoRepository<T, ID> implements ArangoRepository<T, ID> {
 	}
 
 	/**
-	 * Deletes all the given documents from the database
+	 * Deletes all the given documents from the database with a query per batch of
+	 * entities, checking the revision of each entity. Entities modified or deleted
+	 * in the meantime are reported together with an
+	 * {@link OptimisticLockingFailureException} after the others were deleted.
 	 *
 	 * @param entities iterable of entities to be deleted from the database
 	 */
 	@Override
 	public void deleteAll(final Iterable<? extends T> entities) {
-		entities.forEach(this::delete);
+		arangoTemplate.deleteAllEntities(entities, domainClass);
 	}
 
 	/**
@@ -264,6 +268,20 @@ public class SimpleArangoRepository<T, ID> implements ArangoRepository<T, ID> {
 		return new PageImpl<>(content, pageable, ((Number) result.getStats().getFullCount()).longValue());
 	}
 
+	/**
+	 * Gets a window of the documents in the collection for the class type of this
+	 * repository, starting after the given position
+	 *
+	 * @param position the position to start after
+	 * @param sort     the sort of the documents
+	 * @param limit    the maximum size of the window
+	 * @return the window of documents
+	 */
+	@Override
+	public Window<T> findAll(final ScrollPosition position, final Sort sort, final Limit limit) {
+		return scrollInternal(position, sort, limit, null);
+	}
+
 	/**
 	 * Gets the name of the collection for this repository
 	 *
@@ -359,8 +377,24 @@ public class SimpleArangoRepository<T, ID> implements ArangoRepository<T, ID> {
 		return count(example) > 0;
 	}
 
-	public <S extends T, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
-		throw new UnsupportedOperationException();
+	/**
+	 * Runs the fluent query defined by the given function on the documents which
+	 * match with the given example. Sort, limit, projection and the terminal
+	 * operation are applied in the generated query.
+	 *
+	 * @param example       example object to construct query with
+	 * @param queryFunction defines the query and its result
+	 * @param <S>
+	 * @param <R>
+	 * @return the result of the query function
+	 */
+	@Override
+	public <S extends T, R> R findBy(final Example<S> example,
+			final Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+		@SuppressWarnings("unchecked")
+		final ArangoExampleConverter<S> converter = exampleConverter;
+		return queryFunction.apply(new FetchableFluentQueryByExample<>(arangoTemplate, converter, example,
+				example.getProbeType()));
 	}
 
 	private <S extends T> ArangoCursor<T> findAllInternal(final Sort sort, @Nullable final Example<S> example,
@@ -382,6 +416,18 @@ public class SimpleArangoRepository<T, ID> implements ArangoRepository<T, ID> {
 				pageable != null ? new AqlQueryOptions().fullCount(true) : null, domainClass);
 	}
 
+	private <S extends T> Window<T> scrollInternal(final ScrollPosition position, final Sort sort, final Limit limit,
+			@Nullable final Example<S> example) {
+		final ScrollSupport scroll = new ScrollSupport(converter, domainClass, position, sort, limit);
+		final Map<String, Object> bindVars = new HashMap<>();
+		bindVars.put("@col", getCollectionName());
+		final String query = String.format("FOR e IN @@col %s %s %s %s RETURN e",
+				buildFilterClause(example, bindVars), scroll.buildFilterClause("e", bindVars::put),
+				buildSortClause(scroll.getSort(), "e"), scroll.buildLimitClause());
+		arangoTemplate.collection(domainClass);
+		return scroll.toWindow(arangoTemplate.query(query, bindVars, null, domainClass).asListRemaining());
+	}
+
 	private <S extends T> String buildFilterClause(final Example<S> example, final Map<String, Object> bindVars) {
 		if (example == null) {
 			return "";
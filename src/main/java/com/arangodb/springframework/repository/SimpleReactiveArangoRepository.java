@@ -0,0 +1,309 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.model.DocumentDeleteOptions;
+import com.arangodb.springframework.core.ArangoAsyncOperations;
+import com.arangodb.springframework.core.DocumentNotFoundException;
+import com.arangodb.springframework.core.convert.ArangoConverter;
+import com.arangodb.springframework.core.mapping.ArangoMappingContext;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.util.AqlUtils;
+import com.arangodb.springframework.core.util.ArangoExceptionTranslator;
+import com.arangodb.springframework.repository.query.ReactiveArangoCursors;
+import org.reactivestreams.Publisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The implementation of all CRUD and sorting functionality in
+ * ReactiveArangoRepository from the Spring Data Commons reactive CRUD
+ * repository and reactive sorting repository
+ */
+@Repository
+public class SimpleReactiveArangoRepository<T, ID> implements ReactiveArangoRepository<T, ID> {
+
+	private static final ArangoExceptionTranslator EXCEPTION_TRANSLATOR = new ArangoExceptionTranslator();
+	private static final int DELETE_BATCH_SIZE = 1000;
+
+	private final ArangoAsyncOperations operations;
+	private final ArangoConverter converter;
+	private final ArangoMappingContext mappingContext;
+	private final Class<T> domainClass;
+	private final boolean returnOriginalEntities;
+	private final ArangoPersistentEntity<?> persistentEntity;
+
+	/**
+	 * @param operations             The asynchronous operations used to execute
+	 *                               the functionality of this class
+	 * @param domainClass            the class type of this repository
+	 * @param returnOriginalEntities whether save and saveAll should return the
+	 *                               original entities or new ones
+	 */
+	public SimpleReactiveArangoRepository(final ArangoAsyncOperations operations, final Class<T> domainClass,
+			final boolean returnOriginalEntities) {
+		super();
+		this.operations = operations;
+		this.domainClass = domainClass;
+		this.returnOriginalEntities = returnOriginalEntities;
+		converter = operations.sync().getConverter();
+		mappingContext = (ArangoMappingContext) converter.getMappingContext();
+		persistentEntity = mappingContext.getRequiredPersistentEntity(domainClass);
+	}
+
+	/**
+	 * Saves the passed entity to the database using repsert
+	 *
+	 * @param entity the entity to be saved to the database
+	 * @return the updated entity with any id/key/rev saved
+	 */
+	@Override
+	public <S extends T> Mono<S> save(final S entity) {
+		return Mono.fromFuture(() -> operations.repsert(entity))
+				.map(saved -> returnOriginalEntities ? entity : saved);
+	}
+
+	/**
+	 * Saves the given entities one after another
+	 *
+	 * @param entities the iterable of entities to be saved to the database
+	 * @return the updated entities with any id/key/rev saved in each entity
+	 */
+	@Override
+	public <S extends T> Flux<S> saveAll(final Iterable<S> entities) {
+		return Flux.fromIterable(entities).concatMap(this::save);
+	}
+
+	/**
+	 * Saves the emitted entities one after another
+	 *
+	 * @param entityStream the entities to be saved to the database
+	 * @return the updated entities with any id/key/rev saved in each entity
+	 */
+	@Override
+	public <S extends T> Flux<S> saveAll(final Publisher<S> entityStream) {
+		return Flux.from(entityStream).concatMap(this::save);
+	}
+
+	/**
+	 * Finds the document with the given id or key
+	 *
+	 * @param id the id of the document to search for
+	 * @return the object representing the document if found
+	 */
+	@Override
+	public Mono<T> findById(final ID id) {
+		return Mono.fromFuture(() -> operations.find(id, domainClass)).flatMap(Mono::justOrEmpty);
+	}
+
+	@Override
+	public Mono<T> findById(final Publisher<ID> id) {
+		return Mono.from(id).flatMap(this::findById);
+	}
+
+	/**
+	 * Checks if a document exists or not based on the given id or key
+	 *
+	 * @param id represents either the key or id of a document to check for
+	 * @return emits true if the document is found, false otherwise
+	 */
+	@Override
+	public Mono<Boolean> existsById(final ID id) {
+		return Mono.fromFuture(() -> operations.exists(id, domainClass));
+	}
+
+	@Override
+	public Mono<Boolean> existsById(final Publisher<ID> id) {
+		return Mono.from(id).flatMap(this::existsById);
+	}
+
+	/**
+	 * Gets all documents in the collection for the class type of this repository,
+	 * fetching the cursor batches on demand
+	 *
+	 * @return all the documents in the collection
+	 */
+	@Override
+	public Flux<T> findAll() {
+		return findAllInternal(null);
+	}
+
+	/**
+	 * Gets all documents in the collection for the class type of this repository,
+	 * with the given sort applied
+	 *
+	 * @param sort the sort object to use for sorting
+	 * @return all the documents in the collection
+	 */
+	@Override
+	public Flux<T> findAll(final Sort sort) {
+		return findAllInternal(sort);
+	}
+
+	/**
+	 * Finds all documents with an id or key in the argument
+	 *
+	 * @param ids an iterable with ids/keys of documents to get
+	 * @return the documents in the collection which have an id/key in the argument
+	 */
+	@Override
+	public Flux<T> findAllById(final Iterable<ID> ids) {
+		return Mono.fromFuture(() -> operations.findAll(ids, domainClass)).flatMapIterable(docs -> docs);
+	}
+
+	@Override
+	public Flux<T> findAllById(final Publisher<ID> idStream) {
+		return Flux.from(idStream).collectList().flatMapMany(this::findAllById);
+	}
+
+	/**
+	 * Counts the number of documents in the collection for the type of this
+	 * repository
+	 *
+	 * @return number of documents
+	 */
+	@Override
+	public Mono<Long> count() {
+		return Mono.fromFuture(() -> operations.count(domainClass));
+	}
+
+	/**
+	 * Deletes the document with the given id or key, missing documents are
+	 * silently ignored
+	 *
+	 * @param id id or key of document to be deleted
+	 */
+	@Override
+	public Mono<Void> deleteById(final ID id) {
+		return Mono.fromFuture(() -> operations.delete(id, domainClass))
+				.onErrorResume(DocumentNotFoundException.class, unknown -> Mono.empty())
+				.then();
+	}
+
+	@Override
+	public Mono<Void> deleteById(final Publisher<ID> id) {
+		return Mono.from(id).flatMap(this::deleteById);
+	}
+
+	/**
+	 * Deletes document in the database representing the given object, by getting
+	 * it's id
+	 *
+	 * @param entity the entity to be deleted from the database
+	 */
+	@Override
+	public Mono<Void> delete(final T entity) {
+		final Object id = persistentEntity.getIdentifierAccessor(entity).getRequiredIdentifier();
+		final DocumentDeleteOptions opts = new DocumentDeleteOptions();
+		persistentEntity.getRevProperty()
+				.map(persistentEntity.getPropertyAccessor(entity)::getProperty)
+				.map(r -> converter.convertIfNecessary(r, String.class))
+				.ifPresent(opts::ifMatch);
+
+		return Mono.fromFuture(() -> operations.delete(id, opts, domainClass))
+				.onErrorMap(DocumentNotFoundException.class, e -> new OptimisticLockingFailureException(e.getMessage(), e))
+				.then();
+	}
+
+	/**
+	 * Deletes all documents with the given ids with a request per batch of
+	 * {@value #DELETE_BATCH_SIZE} ids, ignoring ids without a document.
+	 *
+	 * @param ids the ids of the documents to be deleted
+	 */
+	@Override
+	public Mono<Void> deleteAllById(final Iterable<? extends ID> ids) {
+		return Flux.fromIterable(ids)
+				.buffer(DELETE_BATCH_SIZE)
+				.concatMap(batch -> Mono.fromFuture(
+						() -> operations.deleteAllById(batch, new DocumentDeleteOptions(), domainClass)))
+				.doOnNext(res -> {
+					for (final ErrorEntity error : res.getErrors()) {
+						// Entities that aren't found in the persistence store are silently ignored.
+						if (error.getErrorNum() != 1202) {
+							throw DataAccessUtils.translateIfNecessary(new ArangoDBException(error), EXCEPTION_TRANSLATOR);
+						}
+					}
+				})
+				.then();
+	}
+
+	/**
+	 * Deletes all the given documents with a query per batch of
+	 * {@value #DELETE_BATCH_SIZE} entities, checking the revision of each entity.
+	 *
+	 * @param entities the entities to be deleted from the database
+	 */
+	@Override
+	public Mono<Void> deleteAll(final Iterable<? extends T> entities) {
+		return deleteAll(Flux.fromIterable(entities));
+	}
+
+	/**
+	 * Deletes the emitted entities with a query per batch of
+	 * {@value #DELETE_BATCH_SIZE} entities, see
+	 * {@link ArangoAsyncOperations#deleteAllEntities(Iterable, Class)}. Entities
+	 * modified or deleted in the meantime are reported with an
+	 * {@link OptimisticLockingFailureException} after all batches.
+	 *
+	 * @param entityStream the entities to be deleted from the database
+	 */
+	@Override
+	public Mono<Void> deleteAll(final Publisher<? extends T> entityStream) {
+		return Flux.from(entityStream)
+				.buffer(DELETE_BATCH_SIZE)
+				.concatMap(batch -> Mono.fromFuture(() -> operations.deleteAllEntities(batch, domainClass))
+						.then(Mono.<OptimisticLockingFailureException>empty())
+						.onErrorResume(OptimisticLockingFailureException.class, Mono::just))
+				.reduce((conflict, next) -> {
+					conflict.addSuppressed(next);
+					return conflict;
+				})
+				.flatMap(conflict -> Mono.<Void>error(conflict));
+	}
+
+	/**
+	 * Deletes all documents in the collection for this repository
+	 */
+	@Override
+	public Mono<Void> deleteAll() {
+		return Mono.fromFuture(() -> operations.truncate(domainClass));
+	}
+
+	private Flux<T> findAllInternal(final Sort sort) {
+		final Map<String, Object> bindVars = new HashMap<>();
+		bindVars.put("@col", domainClass);
+		final String sortClause = sort == null ? ""
+				: AqlUtils.buildSortClause(AqlUtils.toPersistentSort(sort, mappingContext, domainClass), "e");
+		final String query = String.format("FOR e IN @@col %s RETURN e", sortClause);
+		return ReactiveArangoCursors.query(operations, query, bindVars, null, domainClass);
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.aot;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport.FragmentCreationContext;
+import org.springframework.data.util.Lazy;
+import org.springframework.util.Assert;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.template.ArangoTemplate;
+import com.arangodb.springframework.core.util.AqlUtils;
+import com.arangodb.springframework.repository.query.ArangoResultConverter;
+import com.arangodb.springframework.repository.query.StringBasedArangoQuery;
+
+/**
+ * Base class of the repository fragments generated ahead of time by {@link ArangoRepositoryContributor}. The
+ * generated methods bind their arguments to the precomputed query and execute it with the methods of this class,
+ * like {@link com.arangodb.springframework.repository.query.AbstractArangoQuery} does at runtime.
+ */
+public class ArangoAotRepositoryFragmentSupport {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ArangoAotRepositoryFragmentSupport.class);
+
+	private final ArangoOperations operations;
+	private final Class<?> domainClass;
+	private final Lazy<String> collectionName;
+
+	protected ArangoAotRepositoryFragmentSupport(final ArangoOperations operations,
+		final FragmentCreationContext context) {
+		Assert.notNull(operations, "ArangoOperations must not be null!");
+		Assert.notNull(context, "FragmentCreationContext must not be null!");
+		this.operations = operations;
+		this.domainClass = context.getRepositoryMetadata().getDomainType();
+		collectionName = Lazy.of(() -> AqlUtils.buildCollectionName(operations.collection(domainClass).name()));
+	}
+
+	/**
+	 * @return the given query with the collection of the domain class in place of
+	 *         {@link StringBasedArangoQuery#COLLECTION_PLACEHOLDER}
+	 */
+	protected String withCollection(final String query) {
+		return query.replace(StringBasedArangoQuery.COLLECTION_PLACEHOLDER, collectionName.get());
+	}
+
+	/**
+	 * Executes the given query and converts its result to the return type of the query method.
+	 *
+	 * @param query
+	 *            the query
+	 * @param bindVars
+	 *            the bound arguments
+	 * @param stream
+	 *            whether the results are consumed lazily
+	 * @param typeToRead
+	 *            the type of the documents
+	 * @param returnType
+	 *            the raw return type of the query method
+	 * @return the converted result
+	 */
+	protected Object query(
+		final String query,
+		final Map<String, Object> bindVars,
+		final boolean stream,
+		final Class<?> typeToRead,
+		final Class<?> returnType) {
+
+		final AqlQueryOptions options = new AqlQueryOptions();
+		if (stream) {
+			// results are consumed lazily, so the server does not need to materialize them
+			options.stream(true);
+		}
+		return convert(execute(query, bindVars, options, typeToRead), returnType);
+	}
+
+	/**
+	 * Executes the given query, which returns 1 if a document matches.
+	 */
+	protected boolean exists(final String query, final Map<String, Object> bindVars) {
+		final ArangoCursor<Integer> result = execute(query, bindVars, new AqlQueryOptions(), Integer.class);
+		return result.hasNext() && result.next() > 0;
+	}
+
+	/**
+	 * Executes the given query, which removes documents of the collection of the domain class, and evicts the cached
+	 * documents of the collection afterwards.
+	 */
+	protected Object delete(
+		final String query,
+		final Map<String, Object> bindVars,
+		final Class<?> typeToRead,
+		final Class<?> returnType) {
+
+		final ArangoCursor<?> result;
+		try {
+			result = execute(query, bindVars, new AqlQueryOptions(), typeToRead);
+		} finally {
+			if (operations instanceof ArangoTemplate template) {
+				template.cacheEviction(domainClass).run();
+			}
+		}
+		return convert(result, returnType);
+	}
+
+	private <T> ArangoCursor<T> execute(
+		final String query,
+		final Map<String, Object> bindVars,
+		final AqlQueryOptions options,
+		final Class<T> typeToRead) {
+
+		final ArangoCursor<T> result = operations.query(query, bindVars, options, typeToRead);
+		result.getWarnings().forEach(warning -> {
+			LOGGER.warn("Query warning at [" + query + "]: " + warning.getCode() + " - " + warning.getMessage());
+		});
+		return result;
+	}
+
+	private Object convert(final ArangoCursor<?> result, final Class<?> returnType) {
+		// pages, slices and geo results, which need the arguments, are not generated ahead of time
+		return new ArangoResultConverter<>(null, result, operations, domainClass).convertResult(returnType);
+	}
+
+}
@@ -0,0 +1,263 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.aot;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.data.repository.aot.generate.AotQueryMethodGenerationContext;
+import org.springframework.data.repository.aot.generate.AotRepositoryClassBuilder;
+import org.springframework.data.repository.aot.generate.AotRepositoryConstructorBuilder;
+import org.springframework.data.repository.aot.generate.MethodContributor;
+import org.springframework.data.repository.aot.generate.RepositoryContributor;
+import org.springframework.data.repository.config.AotRepositoryContext;
+import org.springframework.data.repository.config.RepositoryConfigurationSource;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport.FragmentCreationContext;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.javapoet.TypeName;
+import org.springframework.lang.Nullable;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.springframework.annotation.Document;
+import com.arangodb.springframework.annotation.Edge;
+import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.convert.ArangoCustomConversions;
+import com.arangodb.springframework.core.mapping.ArangoMappingContext;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.repository.ArangoRepositoryConfigurationExtension;
+import com.arangodb.springframework.repository.query.ArangoParametersParameterAccessor;
+import com.arangodb.springframework.repository.query.ArangoQueryMethod;
+import com.arangodb.springframework.repository.query.StringBasedArangoQuery;
+import com.arangodb.springframework.repository.query.derived.BindParameterBinding;
+import com.arangodb.springframework.repository.query.derived.DerivedQueryCreator;
+
+/**
+ * Generates the query methods of a repository ahead of time. The AQL of named queries, {@code @Query} annotations and
+ * derived queries is created at build time, the generated methods only bind their arguments and execute it with
+ * {@link ArangoAotRepositoryFragmentSupport}.
+ * <p>
+ * Queries which depend on more than their arguments are left to the query lookup at runtime, i.e. methods with
+ * {@link org.springframework.data.domain.Pageable}, {@link org.springframework.data.domain.Sort}, {@code @BindVars},
+ * {@code @QueryOptions} or other special parameters, page, slice, scroll and geospatial queries, projections, arrays
+ * and queries or collection names containing SpEL expressions.
+ */
+public class ArangoRepositoryContributor extends RepositoryContributor {
+
+	private static final String EXPRESSION_PREFIX = "#{";
+
+	private final ArangoMappingContext mappingContext;
+	private final NamedQueries namedQueries;
+
+	public ArangoRepositoryContributor(final AotRepositoryContext repositoryContext) {
+		super(repositoryContext);
+		mappingContext = new ArangoMappingContext();
+		mappingContext
+				.setSimpleTypeHolder(new ArangoCustomConversions(Collections.emptyList()).getSimpleTypeHolder());
+		namedQueries = loadNamedQueries(repositoryContext);
+	}
+
+	@Override
+	protected void customizeClass(final AotRepositoryClassBuilder builder) {
+		builder.customize(type -> type.superclass(ArangoAotRepositoryFragmentSupport.class));
+	}
+
+	@Override
+	protected void customizeConstructor(final AotRepositoryConstructorBuilder builder) {
+		builder.addParameter("operations", ArangoOperations.class, false);
+		builder.addParameter("context", FragmentCreationContext.class, false);
+		builder.customize(body -> body.addStatement("super(operations, context)"));
+	}
+
+	@Override
+	@Nullable
+	protected MethodContributor<ArangoQueryMethod> contributeQueryMethod(final Method method) {
+		final ArangoQueryMethod queryMethod = new ArangoQueryMethod(method, getRepositoryInformation(),
+				getProjectionFactory());
+		if (!isContributable(queryMethod)) {
+			return null;
+		}
+
+		final String namedQueryName = queryMethod.getNamedQueryName();
+		if (namedQueries.hasQuery(namedQueryName)) {
+			return contributeStringQuery(queryMethod, namedQueries.getQuery(namedQueryName));
+		} else if (queryMethod.hasAnnotatedQuery()) {
+			return contributeStringQuery(queryMethod, queryMethod.getAnnotatedQuery());
+		} else {
+			return contributeDerivedQuery(queryMethod);
+		}
+	}
+
+	private static boolean isContributable(final ArangoQueryMethod method) {
+		final Class<?> returnType = method.getReturnType().getType();
+		return method.getParameters().getBindableParameters().getNumberOfParameters() == method.getParameters()
+				.getNumberOfParameters() && !method.hasAnnotatedQueryOptions() && !method.isGeoQuery()
+				&& !method.isPageQuery() && !method.isSliceQuery() && !method.isScrollQuery()
+				&& !method.getResultProcessor().getReturnedType().isProjecting() && !returnType.isArray()
+				&& returnType != ArangoCursor.class;
+	}
+
+	@Nullable
+	private MethodContributor<ArangoQueryMethod> contributeStringQuery(
+		final ArangoQueryMethod method,
+		final String query) {
+
+		if (query.contains(EXPRESSION_PREFIX)) {
+			return null;
+		}
+		final String[] bindVarNames = StringBasedArangoQuery.getBindVarNames(method, query);
+		final boolean collection = query.contains(StringBasedArangoQuery.COLLECTION_PLACEHOLDER);
+
+		return MethodContributor.forQueryMethod(method).withMetadata(() -> Map.of("query", query)).contribute(ctx -> {
+			final String bindVars = ctx.localVariable("bindVars");
+			final CodeBlock.Builder body = CodeBlock.builder();
+			body.addStatement("$T<$T, $T> $L = new $T<>()", Map.class, String.class, Object.class, bindVars,
+				HashMap.class);
+			for (int i = 0; i < bindVarNames.length; ++i) {
+				body.addStatement("$L.put($S, $L)", bindVars, bindVarNames[i], ctx.getBindableParameterName(i));
+			}
+			final CodeBlock queryLiteral = collection ? CodeBlock.of("withCollection($S)", query)
+					: CodeBlock.of("$S", query);
+			return body.add(execute(ctx, method, queryLiteral, bindVars, false, false)).build();
+		});
+	}
+
+	@Nullable
+	private MethodContributor<ArangoQueryMethod> contributeDerivedQuery(final ArangoQueryMethod method) {
+		final Class<?> domainClass = method.getEntityInformation().getJavaType();
+		final PartTree tree = new PartTree(method.getName(), domainClass);
+		if (!DerivedQueryCreator.hasArgumentIndependentQuery(tree)) {
+			return null;
+		}
+
+		// the query text does not depend on the arguments, they are only bound to the numbered parameters
+		final Object[] arguments = new Object[method.getParameters().getNumberOfParameters()];
+		Arrays.fill(arguments, "");
+		final String query = new DerivedQueryCreator(mappingContext, domainClass, tree,
+				new ArangoParametersParameterAccessor(method, arguments),
+				new BindParameterBinding(new HashMap<>()), Collections.emptyList(),
+				new DerivedQueryCreator.Options().pageableLookahead(0).resultType(method.getReturnedObjectType()))
+				.createQuery();
+		if (hasCollectionExpression()) {
+			return null;
+		}
+
+		return MethodContributor.forQueryMethod(method).withMetadata(() -> Map.of("query", query)).contribute(ctx -> {
+			final String bindVars = ctx.localVariable("bindVars");
+			final String binding = ctx.localVariable("binding");
+			final CodeBlock.Builder body = CodeBlock.builder();
+			body.addStatement("$T<$T, $T> $L = new $T<>()", Map.class, String.class, Object.class, bindVars,
+				HashMap.class);
+			if (!ctx.getBindableParameterNames().isEmpty()) {
+				body.addStatement("$T $L = new $T($L)", BindParameterBinding.class, binding,
+					BindParameterBinding.class, bindVars);
+			}
+			int index = 0;
+			for (final Part part : tree.getParts()) {
+				final Boolean borderStatus = part.getType() == Part.Type.STARTING_WITH ? Boolean.TRUE
+						: part.getType() == Part.Type.ENDING_WITH ? Boolean.FALSE : null;
+				for (int i = 0; i < part.getNumberOfArguments(); ++i) {
+					body.addStatement("$L.bind($L, $L, $L, $L)", binding, ctx.getBindableParameterName(index),
+						DerivedQueryCreator.shouldIgnoreCase(part), borderStatus, index);
+					++index;
+				}
+			}
+			return body.add(execute(ctx, method, CodeBlock.of("$S", query), bindVars, tree.isExistsProjection(),
+				tree.isDelete())).build();
+		});
+	}
+
+	private static CodeBlock execute(
+		final AotQueryMethodGenerationContext ctx,
+		final ArangoQueryMethod method,
+		final CodeBlock query,
+		final String bindVars,
+		final boolean exists,
+		final boolean delete) {
+
+		if (exists) {
+			return CodeBlock.builder().addStatement("return exists($L, $L)", query, bindVars).build();
+		}
+		final ReturnedType returnedType = method.getResultProcessor().getReturnedType();
+		final Class<?> typeToRead = returnedType.getTypeToRead() != null ? returnedType.getTypeToRead() : Map.class;
+		final Class<?> returnType = method.getReturnType().getType();
+		final CodeBlock execution = delete
+				? CodeBlock.of("delete($L, $L, $T.class, $T.class)", query, bindVars, typeToRead, returnType)
+				: CodeBlock.of("query($L, $L, $L, $T.class, $T.class)", query, bindVars, method.isStreamQuery(),
+					typeToRead, returnType);
+		if (ctx.getMethodReturn().isVoid()) {
+			return CodeBlock.builder().addStatement(execution).build();
+		}
+		final TypeName type = ctx.getMethodReturn().getTypeName();
+		return CodeBlock.builder().addStatement("return ($T) $L", type.isPrimitive() ? type.box() : type, execution)
+				.build();
+	}
+
+	/**
+	 * @return whether the collection of an entity read by the created queries is resolved by a SpEL expression at
+	 *         runtime
+	 */
+	private boolean hasCollectionExpression() {
+		for (final ArangoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+			final Document document = AnnotatedElementUtils.findMergedAnnotation(entity.getType(), Document.class);
+			final Edge edge = AnnotatedElementUtils.findMergedAnnotation(entity.getType(), Edge.class);
+			if (document != null && document.value().contains(EXPRESSION_PREFIX)
+					|| edge != null && edge.value().contains(EXPRESSION_PREFIX)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static NamedQueries loadNamedQueries(final AotRepositoryContext repositoryContext) {
+		final RepositoryConfigurationSource source = repositoryContext.getConfigurationSource();
+		final String location = (source != null ? source.getNamedQueryLocation() : Optional.<String> empty())
+				.orElseGet(() -> new ArangoRepositoryConfigurationExtension().getDefaultNamedQueryLocation());
+		final Properties properties = new Properties();
+		try {
+			final List<Resource> resources = List
+					.of(new PathMatchingResourcePatternResolver(repositoryContext.getClassLoader())
+							.getResources(location));
+			for (final Resource resource : resources) {
+				PropertiesLoaderUtils.fillProperties(properties, resource);
+			}
+		} catch (final IOException e) {
+			throw new IllegalStateException("Could not read named queries from " + location, e);
+		}
+		return new PropertiesBasedNamedQueries(properties);
+	}
+
+}
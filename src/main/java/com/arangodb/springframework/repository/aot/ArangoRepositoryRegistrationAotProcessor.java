@@ -0,0 +1,45 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.aot;
+
+import org.springframework.data.repository.aot.generate.RepositoryContributor;
+import org.springframework.data.repository.config.AotRepositoryContext;
+import org.springframework.data.repository.config.RepositoryRegistrationAotProcessor;
+import org.springframework.lang.Nullable;
+
+/**
+ * Contributes the generated query methods of the ArangoDB repositories, unless disabled by
+ * {@code spring.aot.arangodb.repositories.enabled=false} or {@code spring.aot.repositories.enabled=false}.
+ */
+public class ArangoRepositoryRegistrationAotProcessor extends RepositoryRegistrationAotProcessor {
+
+	private static final String MODULE_NAME = "ArangoDB";
+
+	@Override
+	@Nullable
+	protected RepositoryContributor contributeAotRepository(final AotRepositoryContext repositoryContext) {
+		if (!repositoryContext.isGeneratedRepositoriesEnabled(MODULE_NAME)) {
+			return null;
+		}
+		return new ArangoRepositoryContributor(repositoryContext);
+	}
+
+}
@@ -28,13 +28,17 @@ import com.arangodb.springframework.core.mapping.ArangoMappingContext;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import com.arangodb.ArangoCursor;
 import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.convert.resolver.ReferencePrefetch;
+import com.arangodb.springframework.core.template.ArangoTemplate;
 
 /**
  * 
@@ -65,7 +69,28 @@ public abstract class AbstractArangoQuery implements RepositoryQuery {
 	public Object execute(final Object[] parameters) {
 		final ArangoParameterAccessor accessor = new ArangoParametersParameterAccessor(method, parameters);
 		final Map<String, Object> bindVars = new HashMap<>();
+		final AqlQueryOptions options = createQueryOptions(accessor);
 
+		final String query = createQuery(accessor, bindVars, options);
+
+		final ResultProcessor processor = method.getResultProcessor().withDynamicProjection(accessor);
+		final Class<?> typeToRead = getTypeToRead(processor);
+
+		final ArangoCursor<?> result;
+		try {
+			result = method.isPrefetchReferences()
+					? ReferencePrefetch.withAllReferences(() -> operations.query(query, bindVars, options, typeToRead))
+					: operations.query(query, bindVars, options, typeToRead);
+		} finally {
+			if (isDeleteQuery()) {
+				cacheEviction().run();
+			}
+		}
+		logWarningsIfNecessary(result);
+		return processor.processResult(convertResult(result, accessor));
+	}
+
+	AqlQueryOptions createQueryOptions(final ArangoParameterAccessor accessor) {
 		AqlQueryOptions options = mergeQueryOptions(method.getAnnotatedQueryOptions(), accessor.getQueryOptions());
 		if (options == null) {
 			options = new AqlQueryOptions();
@@ -74,15 +99,11 @@ public abstract class AbstractArangoQuery implements RepositoryQuery {
 		if (method.isPageQuery()) {
 			options.fullCount(true);
 		}
-
-		final String query = createQuery(accessor, bindVars, options);
-
-		final ResultProcessor processor = method.getResultProcessor().withDynamicProjection(accessor);
-		final Class<?> typeToRead = getTypeToRead(processor);
-
-		final ArangoCursor<?> result = operations.query(query, bindVars, options, typeToRead);
-		logWarningsIfNecessary(result);
-		return processor.processResult(convertResult(result, accessor));
+		if (method.isStreamQuery() && options.getStream() == null) {
+			// results are consumed lazily, so the server does not need to materialize them
+			options.stream(true);
+		}
+		return options;
 	}
 
 	private void logWarningsIfNecessary(final ArangoCursor<?> result) {
@@ -114,8 +135,38 @@ public abstract class AbstractArangoQuery implements RepositoryQuery {
 		Map<String, Object> bindVars,
 		AqlQueryOptions options);
 
+	/**
+	 * @param accessor
+	 *            provides access to the actual arguments
+	 * @return the scroll support of a query method returning a {@link Window}, null for other query methods
+	 */
+	@Nullable
+	ScrollSupport createScrollSupport(final ArangoParameterAccessor accessor) {
+		return null;
+	}
+
 	protected abstract boolean isCountQuery();
 
+	/**
+	 * @return whether the query removes documents of the collection of the domain class, whose cached documents (see
+	 *         {@link com.arangodb.springframework.annotation.EntityCache}) are evicted after executing the query
+	 */
+	protected boolean isDeleteQuery() {
+		return false;
+	}
+
+	/**
+	 * Resolves the collection of the domain class on the calling thread, e.g. by its tenant, and returns the eviction
+	 * of its cached documents, which may run on another thread.
+	 */
+	Runnable cacheEviction() {
+		if (operations instanceof ArangoTemplate template) {
+			return template.cacheEviction(domainClass);
+		}
+		return () -> {
+		};
+	}
+
 	protected abstract boolean isExistsQuery();
 
 	/**
@@ -181,7 +232,7 @@ public abstract class AbstractArangoQuery implements RepositoryQuery {
 		return mergedOptions;
 	}
 
-	private Class<?> getTypeToRead(final ResultProcessor processor) {
+	Class<?> getTypeToRead(final ResultProcessor processor) {
 		if (isExistsQuery()) {
 			return Integer.class;
 		}
@@ -190,6 +241,11 @@ public abstract class AbstractArangoQuery implements RepositoryQuery {
 			return JsonNode.class;
 		}
 
+		if (method.isScrollQuery()) {
+			// the keys of the window positions are read from the entities, projections are applied afterwards
+			return domainClass;
+		}
+
 		final Class<?> typeToRead = processor.getReturnedType().getTypeToRead();
 		return typeToRead != null ? typeToRead : Map.class;
 	}
@@ -201,6 +257,10 @@ public abstract class AbstractArangoQuery implements RepositoryQuery {
 			}
 			return (Integer) result.next() > 0;
 		}
+		final ScrollSupport scroll = createScrollSupport(accessor);
+		if (scroll != null) {
+			return scroll.toWindow(result.asListRemaining());
+		}
 		final ArangoResultConverter<?> resultConverter = new ArangoResultConverter<>(accessor, result, operations, domainClass);
 		return resultConverter.convertResult(method.getReturnType().getType());
 	}
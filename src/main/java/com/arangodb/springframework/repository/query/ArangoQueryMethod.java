@@ -133,6 +133,11 @@ public class ArangoQueryMethod extends QueryMethod {
 		return options;
 	}
 
+	public boolean isPrefetchReferences() {
+		final QueryOptions queryOptions = getQueryOptionsAnnotation();
+		return queryOptions != null && queryOptions.prefetchReferences();
+	}
+
 	public QueryOptions getQueryOptionsAnnotation() {
 		return AnnotatedElementUtils.findMergedAnnotation(method, QueryOptions.class);
 	}
@@ -27,12 +27,15 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.GeoPage;
 import org.springframework.data.geo.GeoResult;
@@ -96,10 +99,14 @@ public class ArangoResultConverter<T> {
             return convertArray();
         } else if (List.class.equals(type) || Iterable.class.equals(type) || Collection.class.equals(type)) {
             return convertList();
-        } else if (Page.class.equals(type) || Slice.class.equals(type)) {
+        } else if (Page.class.equals(type)) {
             return convertPage();
+        } else if (Slice.class.equals(type)) {
+            return convertSlice();
         } else if (Set.class.equals(type)) {
             return convertSet();
+        } else if (Stream.class.equals(type)) {
+            return convertStream();
         } else if (ArangoCursor.class.equals(type)) {
             return convertArangoCursor();
         } else if (GeoResult.class.equals(type)) {
@@ -173,10 +180,30 @@ public class ArangoResultConverter<T> {
 		return new PageImpl<>(result.asListRemaining(), accessor.getPageable(), ((Number) result.getStats().getFullCount()).longValue());
 	}
 
+	/**
+	 * The query is expected to read one document beyond the requested slice, which is only used to determine whether
+	 * a next slice exists.
+	 */
+	public SliceImpl<?> convertSlice() {
+		return buildSlice(result.asListRemaining(), accessor.getPageable());
+	}
+
+	private static <T> SliceImpl<T> buildSlice(final List<T> content, final Pageable pageable) {
+		final boolean hasNext = pageable.isPaged() && content.size() > pageable.getPageSize();
+		return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+	}
+
 	public Set<?> convertSet() {
 		return buildSet(result);
 	}
 
+	/**
+	 * The returned stream fetches the remaining batches lazily and closes the cursor when it is closed.
+	 */
+	public Stream<?> convertStream() {
+		return result.stream();
+	}
+
 	public ArangoCursor<?> convertArangoCursor() {
 		return result;
 	}
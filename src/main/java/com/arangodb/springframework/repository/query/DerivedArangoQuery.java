@@ -25,12 +25,33 @@ import com.arangodb.entity.IndexType;
 import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.springframework.core.ArangoOperations;
 import com.arangodb.springframework.repository.query.derived.BindParameterBinding;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.springframework.core.util.AqlUtils;
 import com.arangodb.springframework.repository.query.derived.DerivedQueryCreator;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.util.Lazy;
+import org.springframework.lang.Nullable;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  *
@@ -41,13 +62,31 @@ import java.util.Map;
  */
 public class DerivedArangoQuery extends AbstractArangoQuery {
 
+    /**
+     * Upper bound of distinct sorts whose queries are cached per method
+     */
+    private static final int MAX_CACHED_QUERIES = 64;
+
+    /**
+     * Attributes which are always part of pushed down projections
+     */
+    private static final List<String> SYSTEM_FIELDS = Arrays.asList("_key", "_id", "_rev", "_from", "_to");
+
     private final PartTree tree;
-    private final List<String> geoFields;
+    private final Lazy<List<String>> geoFields;
+    private final boolean cacheable;
+    private final int pageableLookahead;
+    private final Map<List<Object>, QueryTemplate> queryTemplates;
 
     public DerivedArangoQuery(final ArangoQueryMethod method, final ArangoOperations operations) {
         super(method, operations);
         tree = new PartTree(method.getName(), domainClass);
-        geoFields = getGeoFields();
+        // the geo indexes are only read with the first invocation, saving a request per method at startup
+        geoFields = Lazy.of(this::getGeoFields);
+        cacheable = !method.isGeoQuery() && !method.isScrollQuery()
+                && DerivedQueryCreator.hasArgumentIndependentQuery(tree);
+        queryTemplates = new ConcurrentHashMap<>();
+        pageableLookahead = method.isSliceQuery() ? 1 : 0;
     }
 
     @Override
@@ -56,8 +95,103 @@ public class DerivedArangoQuery extends AbstractArangoQuery {
             final Map<String, Object> bindVars,
             final AqlQueryOptions options) {
 
-        return new DerivedQueryCreator(mappingContext, domainClass, tree, accessor, new BindParameterBinding(bindVars),
-                geoFields).createQuery();
+        final BindParameterBinding binding = new BindParameterBinding(bindVars);
+        final ReturnedType returnedType = method.getResultProcessor().withDynamicProjection(accessor).getReturnedType();
+        if (!cacheable) {
+            final ScrollSupport scroll = createScrollSupport(accessor);
+            return new DerivedQueryCreator(mappingContext, domainClass, tree, accessor, binding, geoFields.get(),
+                    options(returnedType, scroll)).createQuery();
+        }
+
+        // the query only varies with the sort, the pageable and the projection, the arguments just need to be bound
+        final List<Object> key = Arrays.asList(accessor.getSort(), returnedType.getReturnedType());
+        final QueryTemplate cached = queryTemplates.get(key);
+        if (cached != null) {
+            DerivedQueryCreator.bindArguments(tree, accessor, binding);
+            return cached.render(accessor.getPageable(), pageableLookahead);
+        }
+
+        final DerivedQueryCreator creator = new DerivedQueryCreator(mappingContext, domainClass, tree, accessor,
+                binding, geoFields.get(), options(returnedType, null));
+        final String query = creator.createQuery();
+        if (queryTemplates.size() < MAX_CACHED_QUERIES) {
+            queryTemplates.putIfAbsent(key, new QueryTemplate(query.substring(0, creator.getPageableClauseStart()),
+                    query.substring(creator.getPageableClauseEnd())));
+        }
+        return query;
+    }
+
+    @Override
+    ScrollSupport createScrollSupport(final ArangoParameterAccessor accessor) {
+        if (!method.isScrollQuery()) {
+            return null;
+        }
+        final ScrollPosition position = accessor.getScrollPosition();
+        final Limit limit = tree.isLimiting() ? Limit.of(tree.getMaxResults()) : accessor.getLimit();
+        return new ScrollSupport(operations.getConverter(), domainClass,
+                position != null ? position : ScrollPosition.keyset(), tree.getSort().and(accessor.getSort()), limit);
+    }
+
+    @Override
+    Class<?> getTypeToRead(final ResultProcessor processor) {
+        final Class<?> typeToRead = super.getTypeToRead(processor);
+        // pushed down interface projections are backed by the partially read entity
+        return typeToRead == Map.class && isProjectionPushedDown(processor.getReturnedType()) ? domainClass
+                : typeToRead;
+    }
+
+    private boolean isProjectionPushedDown(final ReturnedType returnedType) {
+        if (!returnedType.isProjecting() || isCountQuery() || isExistsQuery() || tree.isDelete()
+                || method.isGeoQuery()) {
+            return false;
+        }
+        // closed interface projections are read as entities, DTOs directly unless the entity is needed for scrolling
+        return returnedType.getReturnedType().isInterface() ? !getProjectedProperties(returnedType).isEmpty()
+                : !method.isScrollQuery();
+    }
+
+    private List<String> getProjectedProperties(final ReturnedType returnedType) {
+        final ArangoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(domainClass);
+        final List<String> properties = new ArrayList<>();
+        for (final String property : returnedType.getInputProperties()) {
+            if (entity.getPersistentProperty(property.split("\\.", 2)[0]) != null) {
+                properties.add(property);
+            }
+        }
+        return properties;
+    }
+
+    private DerivedQueryCreator.Options options(final ReturnedType returnedType, @Nullable final ScrollSupport scroll) {
+        return new DerivedQueryCreator.Options().scroll(scroll).pageableLookahead(pageableLookahead)
+                .projection(createProjection(returnedType, scroll)).resultType(method.getReturnedObjectType());
+    }
+
+    /**
+     * @return the object literal containing only the attributes read by the projection, null if the whole document
+     *         is read
+     */
+    @Nullable
+    private String createProjection(final ReturnedType returnedType, @Nullable final ScrollSupport scroll) {
+        if (!isProjectionPushedDown(returnedType)) {
+            return null;
+        }
+        final Set<String> fields = new LinkedHashSet<>(SYSTEM_FIELDS);
+        final Class<?> projection = returnedType.getReturnedType();
+        if (!projection.isInterface()) {
+            mappingContext.getRequiredPersistentEntity(projection)
+                    .doWithProperties((PropertyHandler<ArangoPersistentProperty>) p -> fields.add(p.getFieldName()));
+            return AqlUtils.buildProjection(Collections.emptyList(), fields, mappingContext, domainClass, "e");
+        }
+
+        final ObjectNode typeInformation = JsonNodeFactory.instance.objectNode();
+        operations.getConverter().getTypeMapper().writeType(domainClass, typeInformation);
+        typeInformation.fieldNames().forEachRemaining(fields::add);
+        final List<String> properties = getProjectedProperties(returnedType);
+        if (scroll != null) {
+            // the keys of the window positions are read from the entities
+            scroll.getSort().forEach(order -> properties.add(order.getProperty()));
+        }
+        return AqlUtils.buildProjection(properties, fields, mappingContext, domainClass, "e");
     }
 
     @Override
@@ -70,6 +204,11 @@ public class DerivedArangoQuery extends AbstractArangoQuery {
         return tree.isExistsProjection();
     }
 
+    @Override
+    protected boolean isDeleteQuery() {
+        return tree.isDelete();
+    }
+
     private List<String> getGeoFields() {
         final List<String> geoFields = new LinkedList<>();
         if (method.isGeoQuery()) {
@@ -82,4 +221,26 @@ public class DerivedArangoQuery extends AbstractArangoQuery {
         return geoFields;
     }
 
+    /**
+     * Query text of a derived query with a gap for the pageable limit clause
+     */
+    private static final class QueryTemplate {
+
+        private final String beforeLimit;
+        private final String afterLimit;
+
+        QueryTemplate(final String beforeLimit, final String afterLimit) {
+            this.beforeLimit = beforeLimit;
+            this.afterLimit = afterLimit;
+        }
+
+        String render(final Pageable pageable, final int lookahead) {
+            if (pageable == null || !pageable.isPaged()) {
+                return beforeLimit + afterLimit;
+            }
+            return beforeLimit + " " + AqlUtils.buildLimitClause(pageable, lookahead) + afterLimit;
+        }
+
+    }
+
 }
@@ -0,0 +1,89 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.query;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.arangodb.ArangoCursorAsync;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.springframework.core.ArangoAsyncOperations;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Exposes AQL query results as {@link Flux}, fetching cursor batches on demand.
+ */
+public final class ReactiveArangoCursors {
+
+	private ReactiveArangoCursors() {
+	}
+
+	/**
+	 * Performs the given query lazily on subscription. The next batch is only requested from the server once the
+	 * subscriber has demand for the results of the current one, so at most one batch is buffered ahead of the
+	 * subscriber. Cancelling the subscription or a failure closes the server side cursor. The documents are read by
+	 * {@link ArangoAsyncOperations#read(List, Class)}, off the threads of the driver.
+	 *
+	 * @param operations
+	 *            the operations executing the query
+	 * @param query
+	 *            An AQL query string
+	 * @param bindVars
+	 *            key/value pairs defining the variables to bind the query to
+	 * @param options
+	 *            Additional options that will be passed to the query API, can be null
+	 * @param entityClass
+	 *            The entity type of the result
+	 * @return the results
+	 */
+	public static <T> Flux<T> query(
+		final ArangoAsyncOperations operations,
+		final String query,
+		final Map<String, Object> bindVars,
+		final AqlQueryOptions options,
+		final Class<T> entityClass) {
+
+		return Flux.defer(() -> {
+			final AtomicReference<ArangoCursorAsync<JsonNode>> current = new AtomicReference<>();
+			return Mono.fromFuture(() -> operations.cursor(query, bindVars, options, JsonNode.class))
+					.expand(cursor -> Boolean.TRUE.equals(cursor.hasMore())
+							? Mono.fromFuture(() -> operations.nextBatch(cursor))
+							: Mono.empty())
+					.doOnNext(current::set)
+					.concatMap(cursor -> Mono.fromFuture(() -> operations.read(cursor.getResult(), entityClass)), 1)
+					.concatMapIterable(results -> results, 1)
+					// closes nothing once the last batch was fetched
+					.doFinally(signal -> close(current.get()));
+		});
+	}
+
+	private static void close(final ArangoCursorAsync<?> cursor) {
+		if (cursor != null && Boolean.TRUE.equals(cursor.hasMore())) {
+			// the cursor expires on the server anyway, failures are not worth surfacing
+			cursor.close().exceptionally(e -> null);
+		}
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.query;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.util.Assert;
+
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.springframework.core.ArangoAsyncOperations;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Executes a derived or string based query method returning {@link Flux} or {@link reactor.core.publisher.Mono}. The
+ * AQL is created by the given blocking query, the results are fetched through the {@link ArangoAsyncOperations}.
+ * Paging with {@link org.springframework.data.domain.Pageable}, {@link org.springframework.data.domain.Page} or
+ * {@link org.springframework.data.domain.Slice} is not supported.
+ *
+ * @see ReactiveArangoCursors
+ */
+public class ReactiveArangoQuery implements RepositoryQuery {
+
+	private final AbstractArangoQuery query;
+	private final ArangoAsyncOperations operations;
+
+	public ReactiveArangoQuery(final AbstractArangoQuery query, final ArangoAsyncOperations operations) {
+		Assert.notNull(query, "AbstractArangoQuery must not be null!");
+		Assert.notNull(operations, "ArangoAsyncOperations must not be null!");
+		final ArangoQueryMethod method = query.getQueryMethod();
+		if (method.isPageQuery() || method.isSliceQuery() || method.getParameters().hasPageableParameter()) {
+			throw new UnsupportedOperationException(
+				String.format("Paging is not supported by reactive query methods, found on %s", method));
+		}
+		this.query = query;
+		this.operations = operations;
+	}
+
+	@Override
+	public Object execute(final Object[] parameters) {
+		final ArangoQueryMethod method = query.getQueryMethod();
+		final ArangoParameterAccessor accessor = new ArangoParametersParameterAccessor(method, parameters);
+		final Map<String, Object> bindVars = new HashMap<>();
+		final AqlQueryOptions options = query.createQueryOptions(accessor);
+
+		final String aql = query.createQuery(accessor, bindVars, options);
+
+		final ResultProcessor processor = method.getResultProcessor().withDynamicProjection(accessor);
+		final Flux<?> cursor = ReactiveArangoCursors.query(operations, aql, bindVars, options,
+			query.getTypeToRead(processor));
+		final Flux<?> results;
+		if (query.isDeleteQuery()) {
+			final Runnable eviction = query.cacheEviction();
+			results = cursor.doFinally(signal -> eviction.run());
+		} else {
+			results = cursor;
+		}
+
+		final Object result;
+		if (query.isExistsQuery()) {
+			result = results.next().map(count -> ((Number) count).intValue() > 0).defaultIfEmpty(false);
+		} else if (Flux.class.isAssignableFrom(method.getReturnType().getType())) {
+			result = results;
+		} else {
+			result = results.next();
+		}
+		return processor.processResult(result);
+	}
+
+	@Override
+	public ArangoQueryMethod getQueryMethod() {
+		return query.getQueryMethod();
+	}
+
+}
@@ -0,0 +1,236 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.arangodb.springframework.core.convert.ArangoConverter;
+import com.arangodb.springframework.core.mapping.ArangoMappingContext;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.springframework.core.util.AqlUtils;
+
+/**
+ * Translates a {@link ScrollPosition} into the clauses of an AQL query and the query results into a {@link Window}.
+ * <p>
+ * Keyset positions are resolved by filtering on the sort keys, with {@code _key} appended as tiebreaker, so that
+ * scrolling does not need to skip over the preceding documents. One more document than requested is read to tell
+ * whether a next window exists.
+ */
+public class ScrollSupport {
+
+	private static final String BIND_VAR_PREFIX = "scroll";
+
+	private final ArangoConverter converter;
+	private final ArangoMappingContext context;
+	private final ArangoPersistentEntity<?> entity;
+	private final ScrollPosition position;
+	private final Sort sort;
+	@Nullable
+	private final Integer limit;
+
+	/**
+	 * @param converter
+	 *            converter to map the keys of the results
+	 * @param domainClass
+	 *            the type of the scrolled documents
+	 * @param position
+	 *            the position to continue from
+	 * @param sort
+	 *            the sort of the documents
+	 * @param limit
+	 *            the maximum size of the window
+	 */
+	public ScrollSupport(final ArangoConverter converter, final Class<?> domainClass, final ScrollPosition position,
+		final Sort sort, final Limit limit) {
+		Assert.notNull(position, "ScrollPosition must not be null!");
+		Assert.notNull(sort, "Sort must not be null!");
+		Assert.notNull(limit, "Limit must not be null!");
+		this.converter = converter;
+		context = (ArangoMappingContext) converter.getMappingContext();
+		entity = context.getRequiredPersistentEntity(domainClass);
+		this.position = position;
+		this.sort = position instanceof KeysetScrollPosition ? withTiebreaker(sort) : sort;
+		this.limit = limit.isLimited() ? limit.max() : null;
+	}
+
+	/**
+	 * @return the sort to apply in the query, reversed when scrolling backward
+	 */
+	public Sort getSort() {
+		if (!isBackward()) {
+			return sort;
+		}
+		return Sort.by(sort.stream()
+				.map(order -> order.with(order.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC))
+				.collect(Collectors.toList()));
+	}
+
+	/**
+	 * Builds the filter restricting the documents to the ones after the keyset position, binding the keys through the
+	 * given binder.
+	 *
+	 * @param varName
+	 *            the variable of the documents
+	 * @param binder
+	 *            accepts the names and values of the bind parameters
+	 * @return the filter clause, empty for offset and initial positions
+	 */
+	public String buildFilterClause(final String varName, final BiConsumer<String, Object> binder) {
+		if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) {
+			return "";
+		}
+		final Map<String, Object> keys = keyset.getKeys();
+		final List<Sort.Order> orders = getSort().toList();
+		final List<String> fields = new ArrayList<>(orders.size());
+		final List<String> disjunction = new ArrayList<>(orders.size());
+		for (int i = 0; i < orders.size(); i++) {
+			final Sort.Order order = orders.get(i);
+			Assert.isTrue(keys.containsKey(order.getProperty()),
+				() -> "Keyset position does not contain sort property " + order.getProperty());
+			final PersistentPropertyPath<ArangoPersistentProperty> path = getPropertyPath(order.getProperty());
+			final String field = varName + "." + path.toPath(".", p -> AqlUtils.buildFieldName(p.getFieldName()));
+			final String bindVar = "@" + BIND_VAR_PREFIX + i;
+			binder.accept(BIND_VAR_PREFIX + i, convertKey(path, keys.get(order.getProperty())));
+
+			final List<String> conjunction = new ArrayList<>(fields.size() + 1);
+			for (int j = 0; j < fields.size(); j++) {
+				conjunction.add(fields.get(j) + " == @" + BIND_VAR_PREFIX + j);
+			}
+			conjunction.add(field + (order.isAscending() ? " > " : " < ") + bindVar);
+			disjunction.add(conjunction.size() == 1 ? conjunction.get(0) : "(" + String.join(" AND ", conjunction) + ")");
+			fields.add(field);
+		}
+		// the redundant bound on the leading sort key lets the optimizer use an index range scan
+		final String leading = fields.get(0) + (orders.get(0).isAscending() ? " >= @" : " <= @") + BIND_VAR_PREFIX + 0;
+		return "FILTER " + leading + " FILTER " + String.join(" OR ", disjunction);
+	}
+
+	/**
+	 * @return the limit clause, reading one document more than the window size, empty if the window is not limited
+	 */
+	public String buildLimitClause() {
+		final long offset = getStartOffset();
+		if (limit == null) {
+			return offset > 0 ? "LIMIT " + offset + ", " + Integer.MAX_VALUE : "";
+		}
+		return offset > 0 ? "LIMIT " + offset + ", " + (limit + 1) : "LIMIT " + (limit + 1);
+	}
+
+	/**
+	 * @param results
+	 *            the results of the query created with the clauses of this instance
+	 * @return the window of the results
+	 */
+	public <T> Window<T> toWindow(final List<T> results) {
+		return toWindow(results, Function.identity());
+	}
+
+	/**
+	 * @param results
+	 *            the results of the query created with the clauses of this instance
+	 * @param keySource
+	 *            maps a result to the entity the keys of its position are read from, only applied to the results whose
+	 *            position is requested
+	 * @return the window of the results
+	 */
+	public <T> Window<T> toWindow(final List<T> results, final Function<? super T, ?> keySource) {
+		final boolean hasNext = limit != null && results.size() > limit;
+		final List<T> content = new ArrayList<>(hasNext ? results.subList(0, limit) : results);
+		if (isBackward()) {
+			Collections.reverse(content);
+		}
+
+		final IntFunction<ScrollPosition> positionFunction;
+		if (position instanceof KeysetScrollPosition keyset) {
+			positionFunction = index -> ScrollPosition.of(getKeys(keySource.apply(content.get(index))),
+					keyset.getDirection());
+		} else {
+			final long startOffset = getStartOffset();
+			positionFunction = index -> ScrollPosition.offset(startOffset + index);
+		}
+		return Window.from(content, positionFunction, hasNext);
+	}
+
+	private boolean isBackward() {
+		return position instanceof KeysetScrollPosition keyset
+				&& keyset.getDirection() == ScrollPosition.Direction.BACKWARD;
+	}
+
+	private long getStartOffset() {
+		return position instanceof OffsetScrollPosition offset && !offset.isInitial() ? offset.getOffset() + 1 : 0;
+	}
+
+	private Sort withTiebreaker(final Sort sort) {
+		final ArangoPersistentProperty idProperty = entity.getIdProperty();
+		if (idProperty == null || sort.getOrderFor(idProperty.getName()) != null) {
+			return sort;
+		}
+		return sort.and(Sort.by(idProperty.getName()));
+	}
+
+	private PersistentPropertyPath<ArangoPersistentProperty> getPropertyPath(final String property) {
+		return context.getPersistentPropertyPath(property, entity.getType());
+	}
+
+	@Nullable
+	private Object convertKey(final PersistentPropertyPath<ArangoPersistentProperty> path, @Nullable final Object key) {
+		// ids are compared with _key on the server
+		return key != null && path.getLeafProperty().isIdProperty() ? converter.convertId(key) : key;
+	}
+
+	private Map<String, Object> getKeys(final Object result) {
+		final Map<String, Object> keys = new LinkedHashMap<>();
+		for (final Sort.Order order : sort) {
+			final PersistentPropertyPath<ArangoPersistentProperty> path = getPropertyPath(order.getProperty());
+			Object value = result;
+			for (final ArangoPersistentProperty property : path) {
+				if (value == null) {
+					break;
+				}
+				value = context.getRequiredPersistentEntity(value.getClass()).getPropertyAccessor(value)
+						.getProperty(property);
+			}
+			keys.put(order.getProperty(), convertKey(path, value));
+		}
+		return keys;
+	}
+
+}
@@ -27,13 +27,25 @@ import com.arangodb.springframework.repository.query.ArangoParameters.ArangoPara
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.expression.BeanFactoryAccessor;
 import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.ConstructorResolver;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.OperatorOverloader;
 import org.springframework.expression.ParserContext;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypeComparator;
+import org.springframework.expression.TypeConverter;
+import org.springframework.expression.TypedValue;
+import org.springframework.expression.TypeLocator;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.util.Assert;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -51,22 +63,28 @@ public class StringBasedArangoQuery extends AbstractArangoQuery {
 	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
 
 	private static final String PAGEABLE_PLACEHOLDER = "#pageable";
-	private static final Pattern PAGEABLE_PLACEHOLDER_PATTERN = Pattern.compile(Pattern.quote(PAGEABLE_PLACEHOLDER));
-
 	private static final String SORT_PLACEHOLDER = "#sort";
-	private static final Pattern SORT_PLACEHOLDER_PATTERN = Pattern.compile(Pattern.quote(SORT_PLACEHOLDER));
-
-	private static final String COLLECTION_PLACEHOLDER = "#collection";
-	private static final Pattern COLLECTION_PLACEHOLDER_PATTERN = Pattern
-			.compile(Pattern.quote(COLLECTION_PLACEHOLDER));
+	public static final String COLLECTION_PLACEHOLDER = "#collection";
 
 	private static final Pattern BIND_PARAM_PATTERN = Pattern.compile("@(@?[A-Za-z0-9][A-Za-z0-9_]*)");
 
 	private final String query;
 	private	final String collectionName;
+	/**
+	 * bind var names of the bindable parameters, resolved once instead of with every invocation
+	 */
+	private final String[] bindVarNames;
+	/**
+	 * placeholder replaced by the pageable or sort argument, null if the method has neither
+	 */
+	private final String clausePlaceholder;
+	/**
+	 * query with resolved collection placeholders, null if the query contains SpEL expressions
+	 */
+	private final String staticQuery;
+	private final int staticClauseOffset;
 	private final Expression queryExpression;
-	private final Set<String> queryBindParams;
-	private final ApplicationContext applicationContext;
+	private final StandardEvaluationContext evaluationContext;
 
 	public StringBasedArangoQuery(final ArangoQueryMethod method, final ArangoOperations operations,
 								  final ApplicationContext applicationContext) {
@@ -80,13 +98,31 @@ public class StringBasedArangoQuery extends AbstractArangoQuery {
 
 		this.query = query;
 		collectionName = AqlUtils.buildCollectionName(operations.collection(domainClass).name());
-		this.applicationContext = applicationContext;
 
 		assertSinglePageablePlaceholder();
 		assertSingleSortPlaceholder();
 
-		this.queryBindParams = getBindParamsInQuery();
-		queryExpression = PARSER.parseExpression(query, ParserContext.TEMPLATE_EXPRESSION);
+		this.bindVarNames = getBindVarNames(method, query);
+
+		if (method.getParameters().hasPageableParameter()) {
+			clausePlaceholder = PAGEABLE_PLACEHOLDER;
+		} else if (method.getParameters().hasSortParameter()) {
+			clausePlaceholder = SORT_PLACEHOLDER;
+		} else {
+			clausePlaceholder = null;
+		}
+
+		if (query.contains(ParserContext.TEMPLATE_EXPRESSION.getExpressionPrefix())) {
+			staticQuery = null;
+			staticClauseOffset = -1;
+			queryExpression = PARSER.parseExpression(query, ParserContext.TEMPLATE_EXPRESSION);
+			evaluationContext = createEvaluationContext(applicationContext);
+		} else {
+			staticQuery = query.replace(COLLECTION_PLACEHOLDER, collectionName);
+			staticClauseOffset = clausePlaceholder != null ? staticQuery.indexOf(clausePlaceholder) : -1;
+			queryExpression = null;
+			evaluationContext = null;
+		}
 	}
 
 	@Override
@@ -111,29 +147,44 @@ public class StringBasedArangoQuery extends AbstractArangoQuery {
 	}
 
 	private String prepareQuery(final ArangoParameterAccessor accessor) {
-		StandardEvaluationContext context = new StandardEvaluationContext();
-		context.setRootObject(applicationContext);
-		context.setBeanResolver(new BeanFactoryResolver(applicationContext));
-		context.addPropertyAccessor(new BeanFactoryAccessor());
-		context.setVariable("collection", collectionName);
-		context.setVariables(accessor.getSpelVars());
+		if (staticQuery != null) {
+			return insertClause(staticQuery, staticClauseOffset, accessor);
+		}
 
-		String preparedQuery = queryExpression.getValue(context, String.class);
+		final EvaluationContext context = new QueryEvaluationContext(evaluationContext, accessor.getSpelVars());
+		final String preparedQuery = queryExpression.getValue(context, String.class)
+				.replace(COLLECTION_PLACEHOLDER, collectionName);
+		return insertClause(preparedQuery,
+			clausePlaceholder != null ? preparedQuery.indexOf(clausePlaceholder) : -1, accessor);
+	}
 
-		final Matcher collectionMatcher = COLLECTION_PLACEHOLDER_PATTERN.matcher(preparedQuery);
-		if (collectionMatcher.find()) {
-			preparedQuery = collectionMatcher.replaceAll(collectionName);
+	private String insertClause(final String preparedQuery, final int offset, final ArangoParameterAccessor accessor) {
+		if (offset < 0) {
+			return preparedQuery;
 		}
+		final String clause = PAGEABLE_PLACEHOLDER.equals(clausePlaceholder)
+				? AqlUtils.buildPageableClause(accessor.getPageable(), null, method.isSliceQuery() ? 1 : 0)
+				: AqlUtils.buildSortClause(accessor.getSort());
+		return new StringBuilder(preparedQuery.length() + clause.length())
+				.append(preparedQuery, 0, offset)
+				.append(clause)
+				.append(preparedQuery, offset + clausePlaceholder.length(), preparedQuery.length())
+				.toString();
+	}
 
-		if (accessor.getParameters().hasPageableParameter()) {
-			final String pageableClause = AqlUtils.buildPageableClause(accessor.getPageable());
-			preparedQuery = PAGEABLE_PLACEHOLDER_PATTERN.matcher(preparedQuery).replaceFirst(pageableClause);
-		} else if (accessor.getParameters().hasSortParameter()) {
-			final String sortClause = AqlUtils.buildSortClause(accessor.getSort());
-			preparedQuery = SORT_PLACEHOLDER_PATTERN.matcher(preparedQuery).replaceFirst(sortClause);
+	private StandardEvaluationContext createEvaluationContext(final ApplicationContext applicationContext) {
+		final StandardEvaluationContext context = new StandardEvaluationContext();
+		context.setRootObject(applicationContext);
+		if (applicationContext != null) {
+			context.setBeanResolver(new BeanFactoryResolver(applicationContext));
 		}
-
-		return preparedQuery;
+		context.addPropertyAccessor(new BeanFactoryAccessor());
+		context.setVariable("collection", collectionName);
+		// initialize the lazily created defaults once, the context is shared by concurrent invocations
+		context.getConstructorResolvers();
+		context.getMethodResolvers();
+		context.getTypeLocator();
+		return context;
 	}
 
 	private void extractBindVars(final ArangoParameterAccessor accessor, final Map<String, Object> bindVars) {
@@ -142,27 +193,34 @@ public class StringBasedArangoQuery extends AbstractArangoQuery {
 			bindVars.putAll(bindVarsInParams);
 		}
 
-		final ArangoParameters bindableParams = accessor.getParameters().getBindableParameters();
-		final int bindableParamsSize = bindableParams.getNumberOfParameters();
+		for (int i = 0; i < bindVarNames.length; ++i) {
+			bindVars.put(bindVarNames[i], accessor.getBindableValue(i));
+		}
+	}
 
-		for (int i = 0; i < bindableParamsSize; ++i) {
+	/**
+	 * @return the bind variable names of the bindable parameters of the given method, in the order of the parameters
+	 */
+	public static String[] getBindVarNames(final ArangoQueryMethod method, final String query) {
+		return getBindVarNames(method.getParameters().getBindableParameters(), getBindParamsInQuery(query));
+	}
+
+	private static String[] getBindVarNames(final ArangoParameters bindableParams, final Set<String> queryBindParams) {
+		final String[] names = new String[bindableParams.getNumberOfParameters()];
+		for (int i = 0; i < names.length; ++i) {
 			final ArangoParameter param = bindableParams.getParameter(i);
-			final Object value = accessor.getBindableValue(i);
 			if (param.isNamedParameter()) {
-				bindVars.put(param.getName().get(), value);
+				names[i] = param.getName().get();
 			} else {
 				final String key = String.valueOf(param.getIndex());
 				final String collectionKey = "@" + key;
-				if (queryBindParams.contains(collectionKey)) {
-					bindVars.put(collectionKey, value);
-				} else {
-					bindVars.put(key, value);
-				}
+				names[i] = queryBindParams.contains(collectionKey) ? collectionKey : key;
 			}
 		}
+		return names;
 	}
 
-	private Set<String> getBindParamsInQuery() {
+	private static Set<String> getBindParamsInQuery(final String query) {
 		final String fixedQuery = removeAqlStringLiterals(query);
 		final Set<String> bindings = new HashSet<>();
 		final Matcher matcher = BIND_PARAM_PATTERN.matcher(fixedQuery);
@@ -172,7 +230,7 @@ public class StringBasedArangoQuery extends AbstractArangoQuery {
 		return bindings;
 	}
 
-	private String removeAqlStringLiterals(final String query) {
+	private static String removeAqlStringLiterals(final String query) {
 		final StringBuilder fixedQuery = new StringBuilder();
 		for (int i = 0; i < query.length(); ++i) {
 			if (query.charAt(i) == '"') {
@@ -226,4 +284,78 @@ public class StringBasedArangoQuery extends AbstractArangoQuery {
 		}
 	}
 
+	/**
+	 * Evaluation context of a single invocation, holding its SpEL parameters on top of the shared context
+	 */
+	private static final class QueryEvaluationContext implements EvaluationContext {
+
+		private final StandardEvaluationContext delegate;
+		private final Map<String, Object> variables;
+
+		QueryEvaluationContext(final StandardEvaluationContext delegate, final Map<String, Object> variables) {
+			this.delegate = delegate;
+			this.variables = new HashMap<>(variables);
+		}
+
+		@Override
+		public TypedValue getRootObject() {
+			return delegate.getRootObject();
+		}
+
+		@Override
+		public List<PropertyAccessor> getPropertyAccessors() {
+			return delegate.getPropertyAccessors();
+		}
+
+		@Override
+		public List<ConstructorResolver> getConstructorResolvers() {
+			return delegate.getConstructorResolvers();
+		}
+
+		@Override
+		public List<MethodResolver> getMethodResolvers() {
+			return delegate.getMethodResolvers();
+		}
+
+		@Override
+		public BeanResolver getBeanResolver() {
+			return delegate.getBeanResolver();
+		}
+
+		@Override
+		public TypeLocator getTypeLocator() {
+			return delegate.getTypeLocator();
+		}
+
+		@Override
+		public TypeConverter getTypeConverter() {
+			return delegate.getTypeConverter();
+		}
+
+		@Override
+		public TypeComparator getTypeComparator() {
+			return delegate.getTypeComparator();
+		}
+
+		@Override
+		public OperatorOverloader getOperatorOverloader() {
+			return delegate.getOperatorOverloader();
+		}
+
+		@Override
+		public void setVariable(final String name, final Object value) {
+			if (value != null) {
+				variables.put(name, value);
+			} else {
+				variables.remove(name);
+			}
+		}
+
+		@Override
+		public Object lookupVariable(final String name) {
+			return variables.containsKey(name) ? variables.get(name) : delegate.lookupVariable(name);
+		}
+
+	}
+
 }
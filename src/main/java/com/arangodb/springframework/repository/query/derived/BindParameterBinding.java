@@ -54,6 +54,21 @@ public class BindParameterBinding {
         return index;
     }
 
+    /**
+     * Binds the value of a part which is not geospatial, see {@link DerivedQueryCreator#bindArguments}
+     *
+     * @param value
+     * @param shouldIgnoreCase
+     * @param borderStatus
+     *            true for a prefix, false for a suffix, null for neither
+     * @param startIndex
+     * @return the index of the next bind parameter
+     */
+    public int bind(final Object value, final boolean shouldIgnoreCase, final Boolean borderStatus, final int startIndex) {
+        return bind(value, shouldIgnoreCase, borderStatus, point -> {
+        }, startIndex);
+    }
+
     public int bindPolygon(final Object value, final boolean shouldIgnoreCase, final int startIndex) {
         int index = startIndex;
         final Polygon polygon = (Polygon) ignoreArgumentCase(value, shouldIgnoreCase);
@@ -188,6 +203,16 @@ public class BindParameterBinding {
         return index;
     }
 
+    /**
+     * Binds a value to a named parameter, which must not collide with the numbered parameters of the query
+     *
+     * @param name
+     * @param value
+     */
+    public void bind(final String name, final Object value) {
+        bindVars.put(name, value);
+    }
+
     private void bind(final int index, final Object value) {
         bindVars.put(Integer.toString(index), value);
     }
@@ -27,6 +27,7 @@ import com.arangodb.springframework.core.mapping.ArangoMappingContext;
 import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
 import com.arangodb.springframework.core.util.AqlUtils;
 import com.arangodb.springframework.repository.query.ArangoParameterAccessor;
+import com.arangodb.springframework.repository.query.ScrollSupport;
 import com.arangodb.springframework.repository.query.derived.geo.Ring;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,7 +43,9 @@ import org.springframework.data.core.PropertyPath;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -73,6 +76,13 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 	private final List<String> geoFields;
 	private final Set<String> withCollections;
 	private final BindParameterBinding binding;
+	@Nullable
+	private final ScrollSupport scroll;
+	private final int pageableLookahead;
+	@Nullable
+	private final String projection;
+	@Nullable
+	private final Class<?> resultType;
 
 	// whether any query field type is a type encoded as geoJson, only considered if isUnique == true
 	private boolean hasGeoJsonType  = false;
@@ -80,11 +90,25 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 	private String uniqueLocation = null;
 	private Boolean isUnique = null;
 	private int bindingCounter = 0;
+	private int pageableClauseStart = -1;
+	private int pageableClauseEnd = -1;
 
 	public DerivedQueryCreator(
 		final ArangoMappingContext context,
 		final Class<?> domainClass, final PartTree tree, final ArangoParameterAccessor accessor,
 		final BindParameterBinding binder, final List<String> geoFields) {
+		this(context, domainClass, tree, accessor, binder, geoFields, new Options());
+	}
+
+	/**
+	 * @param options
+	 *            optional settings of the query, new settings are added there instead of further constructor
+	 *            parameters
+	 */
+	public DerivedQueryCreator(
+		final ArangoMappingContext context,
+		final Class<?> domainClass, final PartTree tree, final ArangoParameterAccessor accessor,
+		final BindParameterBinding binder, final List<String> geoFields, final Options options) {
 		super(tree, accessor);
 		this.context = context;
 		this.domainClass = domainClass;
@@ -93,6 +117,10 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 		this.accessor = accessor;
 		this.geoFields = geoFields;
 		this.binding = binder;
+		this.scroll = options.scroll;
+		this.pageableLookahead = options.pageableLookahead;
+		this.projection = options.projection;
+		this.resultType = options.resultType;
 		withCollections = new HashSet<>();
 	}
 
@@ -137,14 +165,37 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 			query.append(" FILTER ").append(criteria.getPredicate());
 		}
 
-		if (tree.isCountProjection() || tree.isExistsProjection()) {
+		if (scroll != null) {
+			final String keysetFilter = scroll.buildFilterClause("e", binding::bind);
+			if (!keysetFilter.isEmpty()) {
+				query.append(" ").append(keysetFilter);
+			}
+		}
+
+		if (tree.isExistsProjection()) {
+			// the first match answers the query, there is no need to count all of them
+			query.append(" LIMIT 1 RETURN 1");
+			pageableClauseStart = pageableClauseEnd = query.length();
+			return query.toString();
+		}
+
+		if (tree.isCountProjection() && criteria.getPredicate().isEmpty() && !tree.isLimiting() && with.isEmpty()) {
+			// taken from the collection metadata instead of scanning the documents
+			query.setLength(0);
+			query.append("RETURN LENGTH(").append(collectionName).append(")");
+			pageableClauseStart = pageableClauseEnd = query.length();
+			return query.toString();
+		}
+
+		if (tree.isCountProjection()) {
 			if (tree.isDistinct()) {
 				query.append(" COLLECT entity = ").append("e");
 			}
 			query.append(" COLLECT WITH COUNT INTO length");
 		}
 
-		String sortString = " " + AqlUtils.buildSortClause(AqlUtils.toPersistentSort(sort, context, domainClass), "e");
+		final Sort querySort = scroll != null ? scroll.getSort() : sort;
+		String sortString = " " + AqlUtils.buildSortClause(AqlUtils.toPersistentSort(querySort, context, domainClass), "e");
 		if ((!this.geoFields.isEmpty() || isUnique != null && isUnique) && !tree.isDelete() && !tree.isCountProjection()
 				&& !tree.isExistsProjection()) {
 
@@ -156,7 +207,7 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 				distanceSortKey += Criteria
 						.distance(uniqueLocation, bind(getUniquePoint()[0]), bind(getUniquePoint()[1])).getPredicate();
 			}
-			if (sort.isUnsorted()) {
+			if (querySort.isUnsorted()) {
 				sortString = distanceSortKey;
 			} else {
 				sortString = distanceSortKey + ", " + sortString.substring(5, sortString.length());
@@ -164,22 +215,29 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 		}
 		query.append(sortString);
 
-		if (tree.isLimiting()) {
+		if (scroll != null) {
+			final String limitClause = scroll.buildLimitClause();
+			if (!limitClause.isEmpty()) {
+				query.append(" ").append(limitClause);
+			}
+		} else if (tree.isLimiting()) {
 			query.append(" LIMIT ").append(tree.getMaxResults());
 		}
 
 		final Pageable pageable = accessor.getPageable();
+		pageableClauseStart = query.length();
 		if (pageable != null && pageable.isPaged()) {
-			query.append(" ").append(AqlUtils.buildLimitClause(pageable));
+			query.append(" ").append(AqlUtils.buildLimitClause(pageable, pageableLookahead));
 		}
+		pageableClauseEnd = query.length();
 		if (tree.isDelete()) {
-			query.append(" REMOVE e IN ").append(collectionName);
-		} else if (tree.isCountProjection() || tree.isExistsProjection()) {
+			query.append(" REMOVE e IN ").append(collectionName).append(buildDeleteReturnClause());
+		} else if (tree.isCountProjection()) {
 			query.append(" RETURN length");
 		} else {
 			query.append(" RETURN ");
 			if (this.geoFields.isEmpty()) {
-				query.append("e");
+				query.append(projection != null ? projection : "e");
 			} else {
 				if (hasGeoJsonType) {
 					query.append(format("MERGE(e, { '_distance': %s })",
@@ -194,6 +252,101 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 		return query.toString();
 	}
 
+	/**
+	 * Delete queries only return what the query method exposes: nothing, the number of deleted documents, their keys
+	 * or the deleted documents.
+	 */
+	private String buildDeleteReturnClause() {
+		if (resultType == null || ClassUtils.resolvePrimitiveIfNecessary(resultType) == Void.class) {
+			return "";
+		}
+		if (Number.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(resultType))) {
+			return " COLLECT WITH COUNT INTO length RETURN length";
+		}
+		if (String.class.equals(resultType)) {
+			return " RETURN OLD._key";
+		}
+		return " RETURN OLD";
+	}
+
+	/**
+	 * @return the position of the {@link Pageable} limit clause within the created query, the clause is empty if the
+	 *         query is not paged
+	 */
+	public int getPageableClauseStart() {
+		return pageableClauseStart;
+	}
+
+	/**
+	 * @return the position right after the {@link Pageable} limit clause within the created query
+	 */
+	public int getPageableClauseEnd() {
+		return pageableClauseEnd;
+	}
+
+	/**
+	 * Whether the query text created for the given tree only depends on the {@link Sort} and {@link Pageable}
+	 * arguments. That is the case unless the tree contains geospatial parts, whose text depends on the types of the
+	 * arguments.
+	 *
+	 * @param tree
+	 * @return
+	 */
+	public static boolean hasArgumentIndependentQuery(final PartTree tree) {
+		return tree.getParts().stream()
+				.noneMatch(part -> part.getType() == Part.Type.NEAR || part.getType() == Part.Type.WITHIN);
+	}
+
+	/**
+	 * Binds the arguments exactly like {@link #createQuery()} does, without creating the query. Only applicable to
+	 * trees for which {@link #hasArgumentIndependentQuery(PartTree)} holds.
+	 *
+	 * @param tree
+	 * @param accessor
+	 * @param binding
+	 */
+	public static void bindArguments(
+		final PartTree tree,
+		final ArangoParameterAccessor accessor,
+		final BindParameterBinding binding) {
+
+		final Iterator<Object> iterator = accessor.iterator();
+		int index = 0;
+		for (final Part part : tree.getParts()) {
+			switch (part.getType()) {
+			case TRUE:
+			case FALSE:
+			case IS_NULL:
+			case IS_NOT_NULL:
+			case EXISTS:
+				break;
+			case BETWEEN:
+				index = bindNext(part, iterator, binding, null, index);
+				index = bindNext(part, iterator, binding, null, index);
+				break;
+			case STARTING_WITH:
+				index = bindNext(part, iterator, binding, true, index);
+				break;
+			case ENDING_WITH:
+				index = bindNext(part, iterator, binding, false, index);
+				break;
+			default:
+				index = bindNext(part, iterator, binding, null, index);
+				break;
+			}
+		}
+	}
+
+	private static int bindNext(
+		final Part part,
+		final Iterator<Object> iterator,
+		final BindParameterBinding binding,
+		final Boolean borderStatus,
+		final int index) {
+		Assert.isTrue(iterator.hasNext(), "Too few arguments passed");
+		return binding.bind(iterator.next(), shouldIgnoreCase(part), borderStatus, index);
+	}
+
 	public double[] getUniquePoint() {
 		if (uniquePoint == null) {
 			return new double[2];
@@ -347,7 +500,7 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 	 * @param part
 	 * @return
 	 */
-	private boolean shouldIgnoreCase(final Part part) {
+	public static boolean shouldIgnoreCase(final Part part) {
 		final Class<?> propertyClass = part.getProperty().getLeafProperty().getType();
 		final boolean isLowerable = String.class.isAssignableFrom(propertyClass);
 		final boolean shouldIgnoreCase = part.shouldIgnoreCase() != Part.IgnoreCaseType.NEVER && isLowerable
@@ -649,4 +802,61 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 		return String.format(Locale.ENGLISH, format, args);
 	}
 
+	/**
+	 * Optional settings of a {@link DerivedQueryCreator}.
+	 */
+	public static class Options {
+
+		@Nullable
+		private ScrollSupport scroll;
+		private int pageableLookahead;
+		@Nullable
+		private String projection;
+		@Nullable
+		private Class<?> resultType;
+
+		/**
+		 * @param scroll
+		 *            translates the scroll position of a {@link org.springframework.data.domain.Window} query, can be
+		 *            null
+		 * @return this
+		 */
+		public Options scroll(@Nullable final ScrollSupport scroll) {
+			this.scroll = scroll;
+			return this;
+		}
+
+		/**
+		 * @param pageableLookahead
+		 *            number of documents to read beyond the requested page, used by
+		 *            {@link org.springframework.data.domain.Slice} queries to tell whether a next slice exists
+		 * @return this
+		 */
+		public Options pageableLookahead(final int pageableLookahead) {
+			this.pageableLookahead = pageableLookahead;
+			return this;
+		}
+
+		/**
+		 * @param projection
+		 *            expression returned instead of the whole document, can be null
+		 * @return this
+		 */
+		public Options projection(@Nullable final String projection) {
+			this.projection = projection;
+			return this;
+		}
+
+		/**
+		 * @param resultType
+		 *            the type of the query method results, determines what delete queries return, can be null
+		 * @return this
+		 */
+		public Options resultType(@Nullable final Class<?> resultType) {
+			this.resultType = resultType;
+			return this;
+		}
+
+	}
+
 }
@@ -0,0 +1,54 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.transaction;
+
+import org.springframework.transaction.support.ResourceHolderSupport;
+
+/**
+ * Holds the id of the ArangoDB stream transaction bound to the current thread by the {@link ArangoTransactionManager}.
+ */
+public class ArangoTransactionHolder extends ResourceHolderSupport {
+
+	private final String database;
+	private final String streamTransactionId;
+
+	public ArangoTransactionHolder(final String database, final String streamTransactionId) {
+		super();
+		this.database = database;
+		this.streamTransactionId = streamTransactionId;
+	}
+
+	/**
+	 * @return the name of the database the stream transaction was started in
+	 */
+	public String getDatabase() {
+		return database;
+	}
+
+	/**
+	 * @return the id of the stream transaction
+	 */
+	public String getStreamTransactionId() {
+		return streamTransactionId;
+	}
+
+}
@@ -0,0 +1,294 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.transaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.ResourceTransactionManager;
+import org.springframework.transaction.support.SmartTransactionObject;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.ArangoDatabase;
+import com.arangodb.entity.CollectionEntity;
+import com.arangodb.model.StreamTransactionOptions;
+import com.arangodb.springframework.annotation.Document;
+import com.arangodb.springframework.annotation.Edge;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.springframework.core.template.ArangoTemplate;
+
+/**
+ * {@link org.springframework.transaction.PlatformTransactionManager} running {@code @Transactional} methods in an
+ * ArangoDB stream transaction. While the transaction is active, every operation of the given {@link ArangoTemplate} on
+ * the same thread, including the repositories and query methods backed by it, is executed within the stream
+ * transaction.
+ * <p>
+ * ArangoDB requires the collections written by a stream transaction to be declared when it begins. By default these
+ * are the collections of all {@link Document} and {@link Edge} entities known to the mapping context, they can be
+ * narrowed down with {@link #setEntityClasses(Collection)}. Only existing collections are declared, beginning a
+ * transaction neither creates collections nor indexes, so collections written within a transaction must have been
+ * created before, e.g. by the schema bootstrap of the template. The existing collections are remembered per database
+ * and only listed again while a declared collection is missing, or once a remembered collection was dropped.
+ * Read-only transactions declare the collections for reading only.
+ * <p>
+ * ArangoDB has no timeout for the duration of a stream transaction, the server only aborts transactions idle for
+ * longer than its {@code --transaction.streaming-idle-timeout}. The {@link TransactionDefinition#getTimeout() timeout}
+ * of a transaction definition is therefore checked by the client before each operation of the template, which fails
+ * with a {@link org.springframework.transaction.TransactionTimedOutException} once the deadline has passed.
+ * <p>
+ * Operations switching to another database, e.g. through a database SpEL expression, are not part of the
+ * transaction. Nested transactions and savepoints are not supported.
+ */
+public class ArangoTransactionManager extends AbstractPlatformTransactionManager implements ResourceTransactionManager {
+
+	private static final int DATA_SOURCE_NOT_FOUND = 1203;
+
+	private final ArangoTemplate template;
+	private final Map<String, Set<String>> existingCollections = new ConcurrentHashMap<>();
+	private Collection<Class<?>> entityClasses;
+
+	public ArangoTransactionManager(final ArangoTemplate template) {
+		super();
+		Assert.notNull(template, "ArangoTemplate must not be null!");
+		this.template = template;
+	}
+
+	/**
+	 * @param entityClasses
+	 *            the entities whose collections are declared by the stream transactions, {@code null} declares the
+	 *            collections of all document and edge entities of the mapping context
+	 */
+	public void setEntityClasses(@Nullable final Collection<Class<?>> entityClasses) {
+		this.entityClasses = entityClasses == null ? null : new ArrayList<>(entityClasses);
+	}
+
+	public void setEntityClasses(final Class<?>... entityClasses) {
+		setEntityClasses(Arrays.asList(entityClasses));
+	}
+
+	/**
+	 * Returns the id of the stream transaction bound to the current thread for the given template.
+	 *
+	 * @param template
+	 *            the template executing the operation
+	 * @param database
+	 *            supplies the name of the database the operation is executed in, only called while a transaction
+	 *            is bound
+	 * @return the stream transaction id or {@code null} if no transaction is active for the template and database
+	 */
+	@Nullable
+	public static String currentStreamTransactionId(final ArangoTemplate template, final Supplier<String> database) {
+		final Object resource = TransactionSynchronizationManager.getResource(template);
+		if (resource instanceof ArangoTransactionHolder holder && holder.getDatabase().equals(database.get())) {
+			if (holder.hasTimeout()) {
+				// fails once the deadline has passed
+				holder.getTimeToLiveInMillis();
+			}
+			return holder.getStreamTransactionId();
+		}
+		return null;
+	}
+
+	@Override
+	public Object getResourceFactory() {
+		return template;
+	}
+
+	@Override
+	protected Object doGetTransaction() {
+		return new ArangoTransactionObject(
+				(ArangoTransactionHolder) TransactionSynchronizationManager.getResource(template));
+	}
+
+	@Override
+	protected boolean isExistingTransaction(final Object transaction) {
+		return ((ArangoTransactionObject) transaction).holder != null;
+	}
+
+	@Override
+	protected void doBegin(final Object transaction, final TransactionDefinition definition) {
+		final ArangoTransactionObject txObject = (ArangoTransactionObject) transaction;
+		final String database;
+		final String transactionId;
+		final int timeout = determineTimeout(definition);
+		try {
+			database = template.databaseName();
+			String id;
+			try {
+				id = beginStreamTransaction(database, definition);
+			} catch (final ArangoDBException e) {
+				if (!Integer.valueOf(DATA_SOURCE_NOT_FOUND).equals(e.getErrorNum())) {
+					throw e;
+				}
+				// a remembered collection was dropped
+				existingCollections.remove(database);
+				id = beginStreamTransaction(database, definition);
+			}
+			transactionId = id;
+		} catch (final DataAccessException | ArangoDBException e) {
+			throw new CannotCreateTransactionException("Could not begin ArangoDB stream transaction", e);
+		}
+
+		final ArangoTransactionHolder holder = new ArangoTransactionHolder(database, transactionId);
+		holder.setSynchronizedWithTransaction(true);
+		if (timeout != TransactionDefinition.TIMEOUT_DEFAULT) {
+			holder.setTimeoutInSeconds(timeout);
+		}
+		txObject.holder = holder;
+		TransactionSynchronizationManager.bindResource(template, holder);
+	}
+
+	@Override
+	protected Object doSuspend(final Object transaction) {
+		((ArangoTransactionObject) transaction).holder = null;
+		return TransactionSynchronizationManager.unbindResource(template);
+	}
+
+	@Override
+	protected void doResume(@Nullable final Object transaction, final Object suspendedResources) {
+		TransactionSynchronizationManager.bindResource(template, suspendedResources);
+	}
+
+	@Override
+	protected void doCommit(final DefaultTransactionStatus status) {
+		final ArangoTransactionHolder holder = ((ArangoTransactionObject) status.getTransaction()).holder;
+		try {
+			db(holder.getDatabase()).commitStreamTransaction(holder.getStreamTransactionId());
+		} catch (final ArangoDBException e) {
+			throw new TransactionSystemException("Could not commit ArangoDB stream transaction", e);
+		}
+	}
+
+	@Override
+	protected void doRollback(final DefaultTransactionStatus status) {
+		final ArangoTransactionHolder holder = ((ArangoTransactionObject) status.getTransaction()).holder;
+		try {
+			db(holder.getDatabase()).abortStreamTransaction(holder.getStreamTransactionId());
+		} catch (final ArangoDBException e) {
+			throw new TransactionSystemException("Could not abort ArangoDB stream transaction", e);
+		}
+	}
+
+	@Override
+	protected void doSetRollbackOnly(final DefaultTransactionStatus status) {
+		((ArangoTransactionObject) status.getTransaction()).holder.setRollbackOnly();
+	}
+
+	@Override
+	protected void doCleanupAfterCompletion(final Object transaction) {
+		final ArangoTransactionObject txObject = (ArangoTransactionObject) transaction;
+		TransactionSynchronizationManager.unbindResource(template);
+		txObject.holder.clear();
+		txObject.holder = null;
+	}
+
+	private ArangoDatabase db(final String database) {
+		return template.driver().db(database);
+	}
+
+	private String beginStreamTransaction(final String database, final TransactionDefinition definition) {
+		final String[] collections = collections(database);
+		final StreamTransactionOptions options = new StreamTransactionOptions();
+		if (definition.isReadOnly()) {
+			options.readCollections(collections);
+		} else {
+			options.writeCollections(collections);
+		}
+		return db(database).beginStreamTransaction(options).getId();
+	}
+
+	/**
+	 * Resolves the names of the existing collections to declare, without creating collections or indexes. The
+	 * collections of the database are only listed if a declared collection is not known to exist.
+	 */
+	private String[] collections(final String database) {
+		final Set<String> names = declaredCollections();
+		Set<String> existing = existingCollections.get(database);
+		if (existing == null || !existing.containsAll(names)) {
+			existing = new HashSet<>();
+			for (final CollectionEntity collection : db(database).getCollections()) {
+				existing.add(collection.getName());
+			}
+			existingCollections.put(database, existing);
+		}
+		return names.stream().filter(existing::contains).toArray(String[]::new);
+	}
+
+	/**
+	 * @return the collections of the entity classes or of the document and edge entities known to the mapping
+	 *         context, resolved without requests as the names of collection expressions depend on the tenant
+	 */
+	private Set<String> declaredCollections() {
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> mappingContext = template
+				.getConverter().getMappingContext();
+		final Set<String> names = new LinkedHashSet<>();
+		if (entityClasses != null) {
+			entityClasses.forEach(
+				entityClass -> names.add(mappingContext.getRequiredPersistentEntity(entityClass).getCollection()));
+		} else {
+			for (final ArangoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+				if (entity.isAnnotationPresent(Document.class) || entity.isAnnotationPresent(Edge.class)) {
+					names.add(entity.getCollection());
+				}
+			}
+		}
+		return names;
+	}
+
+	private static class ArangoTransactionObject implements SmartTransactionObject {
+
+		private ArangoTransactionHolder holder;
+
+		ArangoTransactionObject(final ArangoTransactionHolder holder) {
+			this.holder = holder;
+		}
+
+		@Override
+		public boolean isRollbackOnly() {
+			return holder != null && holder.isRollbackOnly();
+		}
+
+		@Override
+		public void flush() {
+		}
+
+	}
+
+}
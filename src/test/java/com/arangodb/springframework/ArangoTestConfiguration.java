@@ -27,6 +27,7 @@ import com.arangodb.internal.config.ArangoConfigPropertiesImpl;
 import com.arangodb.internal.serde.ContentTypeFactory;
 import com.arangodb.springframework.annotation.EnableArangoAuditing;
 import com.arangodb.springframework.annotation.EnableArangoRepositories;
+import com.arangodb.springframework.annotation.EnableReactiveArangoRepositories;
 import com.arangodb.springframework.config.ArangoConfiguration;
 import com.arangodb.springframework.core.mapping.CustomMappingTest;
 import com.arangodb.springframework.testdata.Person;
@@ -53,6 +54,7 @@ import java.util.Properties;
         "com.arangodb.springframework.debug.repository",
         "com.arangodb.springframework.testdata.chess.repo"},
         namedQueriesLocation = "classpath*:arango-named-queries-test.properties")
+@EnableReactiveArangoRepositories(basePackages = "com.arangodb.springframework.repository")
 @EnableArangoAuditing(auditorAwareRef = "auditorProvider")
 public class ArangoTestConfiguration implements ArangoConfiguration {
 
@@ -61,6 +63,9 @@ public class ArangoTestConfiguration implements ArangoConfiguration {
     @Value("${returnOriginalEntities:true}")
     private boolean returnOriginalEntities;
 
+    @Value("${streamingSerde:false}")
+    private boolean streamingSerde;
+
     @Value("${arangodb.protocol:HTTP2_JSON}")
     private Protocol protocol;
 
@@ -79,6 +84,11 @@ public class ArangoTestConfiguration implements ArangoConfiguration {
         return ContentTypeFactory.of(protocol);
     }
 
+    @Override
+    public boolean streamingSerde() {
+        return streamingSerde;
+    }
+
     @Override
     public String database() {
         return DB;
@@ -0,0 +1,78 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.aot;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.ExecutableHint;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeHint;
+
+import com.arangodb.springframework.core.convert.GeoConverters;
+import com.arangodb.springframework.core.convert.TimeStringConverters;
+import com.arangodb.springframework.core.convert.resolver.AbstractResolver;
+import com.arangodb.springframework.core.convert.resolver.LazyLoadingProxy;
+import com.arangodb.springframework.testdata.Customer;
+
+public class ArangoRuntimeHintsTest {
+
+	@Test
+	public void registersConvertersAndProxyMethods() {
+		final RuntimeHints hints = new RuntimeHints();
+		new ArangoRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+		TimeStringConverters.getConvertersToRegister()
+				.forEach(converter -> assertThat(hints.reflection().getTypeHint(converter.getClass()), notNullValue()));
+		GeoConverters.getConvertersToRegister()
+				.forEach(converter -> assertThat(hints.reflection().getTypeHint(converter.getClass()), notNullValue()));
+
+		final TypeHint proxyHint = hints.reflection().getTypeHint(LazyLoadingProxy.class);
+		assertThat(proxyHint, notNullValue());
+		assertThat(proxyHint.methods().map(ExecutableHint::getName).collect(Collectors.toList()),
+			hasItems("getEntity", "getRefId", "isResolved"));
+	}
+
+	@Test
+	public void proxyClassIsStable() {
+		final Class<?> proxyClass = AbstractResolver.createProxyClass(Customer.class);
+		assertThat(LazyLoadingProxy.class.isAssignableFrom(proxyClass), is(true));
+		assertThat(AbstractResolver.createProxyClass(Customer.class) == proxyClass, is(true));
+	}
+
+	@Test
+	public void interfacesAreProxiedWithJdkProxies() {
+		final Class<?>[] interfaces = AbstractResolver.getProxiedInterfaces(List.class);
+		assertThat(interfaces[0] == List.class, is(true));
+		assertThat(interfaces[interfaces.length - 1] == LazyLoadingProxy.class, is(true));
+		final Object proxy = Proxy.newProxyInstance(getClass().getClassLoader(), interfaces, (it, method, args) -> null);
+		assertThat(proxy instanceof LazyLoadingProxy, is(true));
+	}
+
+}
@@ -0,0 +1,320 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.convert;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.core.TypeInformation;
+
+import com.arangodb.springframework.annotation.Document;
+import com.arangodb.springframework.annotation.Ref;
+import com.arangodb.springframework.core.convert.resolver.ReferenceResolver;
+import com.arangodb.springframework.core.convert.resolver.RelationResolver;
+import com.arangodb.springframework.core.convert.resolver.ResolverFactory;
+import com.arangodb.springframework.core.mapping.ArangoMappingContext;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.util.MetadataUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads and writes entities with the per-entity plans, through the tree as well as the streaming path.
+ */
+public class DefaultArangoConverterTest {
+
+	@Document("converterTestPerson")
+	public static class Person {
+		@Id
+		private String id;
+		private String name;
+		private int age;
+		private Address address;
+		private Animal pet;
+		private List<Animal> animals;
+		@Ref
+		@ReadOnlyProperty
+		private Person friend;
+	}
+
+	public static class Address {
+		private String street;
+		private String city;
+	}
+
+	public static class Animal {
+		String name;
+	}
+
+	public static class Dog extends Animal {
+		private boolean goodBoy;
+	}
+
+	public enum Size {
+		SMALL, LARGE
+	}
+
+	public static class Values {
+		private char initial;
+		private byte level;
+		private short rank;
+		private long count;
+		private float ratio;
+		private double score;
+		private BigInteger big;
+		private BigDecimal amount;
+		private Size size;
+		private Date date;
+		private Instant instant;
+		private LocalDate localDate;
+		private byte[] bytes;
+		private int[] numbers;
+	}
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private final Map<String, Object> documents = new HashMap<>();
+	private DefaultArangoConverter converter;
+
+	@BeforeEach
+	public void createConverter() {
+		final ArangoCustomConversions conversions = new ArangoCustomConversions(Collections.emptyList());
+		final ArangoMappingContext context = new ArangoMappingContext();
+		context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+		converter = new DefaultArangoConverter(context, conversions, new MapResolverFactory(),
+			new DefaultArangoTypeMapper(DefaultArangoTypeMapper.DEFAULT_TYPE_KEY, context));
+	}
+
+	@Test
+	public void flatEntity() throws IOException {
+		final Person person = person("1", "John", 30);
+
+		final JsonNode tree = converter.write(person);
+		assertThat(tree.get("_key").asText(), is("1"));
+		assertThat(tree.get("name").asText(), is("John"));
+		assertThat(tree.get("age").asInt(), is(30));
+		assertThat(stream(person), is(tree));
+
+		for (final Person read : readBothWays(tree)) {
+			assertThat(read.id, is("1"));
+			assertThat(read.name, is("John"));
+			assertThat(read.age, is(30));
+			assertThat(read.address, is(nullValue()));
+		}
+	}
+
+	@Test
+	public void nestedEntity() throws IOException {
+		final Person person = person("1", "John", 30);
+		person.address = new Address();
+		person.address.street = "Main Street";
+		person.address.city = "Cologne";
+
+		final JsonNode tree = converter.write(person);
+		assertThat(tree.get("address").get("city").asText(), is("Cologne"));
+		assertThat(tree.get("address").has(DefaultArangoTypeMapper.DEFAULT_TYPE_KEY), is(false));
+		assertThat(stream(person), is(tree));
+
+		for (final Person read : readBothWays(tree)) {
+			assertThat(read.address.street, is("Main Street"));
+			assertThat(read.address.city, is("Cologne"));
+		}
+	}
+
+	@Test
+	public void polymorphicProperties() throws IOException {
+		final Person person = person("1", "John", 30);
+		final Dog dog = new Dog();
+		dog.name = "Rex";
+		dog.goodBoy = true;
+		final Animal cat = new Animal();
+		cat.name = "Tom";
+		person.pet = dog;
+		person.animals = Arrays.asList(cat, dog);
+
+		final JsonNode tree = converter.write(person);
+		assertThat(tree.get("pet").get(DefaultArangoTypeMapper.DEFAULT_TYPE_KEY).asText(), is(Dog.class.getName()));
+		assertThat(tree.get("animals").get(0).has(DefaultArangoTypeMapper.DEFAULT_TYPE_KEY), is(false));
+		assertThat(stream(person), is(tree));
+
+		for (final Person read : readBothWays(tree)) {
+			assertThat(read.pet, is(instanceOf(Dog.class)));
+			assertThat(read.pet.name, is("Rex"));
+			assertThat(((Dog) read.pet).goodBoy, is(true));
+			assertThat(read.animals.get(0).getClass() == Animal.class, is(true));
+			assertThat(read.animals.get(1), is(instanceOf(Dog.class)));
+		}
+	}
+
+	@Test
+	public void subtypeAnnouncedByTypeKey() throws IOException {
+		final Dog dog = new Dog();
+		dog.name = "Rex";
+		dog.goodBoy = true;
+
+		final JsonNode tree = converter.write(dog);
+		assertThat(stream(dog), is(tree));
+		final Animal fromTree = converter.read(Animal.class, tree);
+		final Animal fromStream = converter.read(Animal.class, parser(tree));
+		for (final Animal read : Arrays.asList(fromTree, fromStream)) {
+			assertThat(read, is(instanceOf(Dog.class)));
+			assertThat(read.name, is("Rex"));
+			assertThat(((Dog) read).goodBoy, is(true));
+		}
+	}
+
+	@Test
+	public void nonWritableAssociationIsWritten() throws IOException {
+		final Person friend = person("2", "Jane", 26);
+		documents.put("converterTestPerson/2", friend);
+		final Person person = person("1", "John", 30);
+		person.friend = friend;
+
+		final JsonNode tree = converter.write(person);
+		assertThat(tree.get("friend").asText(), is("converterTestPerson/2"));
+		assertThat(stream(person), is(tree));
+
+		for (final Person read : readBothWays(tree)) {
+			assertThat(read.friend.name, is("Jane"));
+		}
+	}
+
+	@Test
+	public void simpleValues() throws IOException {
+		final Values values = new Values();
+		values.initial = 'a';
+		values.level = 1;
+		values.rank = 2;
+		values.count = Long.MAX_VALUE;
+		values.ratio = 0.5f;
+		values.score = 1.25;
+		values.big = BigInteger.TEN.pow(30);
+		values.amount = new BigDecimal("12.34");
+		values.size = Size.LARGE;
+		values.date = new Date(0);
+		values.instant = Instant.EPOCH;
+		values.localDate = LocalDate.of(2026, 1, 2);
+		values.bytes = new byte[] { 1, 2, 3 };
+		values.numbers = new int[] { 4, 5 };
+
+		final JsonNode tree = converter.write(values);
+		assertThat(tree.get("size").asText(), is("LARGE"));
+		assertThat(tree.get("localDate").asText(), is("2026-01-02"));
+		// compared as text, as the parsed tree has other number node types
+		assertThat(stream(values).toString(), is(tree.toString()));
+
+		final Values fromTree = converter.read(Values.class, tree);
+		final Values fromStream = converter.read(Values.class, parser(tree));
+		for (final Values read : Arrays.asList(fromTree, fromStream)) {
+			assertThat(read.initial, is('a'));
+			assertThat(read.count, is(Long.MAX_VALUE));
+			assertThat(read.amount, is(new BigDecimal("12.34")));
+			assertThat(read.size, is(Size.LARGE));
+			assertThat(read.date, is(new Date(0)));
+			assertThat(read.localDate, is(LocalDate.of(2026, 1, 2)));
+			assertThat(read.bytes, is(new byte[] { 1, 2, 3 }));
+			assertThat(read.numbers, is(new int[] { 4, 5 }));
+		}
+	}
+
+	private static Person person(final String id, final String name, final int age) {
+		final Person person = new Person();
+		person.id = id;
+		person.name = name;
+		person.age = age;
+		return person;
+	}
+
+	private JsonNode stream(final Object source) throws IOException {
+		final StringWriter writer = new StringWriter();
+		try (JsonGenerator generator = MAPPER.getFactory().createGenerator(writer)) {
+			converter.write(source, generator);
+		}
+		return MAPPER.readTree(writer.toString());
+	}
+
+	private List<Person> readBothWays(final JsonNode tree) throws IOException {
+		return Arrays.asList(converter.read(Person.class, tree), converter.read(Person.class, parser(tree)));
+	}
+
+	private static JsonParser parser(final JsonNode tree) throws IOException {
+		return MAPPER.getFactory().createParser(MAPPER.writeValueAsString(tree));
+	}
+
+	/**
+	 * Resolves references from {@link #documents} instead of the database.
+	 */
+	private class MapResolverFactory implements ResolverFactory {
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <A extends Annotation> Optional<ReferenceResolver<A>> getReferenceResolver(final A annotation) {
+			return Optional.of((ReferenceResolver<A>) new ReferenceResolver<Ref>() {
+				@Override
+				public Object resolveOne(final String id, final TypeInformation<?> type, final Ref annotation) {
+					return documents.get(id);
+				}
+
+				@Override
+				public Object resolveMultiple(final Collection<String> ids, final TypeInformation<?> type,
+					final Ref annotation) {
+					return ids.stream().map(documents::get).toList();
+				}
+
+				@Override
+				public String write(final Object source, final ArangoPersistentEntity<?> entity, final Object id) {
+					return MetadataUtils.createIdFromCollectionAndKey(entity.getCollection(), String.valueOf(id));
+				}
+			});
+		}
+
+		@Override
+		public <A extends Annotation> Optional<RelationResolver<A>> getRelationResolver(final A annotation,
+			final Class<? extends Annotation> collectionType) {
+			return Optional.empty();
+		}
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.convert.resolver;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.core.TypeInformation;
+
+public class AbstractResolverTest {
+
+	public static class Target {
+		private String name;
+
+		public Target() {
+		}
+
+		public Target(final String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	public interface Named {
+		String getName();
+	}
+
+	private static class Resolver extends AbstractResolver {
+
+		Resolver() {
+			super(new DefaultConversionService());
+		}
+
+		Object lazy(final String id, final Class<?> type, final Supplier<Object> callback) {
+			return proxy(id, TypeInformation.of(type), callback);
+		}
+	}
+
+	private final Resolver resolver = new Resolver();
+
+	@Test
+	public void classProxiesReuseCachedInstantiatorAndResolveLazily() {
+		final AtomicInteger resolutions = new AtomicInteger();
+		final Object first = resolver.lazy("targets/1", Target.class, () -> {
+			resolutions.incrementAndGet();
+			return new Target("a");
+		});
+		final Object second = resolver.lazy("targets/2", Target.class, () -> new Target("b"));
+
+		assertThat(AbstractResolver.proxyInstantiator(Target.class),
+			is(sameInstance(AbstractResolver.proxyInstantiator(Target.class))));
+		assertThat(second.getClass(), is(sameInstance(first.getClass())));
+		assertThat(first, is(instanceOf(Target.class)));
+		assertThat(((LazyLoadingProxy) first).getRefId(), is("targets/1"));
+		assertThat(((LazyLoadingProxy) first).isResolved(), is(false));
+		assertThat(resolutions.get(), is(0));
+
+		assertThat(((Target) first).getName(), is("a"));
+		assertThat(((Target) first).getName(), is("a"));
+		assertThat(((LazyLoadingProxy) first).isResolved(), is(true));
+		assertThat(resolutions.get(), is(1));
+		assertThat(((Target) second).getName(), is("b"));
+	}
+
+	@Test
+	public void interfaceProxiesReuseCachedInstantiatorAndResolveLazily() {
+		final AtomicInteger resolutions = new AtomicInteger();
+		final Object first = resolver.lazy("named/1", Named.class, () -> {
+			resolutions.incrementAndGet();
+			return (Named) () -> "a";
+		});
+		final Object second = resolver.lazy("named/2", Named.class, () -> (Named) () -> "b");
+
+		assertThat(AbstractResolver.proxyInstantiator(Named.class),
+			is(sameInstance(AbstractResolver.proxyInstantiator(Named.class))));
+		assertThat(second.getClass(), is(sameInstance(first.getClass())));
+		assertThat(first, is(instanceOf(Named.class)));
+		assertThat(((LazyLoadingProxy) first).isResolved(), is(false));
+		assertThat(resolutions.get(), is(0));
+
+		assertThat(((Named) first).getName(), is("a"));
+		assertThat(((Named) first).getName(), is("a"));
+		assertThat(resolutions.get(), is(1));
+		assertThat(((Named) second).getName(), is("b"));
+	}
+
+	@Test
+	public void cacheDoesNotKeepProxiedClassesLoaded() throws Exception {
+		final WeakReference<Class<?>> type = proxyClassOfDiscardedLoader();
+		for (int i = 0; i < 50 && type.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertThat(type.get(), is(nullValue()));
+	}
+
+	private WeakReference<Class<?>> proxyClassOfDiscardedLoader() throws Exception {
+		final ClassLoader loader = new DiscardedLoader(Target.class.getName());
+		final Class<?> type = loader.loadClass(Target.class.getName());
+		// without a resolver, as type information is cached by Spring Data
+		final Object proxy = AbstractResolver.proxyInstantiator(type).newProxy(null);
+		assertThat(proxy.getClass().getClassLoader(), is(sameInstance(loader)));
+		return new WeakReference<>(type);
+	}
+
+	/**
+	 * Loads the class with the given name itself, so that it can be unloaded together with the loader.
+	 */
+	private static class DiscardedLoader extends ClassLoader {
+
+		private final String className;
+
+		DiscardedLoader(final String className) {
+			super(AbstractResolverTest.class.getClassLoader());
+			this.className = className;
+		}
+
+		@Override
+		protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+			if (!className.equals(name)) {
+				return super.loadClass(name, resolve);
+			}
+			synchronized (getClassLoadingLock(name)) {
+				final Class<?> loaded = findLoadedClass(name);
+				if (loaded != null) {
+					return loaded;
+				}
+				try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+					final byte[] bytes = in.readAllBytes();
+					return defineClass(name, bytes, 0, bytes.length);
+				} catch (final IOException e) {
+					throw new ClassNotFoundException(name, e);
+				}
+			}
+		}
+	}
+
+}
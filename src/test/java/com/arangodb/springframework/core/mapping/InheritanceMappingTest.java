@@ -26,6 +26,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -71,6 +72,24 @@ public class InheritanceMappingTest extends AbstractArangoTest {
 		assertThat(((SimpleBasicChildTestEntity) document.value).field, is(child.field));
 	}
 
+	@Document("genericValueTest")
+	public static class GenericValueTestEntity<T> extends BasicTestEntity {
+		T value;
+	}
+
+	public static class DateValueTestEntity extends GenericValueTestEntity<Date> {
+	}
+
+	@Test
+	public void subtypeRetypingInheritedProperty() {
+		final DateValueTestEntity entity = new DateValueTestEntity();
+		entity.value = new Date(0);
+		template.insert(entity);
+		final GenericValueTestEntity<?> document = template.find(entity.getId(), GenericValueTestEntity.class).get();
+		assertThat(document, is(instanceOf(DateValueTestEntity.class)));
+		assertThat(document.value, is(entity.value));
+	}
+
 	@Test
 	public void complexPropertyInheritanceMapping() {
 		final SimpleBasicChildTestEntity innerChild = new SimpleBasicChildTestEntity();
@@ -30,6 +30,8 @@ import static org.hamcrest.Matchers.notNullValue;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -158,6 +160,70 @@ public class RefMappingTest extends AbstractArangoTest {
 		}
 	}
 
+	@Test
+	public void multiRefKeepsOrder() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final BasicTestEntity e2 = new BasicTestEntity();
+		template.insert(e2);
+		final BasicTestEntity e3 = new BasicTestEntity();
+		template.insert(e3);
+		final MultiReferenceTestEntity e0 = new MultiReferenceTestEntity();
+		e0.entities = Arrays.asList(e3, e1, e2, e1);
+		template.insert(e0);
+		final MultiReferenceTestEntity document = template.find(e0.id, MultiReferenceTestEntity.class).get();
+		assertThat(document.entities.stream().map(BasicTestEntity::getId).collect(Collectors.toList()),
+			is(Arrays.asList(e3.getId(), e1.getId(), e2.getId(), e1.getId())));
+	}
+
+	@Test
+	public void multiRefLazyResolvesAllOnFirstAccess() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final BasicTestEntity e2 = new BasicTestEntity();
+		template.insert(e2);
+		final MultiReferenceLazyTestEntity e0 = new MultiReferenceLazyTestEntity();
+		e0.entities = Arrays.asList(e1, e2);
+		template.insert(e0);
+		final MultiReferenceLazyTestEntity document = template.find(e0.id, MultiReferenceLazyTestEntity.class).get();
+		final List<BasicTestEntity> entities = new ArrayList<>(document.entities);
+		assertThat(entities.get(0).getId(), is(e1.getId()));
+		assertThat(entities.get(1).getId(), is(e2.getId()));
+	}
+
+	public static class PrefetchReferenceTestEntity extends BasicTestEntity {
+		@Ref(prefetch = true)
+		private BasicTestEntity entity;
+		@Ref(prefetch = true)
+		private Collection<BasicTestEntity> entities;
+	}
+
+	@Test
+	public void prefetchRefInQuery() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final BasicTestEntity e2 = new BasicTestEntity();
+		template.insert(e2);
+		final PrefetchReferenceTestEntity e0 = new PrefetchReferenceTestEntity();
+		e0.entity = e1;
+		e0.entities = Arrays.asList(e2, e1);
+		template.insert(e0);
+		final PrefetchReferenceTestEntity e3 = new PrefetchReferenceTestEntity();
+		e3.entity = e2;
+		template.insert(e3);
+		final List<PrefetchReferenceTestEntity> documents = template
+				.query("FOR e IN @@col SORT e._key RETURN e", Collections.singletonMap("@col", PrefetchReferenceTestEntity.class),
+					PrefetchReferenceTestEntity.class)
+				.asListRemaining();
+		assertThat(documents.size(), is(2));
+		final PrefetchReferenceTestEntity d0 = documents.stream().filter(d -> d.getId().equals(e0.getId())).findFirst().get();
+		final PrefetchReferenceTestEntity d3 = documents.stream().filter(d -> d.getId().equals(e3.getId())).findFirst().get();
+		assertThat(d0.entity.getId(), is(e1.getId()));
+		assertThat(d0.entities.stream().map(BasicTestEntity::getId).collect(Collectors.toList()),
+			is(Arrays.asList(e2.getId(), e1.getId())));
+		assertThat(d3.entity.getId(), is(e2.getId()));
+	}
+
 	public static class NestedReferenceTestEntity extends BasicTestEntity {
 		private NestedReferenceSubTestEntity sub;
 	}
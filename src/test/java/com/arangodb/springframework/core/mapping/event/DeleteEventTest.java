@@ -22,6 +22,7 @@ package com.arangodb.springframework.core.mapping.event;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +31,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import com.arangodb.springframework.AbstractArangoTest;
 import com.arangodb.springframework.testdata.Customer;
@@ -95,4 +97,20 @@ public class DeleteEventTest extends AbstractArangoTest {
 		assertThat(listener.afterDeleteEvents.get(0).getSource(), is(bob.getId()));
 	}
 
+	@Test
+	public void deleteEntitiesBatchDeleteEvent() {
+		template.insertAll(customers, Customer.class);
+		template.delete(john.getId(), Customer.class);
+		clearEvents();
+
+		assertThrows(OptimisticLockingFailureException.class,
+			() -> template.deleteAllEntities(customers, Customer.class));
+
+		assertThat(listener.beforeDeleteEvents.size(), is(1));
+		assertThat(listener.beforeDeleteEvents.get(0).getSource(), is(List.of(john.getId(), bob.getId())));
+
+		assertThat(listener.afterDeleteEvents.size(), is(1));
+		assertThat(listener.afterDeleteEvents.get(0).getSource(), is(List.of(bob.getId())));
+	}
+
 }
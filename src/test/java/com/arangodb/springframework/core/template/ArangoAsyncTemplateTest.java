@@ -0,0 +1,210 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.core.template;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.annotation.Id;
+
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentDeleteEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.DocumentDeleteOptions;
+import com.arangodb.model.DocumentUpdateOptions;
+import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.annotation.Document;
+import com.arangodb.springframework.annotation.Ref;
+
+public class ArangoAsyncTemplateTest extends AbstractArangoTest {
+
+	@Document("asyncTemplatePet")
+	public static class Pet {
+		@Id
+		private String id;
+		private String name;
+
+		public Pet() {
+		}
+
+		public Pet(final String id, final String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Document("asyncTemplateOwner")
+	public static class Owner {
+		@Id
+		private String id;
+		private String name;
+		@Ref
+		private Pet pet;
+
+		public Owner() {
+		}
+
+		public Owner(final String id, final String name, final Pet pet) {
+			this.id = id;
+			this.name = name;
+			this.pet = pet;
+		}
+	}
+
+	private final AtomicInteger conversions = new AtomicInteger();
+	private ArangoAsyncTemplate asyncTemplate;
+
+	public ArangoAsyncTemplateTest() {
+		super(Pet.class, Owner.class);
+	}
+
+	@BeforeEach
+	public void createAsyncTemplate() {
+		asyncTemplate = new ArangoAsyncTemplate((ArangoTemplate) template);
+		final Executor executor = command -> {
+			conversions.incrementAndGet();
+			ForkJoinPool.commonPool().execute(command);
+		};
+		asyncTemplate.setConversionExecutor(executor);
+	}
+
+	@Test
+	public void findResolvesReferencesOnConversionExecutor() throws ExecutionException, InterruptedException {
+		final Pet pet = new Pet("1", "Rex");
+		template.insert(pet);
+		template.insert(new Owner("1", "John", pet));
+
+		final Owner owner = asyncTemplate.find("1", Owner.class).get().get();
+		assertThat(owner.name, is("John"));
+		assertThat(owner.pet.name, is("Rex"));
+		assertThat(conversions.get(), is(1));
+		assertThat(asyncTemplate.find("2", Owner.class).get().isPresent(), is(false));
+	}
+
+	@Test
+	public void findAllAndQueryResolveReferences() throws ExecutionException, InterruptedException {
+		final Pet pet = new Pet("1", "Rex");
+		template.insert(pet);
+		template.insert(new Owner("1", "John", pet));
+		template.insert(new Owner("2", "Jane", pet));
+
+		final Iterable<Owner> found = asyncTemplate.findAll(Arrays.asList("2", "1"), Owner.class).get();
+		assertThat(names(found), contains("Jane", "John"));
+		found.forEach(owner -> assertThat(owner.pet.name, is("Rex")));
+
+		final List<Owner> queried = asyncTemplate.query("FOR o IN @@col SORT o.name RETURN o",
+				Collections.singletonMap("@col", Owner.class), Owner.class).get();
+		assertThat(names(queried), contains("Jane", "John"));
+		queried.forEach(owner -> assertThat(owner.pet.name, is("Rex")));
+	}
+
+	@Test
+	public void writes() throws ExecutionException, InterruptedException {
+		final Pet pet = new Pet(null, "Rex");
+		asyncTemplate.insert(pet).get();
+		assertThat(template.find(pet.id, Pet.class).get().name, is("Rex"));
+
+		asyncTemplate.update(pet.id, new Pet(pet.id, "Max"), new DocumentUpdateOptions()).get();
+		assertThat(asyncTemplate.find(pet.id, Pet.class).get().get().name, is("Max"));
+
+		final Pet saved = asyncTemplate.repsert(new Pet(pet.id, "Bella")).get();
+		assertThat(saved.name, is("Bella"));
+
+		asyncTemplate.delete(pet.id, Pet.class).get();
+		assertThat(template.find(pet.id, Pet.class).isPresent(), is(false));
+	}
+
+	@Test
+	public void writesConvertReturnedDocumentsOnConversionExecutor() throws ExecutionException, InterruptedException {
+		final Pet pet = new Pet("1", "Rex");
+		template.insert(pet);
+
+		final Owner saved = asyncTemplate.repsert(new Owner("1", "John", pet)).get();
+		assertThat(saved.pet.name, is("Rex"));
+		assertThat(conversions.get(), is(1));
+
+		final MultiDocumentEntity<DocumentCreateEntity<Owner>> inserted = asyncTemplate
+				.insertAll(Arrays.asList(new Owner("2", "Jane", pet)), new DocumentCreateOptions().returnNew(true),
+						Owner.class)
+				.get();
+		assertThat(inserted.getDocuments().iterator().next().getNew().pet.name, is("Rex"));
+		assertThat(conversions.get(), is(2));
+
+		final DocumentDeleteEntity<Owner> deleted = asyncTemplate
+				.delete("2", new DocumentDeleteOptions().returnOld(true), Owner.class).get();
+		assertThat(deleted.getOld().name, is("Jane"));
+		assertThat(deleted.getOld().pet.name, is("Rex"));
+		assertThat(conversions.get(), is(3));
+	}
+
+	@Test
+	public void bulkDeletes() throws ExecutionException, InterruptedException {
+		template.insertAll(Arrays.asList(new Pet("1", "Rex"), new Pet("2", "Max"), new Pet("3", "Bella")), Pet.class);
+
+		final MultiDocumentEntity<DocumentDeleteEntity<Pet>> deleted = asyncTemplate
+				.deleteAllById(Arrays.asList("1", "4"), new DocumentDeleteOptions(), Pet.class).get();
+		assertThat(deleted.getDocuments().size(), is(1));
+		assertThat(deleted.getErrors().size(), is(1));
+
+		final ExecutionException e = assertThrows(ExecutionException.class, () -> asyncTemplate
+				.deleteAllEntities(Arrays.asList(new Pet("1", "Rex"), new Pet("2", "Max")), Pet.class).get());
+		assertThat(e.getCause(), is(instanceOf(OptimisticLockingFailureException.class)));
+		assertThat(template.find("2", Pet.class).isPresent(), is(false));
+		assertThat(template.find("3", Pet.class).isPresent(), is(true));
+	}
+
+	@Test
+	public void convertsOnDefaultExecutor() throws ExecutionException, InterruptedException {
+		final ArangoAsyncTemplate defaultTemplate = new ArangoAsyncTemplate((ArangoTemplate) template);
+		try {
+			final Pet pet = new Pet("1", "Rex");
+			template.insert(pet);
+			template.insert(new Owner("1", "John", pet));
+			assertThat(defaultTemplate.find("1", Owner.class).get().get().pet.name, is("Rex"));
+		} finally {
+			defaultTemplate.destroy();
+		}
+	}
+
+	private static List<String> names(final Iterable<Owner> owners) {
+		return StreamSupport.stream(owners.spliterator(), false).map(owner -> owner.name)
+				.collect(Collectors.toList());
+	}
+
+}
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import com.arangodb.entity.*;
@@ -44,6 +45,7 @@ import com.arangodb.springframework.annotation.Document;
 import com.arangodb.springframework.testdata.Address;
 import com.arangodb.springframework.testdata.Customer;
 import com.arangodb.springframework.testdata.Product;
+import com.arangodb.springframework.testdata.ShoppingCart;
 
 /**
  * @author Mark Vollmary
@@ -159,6 +161,139 @@ public class ArangoTemplateTest extends AbstractArangoTest {
 		}
 	}
 
+	@Test
+	public void insertDocumentsInBatches() {
+		final ArangoTemplate arangoTemplate = (ArangoTemplate) template;
+		arangoTemplate.setWriteBatchSize(3);
+		arangoTemplate.setMaxConcurrentWriteBatches(2);
+		try {
+			final List<Customer> customers = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				customers.add(new Customer("John" + i, "Doe", i));
+			}
+			customers.get(9).setId("duplicate");
+			customers.get(4).setId("duplicate");
+			final MultiDocumentEntity<DocumentCreateEntity<Customer>> res = template.insertAll(customers,
+					new DocumentCreateOptions(), Customer.class);
+			assertThat(res.getDocuments().size(), is(9));
+			assertThat(res.getErrors().size(), is(1));
+			assertThat(res.getDocumentsAndErrors().size(), is(10));
+			for (final Customer customer : customers.subList(0, 9)) {
+				assertThat(template.find(customer.getId(), Customer.class).get().getName(), is(customer.getName()));
+			}
+		} finally {
+			arangoTemplate.setWriteBatchSize(0);
+			arangoTemplate.setMaxConcurrentWriteBatches(1);
+		}
+	}
+
+	@Test
+	public void insertDocumentsInBatchesReturnNewResolvesReferences() {
+		final ArangoTemplate arangoTemplate = (ArangoTemplate) template;
+		final ShoppingCart cart = new ShoppingCart();
+		template.insert(cart);
+		arangoTemplate.setWriteBatchSize(2);
+		try {
+			final List<Customer> customers = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				final Customer customer = new Customer("John" + i, "Doe", i);
+				customer.setShoppingCart(cart);
+				customers.add(customer);
+			}
+			final MultiDocumentEntity<DocumentCreateEntity<Customer>> res = template.insertAll(customers,
+					new DocumentCreateOptions().returnNew(true), Customer.class);
+			assertThat(res.getDocuments().size(), is(3));
+			for (final DocumentCreateEntity<Customer> document : res.getDocuments()) {
+				assertThat(document.getNew().getName(), startsWith("John"));
+				assertThat(document.getNew().getShoppingCart().getId(), is(cart.getId()));
+			}
+		} finally {
+			arangoTemplate.setWriteBatchSize(0);
+			template.delete(cart.getId(), ShoppingCart.class);
+		}
+	}
+
+	@Test
+	public void streamDocuments() {
+		for (int i = 0; i < 5; i++) {
+			template.insert(new Customer("John" + i, "Doe", i));
+		}
+		try (Stream<Customer> stream = template.stream(Customer.class, new AqlQueryOptions().batchSize(2))) {
+			assertThat(stream.map(Customer::getAge).collect(Collectors.toSet()), containsInAnyOrder(0, 1, 2, 3, 4));
+		}
+	}
+
+	@Test
+	public void importDocuments() {
+		final Customer existing = new Customer("John", "Doe", 30);
+		existing.setId("existing");
+		template.insert(existing);
+
+		final List<Customer> customers = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			final Customer customer = new Customer("John" + i, "Doe", i);
+			customer.setId("import-" + i);
+			customers.add(customer);
+		}
+		final Customer duplicate = new Customer("Jane", "Doe", 40);
+		duplicate.setId("existing");
+		customers.add(duplicate);
+
+		final DocumentImportEntity res = template.importAll(customers.stream(),
+				new DocumentImportOptions().onDuplicate(DocumentImportOptions.OnDuplicate.ignore), false, Customer.class);
+		assertThat(res.getCreated(), is(5));
+		assertThat(res.getIgnored(), is(1));
+		assertThat(res.getErrors(), is(0));
+		assertThat(template.find("import-3", Customer.class).get().getName(), is("John3"));
+		assertThat(template.find("existing", Customer.class).get().getName(), is("John"));
+	}
+
+	@Test
+	public void repsertOneShotIterable() {
+		final ArangoTemplate arangoTemplate = (ArangoTemplate) template;
+		for (final int batchSize : new int[] { 0, 2 }) {
+			arangoTemplate.setWriteBatchSize(batchSize);
+			try {
+				// a stream can only be iterated once
+				final Stream<Customer> stream = Stream.of(new Customer("John", "Doe", 30),
+						new Customer("Jane", "Doe", 26), new Customer("Bob", "Doe", 40));
+				final Iterable<Customer> values = stream::iterator;
+				final Iterable<Customer> res = template.repsertAll(values, Customer.class);
+				assertThat(StreamSupport.stream(res.spliterator(), false).map(Customer::getName).toList(),
+						contains("John", "Jane", "Bob"));
+			} finally {
+				arangoTemplate.setWriteBatchSize(0);
+			}
+		}
+		assertThat(template.collection(Customer.class).count(), is(6L));
+	}
+
+	@Test
+	public void repsertDocumentsInBatches() {
+		final ArangoTemplate arangoTemplate = (ArangoTemplate) template;
+		arangoTemplate.setWriteBatchSize(3);
+		arangoTemplate.setMaxConcurrentWriteBatches(2);
+		try {
+			final List<Customer> customers = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				customers.add(new Customer("John" + i, "Doe", i));
+			}
+			final Iterable<Customer> res = template.repsertAll(customers, Customer.class);
+			final Iterator<Customer> cIt = customers.iterator();
+			for (final Customer re : res) {
+				final Customer c = cIt.next();
+				assertThat(c.getId(), is(notNullValue()));
+				assertThat(re.getId(), is(c.getId()));
+				assertThat(re.getName(), is(c.getName()));
+			}
+			assertThat(cIt.hasNext(), is(false));
+			assertThat(template.collection(Customer.class).count(), is(10L));
+		} finally {
+			arangoTemplate.setWriteBatchSize(0);
+			arangoTemplate.setMaxConcurrentWriteBatches(1);
+		}
+	}
+
 	@Test
 	public void repsertDocumentRevConflict() {
 		String id = "id-" + UUID.randomUUID();
@@ -0,0 +1,257 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.core.template;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.annotation.Id;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.arangodb.model.DocumentUpdateOptions;
+import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.annotation.Document;
+import com.arangodb.springframework.annotation.EntityCache;
+import com.arangodb.springframework.annotation.Rev;
+import com.arangodb.springframework.config.ArangoConfiguration;
+import com.arangodb.springframework.repository.ArangoRepository;
+import com.arangodb.springframework.repository.ArangoRepositoryFactory;
+import com.arangodb.springframework.transaction.ArangoTransactionManager;
+
+public class EntityCacheTest extends AbstractArangoTest {
+
+    private static final String COLLECTION = "entityCacheTest";
+
+    @Document(COLLECTION)
+    @EntityCache(ttl = 3600)
+    public static class CachedEntity {
+        @Id
+        private String id;
+        @Rev
+        private String rev;
+        private String value;
+
+        public CachedEntity() {
+        }
+
+        public CachedEntity(final String id, final String value) {
+            this.id = id;
+            this.value = value;
+        }
+    }
+
+    @Document(COLLECTION)
+    @EntityCache(ttl = 1, revalidate = true)
+    public static class RevalidatedEntity {
+        @Id
+        private String id;
+        @Rev
+        private String rev;
+        private String value;
+
+        public RevalidatedEntity() {
+        }
+
+        public RevalidatedEntity(final String id, final String value) {
+            this.id = id;
+            this.value = value;
+        }
+    }
+
+    @Document("entityCacheTestUncached")
+    public static class UncachedEntity {
+        @Id
+        private String id;
+        private String value;
+
+        public UncachedEntity() {
+        }
+
+        public UncachedEntity(final String id, final String value) {
+            this.id = id;
+            this.value = value;
+        }
+    }
+
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    private ArangoConfiguration configuration;
+
+    public EntityCacheTest() {
+        super(CachedEntity.class, UncachedEntity.class);
+    }
+
+    @Test
+    public void findServesCachedDocumentUntilWrite() {
+        template.insert(new CachedEntity("1", "a"));
+        assertThat(template.find("1", CachedEntity.class).get().value, is("a"));
+
+        db.collection(COLLECTION).updateDocument("1", Collections.singletonMap("value", "b"));
+        assertThat(template.find("1", CachedEntity.class).get().value, is("a"));
+
+        template.update("1", new CachedEntity("1", "c"));
+        assertThat(template.find("1", CachedEntity.class).get().value, is("c"));
+
+        template.repsert(new CachedEntity("1", "d"));
+        assertThat(template.find("1", CachedEntity.class).get().value, is("d"));
+
+        template.delete("1", CachedEntity.class);
+        assertThat(template.find("1", CachedEntity.class).isPresent(), is(false));
+    }
+
+    @Test
+    public void findAllReadsMissingDocuments() {
+        template.insert(new CachedEntity("1", "a"));
+        template.insert(new CachedEntity("2", "b"));
+        template.find("1", CachedEntity.class);
+
+        db.collection(COLLECTION).updateDocument("1", Collections.singletonMap("value", "a2"));
+        db.collection(COLLECTION).updateDocument("2", Collections.singletonMap("value", "b2"));
+        assertThat(values(template.findAll(Arrays.asList("2", "3", "1"), CachedEntity.class)), contains("b2", "a"));
+        assertThat(template.find("2", CachedEntity.class).get().value, is("b2"));
+
+        template.collection(CachedEntity.class).truncate();
+        assertThat(values(template.findAll(Arrays.asList("1", "2"), CachedEntity.class)).isEmpty(), is(true));
+    }
+
+    @Test
+    public void findRevalidatesExpiredDocument() throws InterruptedException {
+        template.insert(new RevalidatedEntity("1", "a"));
+        assertThat(template.find("1", RevalidatedEntity.class).get().value, is("a"));
+
+        Thread.sleep(1_100);
+        assertThat(template.find("1", RevalidatedEntity.class).get().value, is("a"));
+
+        db.collection(COLLECTION).updateDocument("1", Collections.singletonMap("value", "b"));
+        Thread.sleep(1_100);
+        assertThat(template.find("1", RevalidatedEntity.class).get().value, is("b"));
+
+        db.collection(COLLECTION).deleteDocument("1");
+        Thread.sleep(1_100);
+        assertThat(template.find("1", RevalidatedEntity.class).isPresent(), is(false));
+    }
+
+    public interface CachedEntityRepository extends ArangoRepository<CachedEntity, String> {
+        long deleteByValue(String value);
+    }
+
+    @Test
+    public void derivedDeleteQueryEvictsCachedDocuments() {
+        final CachedEntityRepository repository = new ArangoRepositoryFactory((ArangoTemplate) template,
+                applicationContext, configuration).getRepository(CachedEntityRepository.class);
+        template.insert(new CachedEntity("1", "a"));
+        assertThat(template.find("1", CachedEntity.class).get().value, is("a"));
+
+        assertThat(repository.deleteByValue("a"), is(1L));
+        assertThat(template.find("1", CachedEntity.class).isPresent(), is(false));
+    }
+
+    @Test
+    public void deleteEntitiesEvictsOnlyDeletedDocuments() {
+        template.insert(new CachedEntity("1", "a"));
+        template.insert(new CachedEntity("2", "b"));
+        template.find("1", CachedEntity.class);
+        template.find("2", CachedEntity.class);
+
+        db.collection(COLLECTION).updateDocument("2", Collections.singletonMap("value", "b2"));
+        template.deleteAllEntities(Arrays.asList(new CachedEntity("1", "a")), CachedEntity.class);
+        assertThat(template.find("1", CachedEntity.class).isPresent(), is(false));
+        assertThat(template.find("2", CachedEntity.class).get().value, is("b"));
+    }
+
+    @Test
+    public void writeWithinTransactionIsEvictedAgainAfterCommit() {
+        final ArangoTransactionManager transactionManager = new ArangoTransactionManager((ArangoTemplate) template);
+        transactionManager.setEntityClasses(CachedEntity.class);
+        template.insert(new CachedEntity("1", "a"));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            template.update("1", new CachedEntity("1", "b"));
+            // a read outside of the transaction caches the document as it was before the commit
+            final CachedEntity concurrent = CompletableFuture
+                    .supplyAsync(() -> template.find("1", CachedEntity.class).get()).join();
+            assertThat(concurrent.value, is("a"));
+        });
+        assertThat(template.find("1", CachedEntity.class).get().value, is("b"));
+    }
+
+    @Test
+    public void transactionRegistersSingleEvictionSynchronization() {
+        final ArangoTransactionManager transactionManager = new ArangoTransactionManager((ArangoTemplate) template);
+        transactionManager.setEntityClasses(CachedEntity.class, UncachedEntity.class);
+        template.insert(new CachedEntity("1", "a"));
+        template.insert(new CachedEntity("2", "a"));
+        template.insert(new UncachedEntity("1", "a"));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            template.update("1", new UncachedEntity("1", "b"));
+            template.delete("1", UncachedEntity.class);
+            assertThat(TransactionSynchronizationManager.getSynchronizations(), is(empty()));
+
+            template.update("1", new CachedEntity("1", "b"));
+            template.update("2", new CachedEntity("2", "b"));
+            template.delete("1", CachedEntity.class);
+            assertThat(TransactionSynchronizationManager.getSynchronizations(), hasSize(1));
+        });
+    }
+
+    @Test
+    public void asyncWritesEvictCachedDocuments() throws Exception {
+        final ArangoAsyncTemplate asyncTemplate = new ArangoAsyncTemplate((ArangoTemplate) template);
+        try {
+            template.insert(new CachedEntity("1", "a"));
+            assertThat(template.find("1", CachedEntity.class).get().value, is("a"));
+
+            asyncTemplate.update("1", new CachedEntity("1", "b"), new DocumentUpdateOptions()).get();
+            assertThat(template.find("1", CachedEntity.class).get().value, is("b"));
+
+            asyncTemplate.repsert(new CachedEntity("1", "c")).get();
+            assertThat(template.find("1", CachedEntity.class).get().value, is("c"));
+
+            asyncTemplate.delete("1", CachedEntity.class).get();
+            assertThat(template.find("1", CachedEntity.class).isPresent(), is(false));
+        } finally {
+            asyncTemplate.destroy();
+        }
+    }
+
+    private static List<String> values(final Iterable<CachedEntity> entities) {
+        return StreamSupport.stream(entities.spliterator(), false).map(entity -> entity.value)
+                .collect(Collectors.toList());
+    }
+
+}
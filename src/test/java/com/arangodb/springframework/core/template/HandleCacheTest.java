@@ -0,0 +1,108 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.core.template;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class HandleCacheTest {
+
+	@Test
+	public void hitsAndMisses() {
+		final HandleCache<String, Integer> cache = new HandleCache<>(value -> true);
+		final AtomicInteger loads = new AtomicInteger();
+		assertThat(cache.get("a", key -> loads.incrementAndGet()), is(1));
+		assertThat(cache.get("a", key -> loads.incrementAndGet()), is(1));
+		assertThat(cache.get("b", key -> loads.incrementAndGet()), is(2));
+
+		final HandleCacheStatistics statistics = cache.statistics();
+		assertThat(statistics.getHitCount(), is(1L));
+		assertThat(statistics.getMissCount(), is(2L));
+		assertThat(statistics.getEvictionCount(), is(0L));
+		assertThat(statistics.getSize(), is(2));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsed() throws InterruptedException {
+		final HandleCache<Integer, Integer> cache = new HandleCache<>(value -> true);
+		cache.setMaximumSize(10);
+		for (int i = 0; i < 10; i++) {
+			cache.get(i, key -> key);
+			Thread.sleep(1);
+		}
+		// keeps 0 in use, so 1 is the least recently used entry
+		cache.get(0, key -> -1);
+		cache.get(10, key -> key);
+
+		final HandleCacheStatistics statistics = cache.statistics();
+		assertThat(statistics.getSize(), is(9));
+		assertThat(statistics.getEvictionCount(), is(2L));
+		assertThat(cache.get(0, key -> -1), is(0));
+		assertThat(cache.get(1, key -> -1), is(-1));
+	}
+
+	@Test
+	public void evictsIdleEntries() throws InterruptedException {
+		final HandleCache<String, Integer> cache = new HandleCache<>(value -> true);
+		cache.setIdleTimeout(Duration.ofMillis(10));
+		cache.get("a", key -> 1);
+		Thread.sleep(20);
+		assertThat(cache.get("a", key -> 2), is(2));
+		assertThat(cache.statistics().getEvictionCount(), is(1L));
+	}
+
+	@Test
+	public void refreshesInBackground() throws InterruptedException {
+		final AtomicBoolean valid = new AtomicBoolean(true);
+		final HandleCache<String, Integer> cache = new HandleCache<>(value -> valid.get());
+		cache.setRefreshInterval(Duration.ofMillis(1));
+		cache.setRefreshExecutor(Runnable::run);
+		cache.get("a", key -> 1);
+		Thread.sleep(5);
+		assertThat(cache.get("a", key -> 2), is(1));
+		assertThat(cache.statistics().getRefreshCount(), is(1L));
+
+		valid.set(false);
+		Thread.sleep(5);
+		// the stale handle is still returned, its replacement is loaded with the next access
+		assertThat(cache.get("a", key -> 2), is(1));
+		assertThat(cache.get("a", key -> 2), is(2));
+	}
+
+	@Test
+	public void removesEntries() {
+		final HandleCache<String, Integer> cache = new HandleCache<>(value -> true);
+		cache.get("db0/a", key -> 1);
+		cache.get("db0/b", key -> 1);
+		cache.get("db1/a", key -> 1);
+		cache.removeIf(key -> key.startsWith("db0/"));
+		cache.remove("db1/a");
+		assertThat(cache.statistics().getSize(), is(0));
+	}
+
+}
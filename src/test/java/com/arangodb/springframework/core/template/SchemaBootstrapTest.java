@@ -0,0 +1,102 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.core.template;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.arangodb.model.PersistentIndexOptions;
+import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.ArangoTestConfiguration;
+import com.arangodb.springframework.annotation.Document;
+import com.arangodb.springframework.annotation.GeoIndexed;
+import com.arangodb.springframework.annotation.PersistentIndex;
+
+public class SchemaBootstrapTest extends AbstractArangoTest {
+
+    private static final String COLLECTION = "schemaBootstrapTest";
+    private static final String TENANT_DB = "spring-test-schema-bootstrap-tenant";
+
+    @Document(COLLECTION)
+    @PersistentIndex(fields = {"a", "b"}, unique = true)
+    public static class SchemaBootstrapTestEntity {
+        private String a;
+        private String b;
+        @GeoIndexed
+        private double[] location;
+    }
+
+    @Test
+    public void ensureAndVerifySchema() {
+        final ArangoTemplate arangoTemplate = (ArangoTemplate) template;
+        template.getConverter().getMappingContext().getRequiredPersistentEntity(SchemaBootstrapTestEntity.class);
+
+        assertThat(kinds(arangoTemplate.verifySchema()), contains(SchemaDrift.Kind.MISSING_COLLECTION));
+        assertThat(db.collection(COLLECTION).exists(), is(false));
+
+        arangoTemplate.ensureSchema();
+        assertThat(db.collection(COLLECTION).exists(), is(true));
+        assertThat(db.collection(COLLECTION).getIndexes().size(), is(3));
+        assertThat(kinds(arangoTemplate.verifySchema()), is(empty()));
+
+        db.collection(COLLECTION).ensurePersistentIndex(Collections.singleton("c"), new PersistentIndexOptions());
+        db.collection(COLLECTION).getIndexes().stream()
+                .filter(index -> index.getFields().contains("location"))
+                .forEach(index -> db.collection(COLLECTION).deleteIndex(index.getId()));
+        assertThat(kinds(arangoTemplate.verifySchema()),
+                containsInAnyOrder(SchemaDrift.Kind.MISSING_INDEX, SchemaDrift.Kind.UNDECLARED_INDEX));
+    }
+
+    @Test
+    public void ensureSchemaInDatabaseOfCallingThread() {
+        final ArangoTemplate arangoTemplate = (ArangoTemplate) template;
+        template.getConverter().getMappingContext().getRequiredPersistentEntity(SchemaBootstrapTestEntity.class);
+        final ThreadLocal<String> tenant = ThreadLocal.withInitial(() -> ArangoTestConfiguration.DB);
+        arangoTemplate.setTenantResolver(tenant::get);
+        tenant.set(TENANT_DB);
+        try {
+            arangoTemplate.ensureSchema();
+            assertThat(template.driver().db(TENANT_DB).collection(COLLECTION).exists(), is(true));
+        } finally {
+            tenant.remove();
+            arangoTemplate.setTenantResolver(null);
+            if (template.driver().db(TENANT_DB).exists()) {
+                template.driver().db(TENANT_DB).drop();
+            }
+        }
+    }
+
+    private static List<SchemaDrift.Kind> kinds(final List<SchemaDrift> drifts) {
+        return drifts.stream().filter(drift -> drift.getCollection().equals(COLLECTION)).map(SchemaDrift::getKind)
+                .collect(Collectors.toList());
+    }
+
+}
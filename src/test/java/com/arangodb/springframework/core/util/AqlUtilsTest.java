@@ -20,12 +20,17 @@
 
 package com.arangodb.springframework.core.util;
 
+import com.arangodb.springframework.annotation.Field;
+import com.arangodb.springframework.core.mapping.ArangoMappingContext;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -41,6 +46,7 @@ public class AqlUtilsTest {
 		assertThat(AqlUtils.buildLimitClause(Pageable.unpaged()), is(""));
 		assertThat(AqlUtils.buildLimitClause(PageRequest.of(0, 1)), is("LIMIT 0, 1"));
 		assertThat(AqlUtils.buildLimitClause(PageRequest.of(10, 20)), is("LIMIT 200, 20"));
+		assertThat(AqlUtils.buildLimitClause(PageRequest.of(10, 20), 1), is("LIMIT 200, 21"));
 	}
 
 	@Test
@@ -169,4 +175,27 @@ public class AqlUtilsTest {
 
 	}
 
+	@Test
+	public void buildProjectionTest() {
+		final ArangoMappingContext context = new ArangoMappingContext();
+		assertThat(AqlUtils.buildProjection(Arrays.asList("name", "address.city"), Collections.singletonList("_key"),
+			context, Person.class, "e"),
+			is("{ \"_key\": e._key, \"first-name\": e.`first-name`, "
+					+ "\"address\": IS_OBJECT(e.address) ? { \"city\": e.address.city } : e.address }"));
+		// the whole attribute supersedes projected sub attributes
+		assertThat(AqlUtils.buildProjection(Arrays.asList("address.city", "address", "address.street"),
+			Collections.emptyList(), context, Person.class, "e"), is("{ \"address\": e.address }"));
+	}
+
+	static class Person {
+		@Field("first-name")
+		private String name;
+		private PersonAddress address;
+	}
+
+	static class PersonAddress {
+		private String city;
+		private String street;
+	}
+
 }
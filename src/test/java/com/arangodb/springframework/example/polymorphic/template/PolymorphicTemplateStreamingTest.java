@@ -0,0 +1,32 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.example.polymorphic.template;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs {@link PolymorphicTemplate} with
+ * {@link com.arangodb.springframework.config.ArangoConfiguration#streamingSerde()} enabled.
+ */
+@TestPropertySource(properties = "streamingSerde=true")
+public class PolymorphicTemplateStreamingTest extends PolymorphicTemplate {
+}
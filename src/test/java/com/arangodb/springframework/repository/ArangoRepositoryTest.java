@@ -1,7 +1,9 @@
 package com.arangodb.springframework.repository;
 
+import com.arangodb.springframework.core.template.ArangoTemplate;
 import com.arangodb.springframework.testdata.Address;
 import com.arangodb.springframework.testdata.Customer;
+import com.arangodb.springframework.testdata.CustomerNameProjection;
 import com.arangodb.springframework.testdata.ShoppingCart;
 import com.arangodb.springframework.testdata.UserRecord;
 import com.arangodb.springframework.testdata.UserImmutable;
@@ -9,14 +11,17 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.dao.UncategorizedDataAccessException;
 import org.springframework.data.domain.*;
 import org.springframework.data.domain.ExampleMatcher.StringMatcher;
+import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.data.util.Streamable;
 import org.springframework.test.context.TestPropertySource;
 
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -301,6 +306,37 @@ public class ArangoRepositoryTest extends AbstractArangoRepositoryTest {
         assertThrows(OptimisticLockingFailureException.class, () -> repository.deleteAll(List.of(john, bob)));
     }
 
+    @Test
+    public void deleteByIterableWithRevDeletesOtherEntitiesOfBatchTest() {
+        repository.saveAll(customers);
+        var johnCopy = repository.findById(john.getId()).get();
+        johnCopy.setName("Johnny");
+        repository.save(johnCopy);
+        final OptimisticLockingFailureException e = assertThrows(OptimisticLockingFailureException.class,
+                () -> repository.deleteAll(List.of(bob, john)));
+        assertThat(e.getMessage(), containsString(john.getId()));
+        assertThat(repository.existsById(bob.getId()), equalTo(false));
+        assertThat(repository.existsById(john.getId()), equalTo(true));
+    }
+
+    @Test
+    public void deleteByIterableInBatchesTest() {
+        final List<Customer> toBeDeleted = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            toBeDeleted.add(new Customer("Customer" + i, "Batch", i));
+        }
+        repository.saveAll(toBeDeleted);
+        repository.save(john);
+        ((ArangoTemplate) template).setWriteBatchSize(2);
+        try {
+            repository.deleteAll(toBeDeleted);
+        } finally {
+            ((ArangoTemplate) template).setWriteBatchSize(0);
+        }
+        assertThat(repository.count(), equalTo(1L));
+        assertThat(repository.existsById(john.getId()), equalTo(true));
+    }
+
     @Test
     public void deleteAllTest() {
         repository.saveAll(customers);
@@ -352,6 +388,41 @@ public class ArangoRepositoryTest extends AbstractArangoRepositoryTest {
         assertThat(equals(expected, retrievedPage, cmp, eq, true), equalTo(true));
     }
 
+    @Test
+    public void findAllScrollTest() {
+        final List<Customer> toBeRetrieved = new LinkedList<>();
+        toBeRetrieved.add(new Customer("A", "Z", 0));
+        toBeRetrieved.add(new Customer("B", "X", 0));
+        toBeRetrieved.add(new Customer("B", "Y", 0));
+        toBeRetrieved.add(new Customer("C", "V", 0));
+        toBeRetrieved.add(new Customer("D", "T", 0));
+        repository.saveAll(toBeRetrieved);
+        final Sort sort = Sort.by("name", "surname");
+
+        final List<String> forward = new ArrayList<>();
+        Window<Customer> window = repository.findAll(ScrollPosition.keyset(), sort, Limit.of(2));
+        while (true) {
+            window.forEach(c -> forward.add(c.getSurname()));
+            if (!window.hasNext()) {
+                break;
+            }
+            window = repository.findAll(window.positionAt(window.size() - 1), sort, Limit.of(2));
+        }
+        assertThat(forward, contains("Z", "X", "Y", "V", "T"));
+
+        final Map<String, Object> keys = new HashMap<>();
+        keys.put("name", "C");
+        keys.put("surname", "V");
+        keys.put("id", toBeRetrieved.get(3).getId());
+        final Window<Customer> backward = repository.findAll(ScrollPosition.backward(keys), sort, Limit.of(2));
+        assertThat(backward.map(Customer::getSurname).getContent(), contains("X", "Y"));
+        assertThat(backward.hasNext(), equalTo(true));
+
+        final Window<Customer> offset = repository.findAll(ScrollPosition.offset(2), sort, Limit.of(5));
+        assertThat(offset.map(Customer::getSurname).getContent(), contains("V", "T"));
+        assertThat(offset.hasNext(), equalTo(false));
+    }
+
     @Test
     public void findOneByExampleTest() {
         repository.save(john);
@@ -379,6 +450,73 @@ public class ArangoRepositoryTest extends AbstractArangoRepositoryTest {
         assertThat(equals(checkList, retrievedList, cmp, eq, false), equalTo(true));
     }
 
+    @Test
+    public void findByFluentQueryTest() {
+        final List<Customer> toBeRetrieved = new LinkedList<>();
+        toBeRetrieved.add(new Customer("A", "Z", 0));
+        toBeRetrieved.add(new Customer("B", "X", 0));
+        toBeRetrieved.add(new Customer("B", "Y", 0));
+        toBeRetrieved.add(new Customer("B", "W", 0));
+        toBeRetrieved.add(new Customer("C", "V", 0));
+        repository.saveAll(toBeRetrieved);
+        final Example<Customer> example = Example.of(new Customer("B", null, 0));
+        final Sort bySurname = Sort.by("surname");
+
+        assertThat(repository.findBy(example, FluentQuery.FetchableFluentQuery::count), equalTo(3L));
+        assertThat(repository.findBy(example, q -> q.limit(2).count()), equalTo(2L));
+        assertThat(repository.findBy(example, FluentQuery.FetchableFluentQuery::exists), equalTo(true));
+        assertThat(repository.findBy(Example.of(new Customer("D", null, 0)), FluentQuery.FetchableFluentQuery::exists),
+                equalTo(false));
+
+        final List<Customer> all = repository.findBy(example, q -> q.sortBy(bySurname).limit(2).all());
+        assertThat(all.stream().map(Customer::getSurname).toList(), contains("W", "X"));
+        assertThat(repository.findBy(example, q -> q.sortBy(bySurname.descending()).first()).get().getSurname(),
+                equalTo("Y"));
+        assertThrows(IncorrectResultSizeDataAccessException.class, () -> repository.findBy(example, q -> q.one()));
+
+        final Page<Customer> page = repository.findBy(example, q -> q.page(PageRequest.of(1, 2, bySurname)));
+        assertThat(page.getTotalElements(), equalTo(3L));
+        assertThat(page.map(Customer::getSurname).getContent(), contains("Y"));
+
+        final Slice<Customer> slice = repository.findBy(example, q -> q.slice(PageRequest.of(0, 2, bySurname)));
+        assertThat(slice.map(Customer::getSurname).getContent(), contains("W", "X"));
+        assertThat(slice.hasNext(), equalTo(true));
+        assertThat(repository.findBy(example, q -> q.slice(PageRequest.of(1, 2, bySurname))).hasNext(),
+                equalTo(false));
+
+        final Window<Customer> window = repository.findBy(example,
+                q -> q.sortBy(bySurname).limit(2).scroll(ScrollPosition.keyset()));
+        assertThat(window.map(Customer::getSurname).getContent(), contains("W", "X"));
+        assertThat(window.hasNext(), equalTo(true));
+        final Window<Customer> next = repository.findBy(example,
+                q -> q.sortBy(bySurname).limit(2).scroll(window.positionAt(window.size() - 1)));
+        assertThat(next.map(Customer::getSurname).getContent(), contains("Y"));
+        assertThat(next.hasNext(), equalTo(false));
+
+        try (Stream<Customer> stream = repository.findBy(example, q -> q.sortBy(bySurname).stream())) {
+            assertThat(stream.map(Customer::getSurname).toList(), contains("W", "X", "Y"));
+        }
+
+        final List<Customer> projected = repository.findBy(example, q -> q.project("name").all());
+        assertThat(projected, hasSize(3));
+        projected.forEach(c -> {
+            assertThat(c.getName(), equalTo("B"));
+            assertThat(c.getSurname(), nullValue());
+        });
+        final List<CustomerNameProjection> dtos = repository.findBy(example,
+                q -> q.as(CustomerNameProjection.class).all());
+        assertThat(dtos.stream().map(CustomerNameProjection::getName).toList(), contains("B", "B", "B"));
+
+        final Window<CustomerNameProjection> dtoWindow = repository.findBy(example,
+                q -> q.as(CustomerNameProjection.class).sortBy(bySurname).limit(2).scroll(ScrollPosition.keyset()));
+        assertThat(dtoWindow.map(CustomerNameProjection::getName).getContent(), contains("B", "B"));
+        final Window<CustomerNameProjection> dtoNext = repository.findBy(example,
+                q -> q.as(CustomerNameProjection.class).sortBy(bySurname).limit(2)
+                        .scroll(dtoWindow.positionAt(dtoWindow.size() - 1)));
+        assertThat(dtoNext.getContent(), hasSize(1));
+        assertThat(dtoNext.hasNext(), equalTo(false));
+    }
+
     @Test
     public void findAllByExampleRegexTest() {
         final List<Customer> toBeRetrieved = new LinkedList<>();
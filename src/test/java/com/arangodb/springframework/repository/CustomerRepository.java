@@ -2,12 +2,16 @@ package com.arangodb.springframework.repository;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.stream.Stream;
 
 import com.arangodb.springframework.annotation.SpelParam;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Range;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.geo.Box;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Distance;
@@ -27,6 +31,7 @@ import com.arangodb.springframework.annotation.QueryOptions;
 import com.arangodb.springframework.repository.query.derived.geo.Ring;
 import com.arangodb.springframework.testdata.Customer;
 import com.arangodb.springframework.testdata.CustomerNameProjection;
+import com.arangodb.springframework.testdata.CustomerSummary;
 
 /**
  *
@@ -181,6 +186,14 @@ public interface CustomerRepository extends ArangoRepository<Customer, String>,
 
     boolean existsByName(String name);
 
+    long countAllBy();
+
+    long deleteBySurname(String surname);
+
+    List<String> removeKeysBySurname(String surname);
+
+    List<Customer> removeBySurnameAndAge(String surname, int age);
+
     Customer[] findByNestedCustomerAliveExistsAndStringListAllIgnoreCase(List<String> stringList);
 
     // SORT
@@ -190,6 +203,9 @@ public interface CustomerRepository extends ArangoRepository<Customer, String>,
     @Query("FOR c IN #collection FILTER c.`customer-name` == @name #sort RETURN c")
     List<Customer> findByNameWithSort(Sort sort, @Param("name") String name);
 
+    @Query("FOR c IN #{#collection} FILTER c.`customer-name` == @name #sort RETURN c")
+    List<Customer> findByNameWithSpelAndSort(Sort sort, @Param("name") String name);
+
     // PAGEABLE
 
     Page<Customer> readByNameAndSurname(Pageable pageable, String name, AqlQueryOptions options, String surname);
@@ -197,6 +213,17 @@ public interface CustomerRepository extends ArangoRepository<Customer, String>,
     @Query("FOR c IN #collection FILTER c.`customer-name` == @name AND c.surname == @surname #pageable RETURN c")
     Page<Customer> findByNameAndSurnameWithPageable(Pageable pageable, @Param("name") String name, @Param("surname") String surname);
 
+    @QueryOptions(batchSize = 2)
+    Stream<Customer> streamBySurnameOrderByAgeAsc(String surname);
+
+    Window<Customer> findFirst2BySurnameOrderByNameAsc(String surname, ScrollPosition position);
+
+    Slice<Customer> findBySurnameOrderByAgeAsc(String surname, Pageable pageable);
+
+    List<CustomerSummary> findSummaryBySurname(String surname);
+
+    <T> List<T> readBySurname(String surname, Class<T> type);
+
     // GEO_RESULT, GEO_RESULTS, GEO_PAGE
 
     GeoResult<Customer> queryByLocationWithin(Point location, double distance);
@@ -0,0 +1,181 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.config.ArangoConfiguration;
+import com.arangodb.springframework.core.ArangoAsyncOperations;
+import com.arangodb.springframework.testdata.Customer;
+
+import reactor.core.publisher.Flux;
+
+public class ReactiveArangoRepositoryTest extends AbstractArangoTest {
+
+	@Autowired
+	private ReactiveCustomerRepository repository;
+	@Autowired
+	private ArangoAsyncOperations asyncOperations;
+	@Autowired
+	private ApplicationContext applicationContext;
+	@Autowired
+	private ArangoConfiguration configuration;
+
+	public ReactiveArangoRepositoryTest() {
+		super(Customer.class);
+	}
+
+	@Test
+	public void saveAndFindById() {
+		final Customer john = repository.save(new Customer("John", "Smith", 20)).block();
+		assertThat(john.getId(), is(notNullValue()));
+		final Customer found = repository.findById(john.getId()).block();
+		assertThat(found.getName(), is("John"));
+		assertThat(repository.existsById(john.getId()).block(), is(true));
+		assertThat(repository.count().block(), is(1L));
+	}
+
+	@Test
+	public void findByIdOfMissingDocumentIsEmpty() {
+		assertThat(repository.findById("missing").block(), is(nullValue()));
+	}
+
+	@Test
+	public void findAllSorted() {
+		repository.saveAll(Arrays.asList(new Customer("John", "Smith", 20), new Customer("Bob", "Thompson", 40)))
+				.blockLast();
+		final List<String> names = repository.findAll(Sort.by("age").descending()).map(Customer::getName)
+				.collectList().block();
+		assertThat(names, contains("Bob", "John"));
+	}
+
+	@Test
+	public void findAllWithLimitedDemand() {
+		final List<Customer> customers = new ArrayList<>();
+		for (int i = 0; i < 250; i++) {
+			customers.add(new Customer("Customer" + i, "Batch", i));
+		}
+		template.insertAll(customers, Customer.class);
+
+		final AtomicInteger received = new AtomicInteger();
+		repository.findAll().limitRate(10).doOnNext(it -> received.incrementAndGet()).take(15).blockLast();
+		assertThat(received.get(), is(15));
+		assertThat(repository.findAll().count().block(), is(250L));
+	}
+
+	@Test
+	public void derivedAndAnnotatedQueries() {
+		repository.saveAll(Arrays.asList(new Customer("John", "Smith", 20), new Customer("Bob", "Thompson", 40),
+			new Customer("Jane", "Smith", 30))).blockLast();
+
+		assertThat(repository.findBySurname("Smith").map(Customer::getName).collectList().block(),
+			containsInAnyOrder("John", "Jane"));
+		assertThat(repository.findByName("Bob").block().getSurname(), is("Thompson"));
+		assertThat(repository.existsByName("Bob").block(), is(true));
+		assertThat(repository.existsByName("Alice").block(), is(false));
+		assertThat(repository.findOlderThan(25).map(Customer::getName).collectList().block(), contains("Jane", "Bob"));
+	}
+
+	@Test
+	public void deleteAndDeleteAll() {
+		final Customer john = repository.save(new Customer("John", "Smith", 20)).block();
+		repository.save(new Customer("Bob", "Thompson", 40)).block();
+		repository.delete(john).block();
+		assertThat(repository.existsById(john.getId()).block(), is(false));
+		repository.deleteById(john.getId()).block();
+		repository.deleteAll().block();
+		assertThat(repository.count().block(), is(0L));
+	}
+
+	@Test
+	public void deleteAllEntitiesAndIds() {
+		final List<Customer> customers = repository.saveAll(Arrays.asList(new Customer("John", "Smith", 20),
+			new Customer("Bob", "Thompson", 40), new Customer("Jane", "Smith", 30))).collectList().block();
+		repository.deleteAll(customers.subList(0, 2)).block();
+		assertThat(repository.findAll().map(Customer::getName).collectList().block(), contains("Jane"));
+		repository.deleteAllById(Arrays.asList(customers.get(0).getId(), customers.get(2).getId())).block();
+		assertThat(repository.count().block(), is(0L));
+	}
+
+	@Test
+	public void deleteAllWithStaleRevisionFails() {
+		final Customer john = repository.save(new Customer("John", "Smith", 20)).block();
+		final Customer bob = repository.save(new Customer("Bob", "Thompson", 40)).block();
+		final String rev = john.getRev();
+		john.setAge(21);
+		repository.save(john).block();
+		john.setRev(rev);
+		assertThrows(OptimisticLockingFailureException.class,
+			() -> repository.deleteAll(Flux.just(john, bob)).block());
+		assertThat(repository.existsById(john.getId()).block(), is(true));
+		assertThat(repository.existsById(bob.getId()).block(), is(false));
+	}
+
+	@Test
+	public void deleteAllInBatches() {
+		final List<Customer> customers = new ArrayList<>();
+		for (int i = 0; i < 2500; i++) {
+			customers.add(new Customer("Customer" + i, "Batch", i));
+		}
+		template.insertAll(customers, Customer.class);
+		repository.deleteAll(Flux.fromIterable(customers)).block();
+		assertThat(repository.count().block(), is(0L));
+
+		template.insertAll(customers, Customer.class);
+		repository.deleteAllById(customers.stream().map(Customer::getId).toList()).block();
+		assertThat(repository.count().block(), is(0L));
+	}
+
+	public interface PagedCustomerRepository extends ReactiveArangoRepository<Customer, String> {
+		Flux<Customer> findBySurname(String surname, Pageable pageable);
+	}
+
+	@Test
+	public void pagingQueryMethodIsRejected() {
+		final ReactiveArangoRepositoryFactory factory = new ReactiveArangoRepositoryFactory(asyncOperations,
+			applicationContext, configuration);
+		final Exception e = assertThrows(RuntimeException.class,
+			() -> factory.getRepository(PagedCustomerRepository.class));
+		assertThat(NestedExceptionUtils.getMostSpecificCause(e), is(instanceOf(UnsupportedOperationException.class)));
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository;
+
+import org.springframework.data.repository.query.Param;
+
+import com.arangodb.springframework.annotation.Query;
+import com.arangodb.springframework.testdata.Customer;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCustomerRepository extends ReactiveArangoRepository<Customer, String> {
+
+	Flux<Customer> findBySurname(String surname);
+
+	Mono<Customer> findByName(String name);
+
+	Mono<Boolean> existsByName(String name);
+
+	@Query("FOR c IN #collection FILTER c.age > @age SORT c.age RETURN c")
+	Flux<Customer> findOlderThan(@Param("age") int age);
+
+}
@@ -0,0 +1,317 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.aot;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.data.aot.AotContext;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.config.AotRepositoryContextSupport;
+import org.springframework.data.repository.config.AotRepositoryInformation;
+import org.springframework.data.repository.config.RepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport.FragmentCreationContext;
+import org.springframework.javapoet.ClassName;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.entity.CursorWarning;
+import com.arangodb.springframework.annotation.Document;
+import com.arangodb.springframework.annotation.Query;
+import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.CollectionOperations;
+import com.arangodb.springframework.repository.ArangoRepository;
+import com.arangodb.springframework.repository.SimpleArangoRepository;
+
+/**
+ * Generates the query methods of a repository, compiles them and executes them against recorded operations.
+ */
+public class ArangoRepositoryContributorTest {
+
+	@Document("aotPersons")
+	public static class Person {
+		@Id
+		private String id;
+		private String name;
+		private int age;
+	}
+
+	@Document("#{'aot' + 'Expressions'}")
+	public static class Expression {
+		@Id
+		private String id;
+		private String name;
+	}
+
+	public interface PersonRepository extends ArangoRepository<Person, String> {
+
+		List<Person> findByNameAndAgeGreaterThan(String name, int age);
+
+		Person findFirstByNameStartingWithIgnoreCase(String prefix);
+
+		long countByAgeBetween(int from, int to);
+
+		boolean existsByName(String name);
+
+		void deleteByName(String name);
+
+		@Query("FOR p IN #collection FILTER p.name == @name RETURN p")
+		List<Person> findByQuery(String name);
+
+		@Query("FOR p IN #{#collection} RETURN p")
+		List<Person> findByExpression();
+
+		List<Person> findByName(String name, Pageable pageable);
+	}
+
+	public interface ExpressionRepository extends ArangoRepository<Expression, String> {
+
+		List<Expression> findByName(String name);
+	}
+
+	@TempDir
+	Path directory;
+
+	private final List<String> queries = new ArrayList<>();
+	private final List<Map<String, Object>> bindVars = new ArrayList<>();
+	private List<?> results;
+
+	@BeforeEach
+	public void clearResults() {
+		results = Collections.emptyList();
+	}
+
+	@Test
+	public void generatesQueriesAtBuildTime() throws Exception {
+		final String source = generate(PersonRepository.class);
+
+		assertThat(source, containsString("\"FOR e IN aotPersons FILTER e.name == @0 AND e.age > @1  RETURN e\""));
+		assertThat(source, containsString("withCollection(\"FOR p IN #collection FILTER p.name == @name RETURN p\")"));
+		// left to the query lookup at runtime
+		assertThat(source, not(containsString("findByExpression")));
+		assertThat(source, not(containsString("Pageable")));
+	}
+
+	@Test
+	public void generatedMethodsBindArgumentsAndExecuteQueries() throws Exception {
+		final PersonRepository repository = instantiate(PersonRepository.class);
+
+		results = Arrays.asList(new Person());
+		assertThat(repository.findByNameAndAgeGreaterThan("John", 30).size(), is(1));
+		assertThat(queries.get(0), is("FOR e IN aotPersons FILTER e.name == @0 AND e.age > @1  RETURN e"));
+		assertThat(bindVars.get(0), is(Map.of("0", "John", "1", 30)));
+
+		repository.findFirstByNameStartingWithIgnoreCase("Jo%");
+		assertThat(bindVars.get(1), is(Map.of("0", "jo\\%%")));
+
+		results = Arrays.asList(2L);
+		assertThat(repository.countByAgeBetween(20, 40), is(2L));
+		assertThat(bindVars.get(2), is(Map.of("0", 20, "1", 40)));
+
+		results = Arrays.asList(1);
+		assertThat(repository.existsByName("John"), is(true));
+		results = Collections.emptyList();
+		assertThat(repository.existsByName("Jane"), is(false));
+
+		repository.deleteByName("John");
+		assertThat(queries.get(5), containsString("REMOVE e IN aotPersons"));
+
+		repository.findByQuery("John");
+		assertThat(queries.get(6), is("FOR p IN aotPersons FILTER p.name == @name RETURN p"));
+		assertThat(bindVars.get(6), is(Map.of("name", "John")));
+	}
+
+	@Test
+	public void collectionExpressionsAreResolvedAtRuntime() throws Exception {
+		assertThat(generate(ExpressionRepository.class), not(containsString("findByName")));
+	}
+
+	private String generate(final Class<?> repositoryInterface) throws IOException {
+		final Path file = directory.resolve(generateFile(repositoryInterface));
+		return Files.readString(file);
+	}
+
+	/**
+	 * @return the path of the generated source relative to {@link #directory}
+	 */
+	private String generateFile(final Class<?> repositoryInterface) throws IOException {
+		final InMemoryGeneratedFiles files = new InMemoryGeneratedFiles();
+		final DefaultGenerationContext generationContext = new DefaultGenerationContext(
+				new ClassNameGenerator(ClassName.OBJECT), files);
+		new ArangoRepositoryContributor(new Context(repositoryInterface)).contribute(generationContext);
+		generationContext.writeGeneratedContent();
+		final Map<String, ?> sources = files.getGeneratedFiles(GeneratedFiles.Kind.SOURCE);
+		assertThat(sources.size(), is(1));
+		final String path = sources.keySet().iterator().next();
+		final Path file = directory.resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, files.getGeneratedFileContent(GeneratedFiles.Kind.SOURCE, path));
+		return path;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T instantiate(final Class<T> repositoryInterface) throws Exception {
+		final String path = generateFile(repositoryInterface);
+		final Path file = directory.resolve(path);
+
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final int status = compiler.run(null, null, null, "-classpath", System.getProperty("java.class.path"), "-d",
+			directory.toString(), file.toString());
+		assertThat(status, is(0));
+
+		try (URLClassLoader loader = new URLClassLoader(new java.net.URL[] { directory.toUri().toURL() },
+				getClass().getClassLoader())) {
+			final String className = path.substring(0, path.length() - ".java".length()).replace('/', '.');
+			final Class<?> fragment = loader.loadClass(className);
+			final Constructor<?> constructor = fragment.getDeclaredConstructors()[0];
+			final Object instance = constructor.newInstance(operations(),
+				(FragmentCreationContext) proxy(FragmentCreationContext.class, (method, args) -> {
+					return AbstractRepositoryMetadata.getMetadata(repositoryInterface);
+				}));
+			// the generated class only implements the query methods, which are invoked like the repository does
+			return (T) Proxy.newProxyInstance(repositoryInterface.getClassLoader(),
+				new Class<?>[] { repositoryInterface }, (proxy, method, args) -> fragment
+						.getMethod(method.getName(), method.getParameterTypes()).invoke(instance, args));
+		}
+	}
+
+	private ArangoOperations operations() {
+		final CollectionOperations collection = proxy(CollectionOperations.class, (method, args) -> "aotPersons");
+		return proxy(ArangoOperations.class, (method, args) -> {
+			if (method.getName().equals("collection")) {
+				return collection;
+			}
+			queries.add((String) args[0]);
+			@SuppressWarnings("unchecked")
+			final Map<String, Object> vars = (Map<String, Object>) args[1];
+			bindVars.add(vars);
+			return cursor(results.iterator());
+		});
+	}
+
+	private static ArangoCursor<?> cursor(final Iterator<?> iterator) {
+		return proxy(ArangoCursor.class, (method, args) -> {
+			switch (method.getName()) {
+			case "getWarnings":
+				return Collections.<CursorWarning> emptyList();
+			case "hasNext":
+				return iterator.hasNext();
+			case "next":
+				return iterator.next();
+			case "asListRemaining":
+				final List<Object> list = new ArrayList<>();
+				iterator.forEachRemaining(list::add);
+				return list;
+			default:
+				throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+
+	private interface Handler {
+		Object invoke(Method method, Object[] args) throws Exception;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(final Class<T> type, final Handler handler) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+			(proxy, method, args) -> handler.invoke(method, args));
+	}
+
+	/**
+	 * The repository context as set up by the AOT processing of a repository bean.
+	 */
+	private static class Context extends AotRepositoryContextSupport {
+
+		private final RepositoryInformation information;
+
+		Context(final Class<?> repositoryInterface) {
+			super(AotContext.from(new DefaultListableBeanFactory()));
+			final RepositoryMetadata metadata = AbstractRepositoryMetadata.getMetadata(repositoryInterface);
+			information = new AotRepositoryInformation(metadata, SimpleArangoRepository.class, Collections.emptyList());
+		}
+
+		@Override
+		public String getModuleName() {
+			return "ArangoDB";
+		}
+
+		@Override
+		public RepositoryConfigurationSource getConfigurationSource() {
+			return null;
+		}
+
+		@Override
+		public Collection<Class<? extends Annotation>> getIdentifyingAnnotations() {
+			return Collections.singleton(Document.class);
+		}
+
+		@Override
+		public RepositoryInformation getRepositoryInformation() {
+			return information;
+		}
+
+		@Override
+		public Set<MergedAnnotation<Annotation>> getResolvedAnnotations() {
+			return Collections.emptySet();
+		}
+
+		@Override
+		public Set<Class<?>> getResolvedTypes() {
+			return Collections.emptySet();
+		}
+	}
+
+}
@@ -271,6 +271,18 @@ public class ArangoAqlQueryTest extends AbstractArangoRepositoryTest {
 		assertThat(retrieved, is(toBeRetrieved));
 	}
 
+	@Test
+	public void sortWithSpelTest() {
+		final List<Customer> toBeRetrieved = new LinkedList<>();
+		toBeRetrieved.add(new Customer("A", "B", 2));
+		toBeRetrieved.add(new Customer("A", "A", 1));
+		repository.saveAll(toBeRetrieved);
+		repository.save(new Customer("C", "C", 0));
+		assertThat(repository.findByNameWithSpelAndSort(Sort.by(Direction.DESC, "c.age"), "A"), is(toBeRetrieved));
+		assertThat(repository.findByNameWithSpelAndSort(Sort.by("c.age"), "A"),
+			is(Arrays.asList(toBeRetrieved.get(1), toBeRetrieved.get(0))));
+	}
+
 	@Test
 	public void deleteById() {
 		repository.saveAll(customers);
@@ -0,0 +1,121 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.repository.query;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.springframework.repository.AbstractArangoRepositoryTest;
+import com.arangodb.springframework.repository.CustomerRepository;
+import com.arangodb.springframework.testdata.Customer;
+
+/**
+ * Asserts the AQL created for derived exists, count and delete queries.
+ */
+public class DerivedArangoQueryTest extends AbstractArangoRepositoryTest {
+
+	@Test
+	public void existsStopsAtFirstMatch() throws Exception {
+		final String query = createQuery("existsByName", new Class<?>[] { String.class }, "John");
+		assertThat(query, startsWith("FOR e IN `test-customer` FILTER "));
+		assertThat(query, endsWith(" LIMIT 1 RETURN 1"));
+
+		repository.saveAll(customers);
+		assertThat(repository.existsByName("John"), equalTo(true));
+		assertThat(repository.existsByName("Nobody"), equalTo(false));
+	}
+
+	@Test
+	public void unfilteredCountUsesCollectionLength() throws Exception {
+		assertThat(createQuery("countAllBy", new Class<?>[0]), equalTo("RETURN LENGTH(`test-customer`)"));
+
+		repository.saveAll(customers);
+		assertThat(repository.countAllBy(), equalTo((long) customers.size()));
+	}
+
+	@Test
+	public void filteredCountIsCollected() throws Exception {
+		final String query = createQuery("countByAgeGreaterThanOrStringArrayNullAndIntegerList",
+			new Class<?>[] { int.class, List.class }, 0, List.of());
+		assertThat(query, endsWith(" COLLECT WITH COUNT INTO length RETURN length"));
+	}
+
+	@Test
+	public void deleteReturnsNothing() throws Exception {
+		final String query = createQuery("removeByNameNotLikeAndSurnameRegexOrAliveFalse",
+			new Class<?>[] { String.class, String.class }, "a", "b");
+		assertThat(query, endsWith(" REMOVE e IN `test-customer`"));
+	}
+
+	@Test
+	public void deleteReturnsCount() throws Exception {
+		final String query = createQuery("deleteBySurname", new Class<?>[] { String.class }, "Smith");
+		assertThat(query, endsWith(" REMOVE e IN `test-customer` COLLECT WITH COUNT INTO length RETURN length"));
+
+		repository.saveAll(customers);
+		assertThat(repository.deleteBySurname("Smith"), equalTo(1L));
+		assertThat(repository.count(), equalTo((long) customers.size() - 1));
+	}
+
+	@Test
+	public void deleteReturnsKeys() throws Exception {
+		final String query = createQuery("removeKeysBySurname", new Class<?>[] { String.class }, "Smith");
+		assertThat(query, endsWith(" REMOVE e IN `test-customer` RETURN OLD._key"));
+
+		repository.saveAll(customers);
+		assertThat(repository.removeKeysBySurname("Smith"), containsInAnyOrder(john.getId()));
+	}
+
+	@Test
+	public void deleteReturnsDocuments() throws Exception {
+		final String query = createQuery("removeBySurnameAndAge", new Class<?>[] { String.class, int.class },
+			"Smith", 20);
+		assertThat(query, endsWith(" REMOVE e IN `test-customer` RETURN OLD"));
+
+		repository.saveAll(customers);
+		final List<Customer> deleted = repository.removeBySurnameAndAge("Smith", 20);
+		assertThat(deleted.stream().map(Customer::getName).collect(Collectors.toList()),
+			containsInAnyOrder("John"));
+	}
+
+	private String createQuery(final String methodName, final Class<?>[] parameterTypes, final Object... args)
+			throws NoSuchMethodException {
+		final ArangoQueryMethod method = new ArangoQueryMethod(
+				CustomerRepository.class.getMethod(methodName, parameterTypes),
+				new DefaultRepositoryMetadata(CustomerRepository.class), new SpelAwareProxyProjectionFactory());
+		return new DerivedArangoQuery(method, template).createQuery(new ArangoParametersParameterAccessor(method, args),
+			new HashMap<>(), new AqlQueryOptions());
+	}
+
+}
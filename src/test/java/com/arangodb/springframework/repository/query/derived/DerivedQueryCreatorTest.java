@@ -11,6 +11,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.arangodb.springframework.testdata.*;
 import org.hamcrest.Matchers;
@@ -21,7 +23,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Range;
 import org.springframework.data.domain.Range.Bound;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.geo.Box;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Distance;
@@ -618,6 +623,108 @@ public class DerivedQueryCreatorTest extends AbstractArangoRepositoryTest {
 		assertThat(equals(toBeRetrieved, retrieved, cmp, eq, true), equalTo(true));
 	}
 
+	@Test
+	public void repeatedPageableTest() {
+		for (int i = 0; i < 6; i++) {
+			repository.save(new Customer("", "", i));
+		}
+		repository.save(new Customer("-", "", 6));
+
+		final Page<Customer> first = repository.readByNameAndSurname(PageRequest.of(0, 4, Sort.by("age")), "", null,
+			"");
+		final Page<Customer> second = repository.readByNameAndSurname(PageRequest.of(1, 4, Sort.by("age")), "", null,
+			"");
+		final Page<Customer> descending = repository.readByNameAndSurname(
+			PageRequest.of(0, 2, Sort.by("age").descending()), "", null, "");
+		final Page<Customer> other = repository.readByNameAndSurname(PageRequest.of(0, 4, Sort.by("age")), "-", null,
+			"");
+
+		assertThat(first.map(Customer::getAge).getContent(), Matchers.contains(0, 1, 2, 3));
+		assertThat(second.map(Customer::getAge).getContent(), Matchers.contains(4, 5));
+		assertThat(descending.map(Customer::getAge).getContent(), Matchers.contains(5, 4));
+		assertThat(other.map(Customer::getAge).getContent(), Matchers.contains(6));
+	}
+
+	@Test
+	public void streamTest() {
+		for (int i = 0; i < 5; i++) {
+			repository.save(new Customer("", "Stream", i));
+		}
+		repository.save(new Customer("", "Other", 5));
+
+		try (Stream<Customer> retrieved = repository.streamBySurnameOrderByAgeAsc("Stream")) {
+			assertThat(retrieved.map(Customer::getAge).collect(Collectors.toList()), Matchers.contains(0, 1, 2, 3, 4));
+		}
+		try (Stream<Customer> partial = repository.streamBySurnameOrderByAgeAsc("Stream")) {
+			assertThat(partial.findFirst().get().getAge(), equalTo(0));
+		}
+	}
+
+	@Test
+	public void projectionTest() {
+		final Customer customer = new Customer("Pro", "Jection", 30);
+		customer.setAddress(new Address("12345"));
+		repository.save(customer);
+
+		final List<CustomerSummary> summaries = repository.findSummaryBySurname("Jection");
+		assertThat(summaries.size(), equalTo(1));
+		assertThat(summaries.get(0).getName(), equalTo("Pro"));
+		assertThat(summaries.get(0).getSurname(), equalTo("Jection"));
+		assertThat(summaries.get(0).getAddress().getZipCode(), equalTo("12345"));
+
+		final List<CustomerNameProjection> names = repository.readBySurname("Jection", CustomerNameProjection.class);
+		assertThat(names.size(), equalTo(1));
+		assertThat(names.get(0).getName(), equalTo("Pro"));
+		// cached query of the other projection
+		assertThat(repository.readBySurname("Jection", CustomerSummary.class).get(0).getSurname(), equalTo("Jection"));
+	}
+
+	@Test
+	public void sliceTest() {
+		for (int i = 0; i < 5; i++) {
+			repository.save(new Customer("", "Slice", i));
+		}
+
+		final Slice<Customer> first = repository.findBySurnameOrderByAgeAsc("Slice", PageRequest.of(0, 2));
+		assertThat(first.map(Customer::getAge).getContent(), Matchers.contains(0, 1));
+		assertThat(first.hasNext(), equalTo(true));
+
+		// the second call is rendered from the cached query
+		final Slice<Customer> last = repository.findBySurnameOrderByAgeAsc("Slice", PageRequest.of(1, 3));
+		assertThat(last.map(Customer::getAge).getContent(), Matchers.contains(3, 4));
+		assertThat(last.hasNext(), equalTo(false));
+	}
+
+	@Test
+	public void scrollTest() {
+		repository.save(new Customer("C", "Scroll", 0));
+		repository.save(new Customer("A", "Scroll", 0));
+		repository.save(new Customer("B", "Scroll", 0));
+		repository.save(new Customer("B", "Scroll", 1));
+		repository.save(new Customer("D", "Scroll", 0));
+		repository.save(new Customer("A", "Other", 0));
+
+		final Window<Customer> first = repository.findFirst2BySurnameOrderByNameAsc("Scroll", ScrollPosition.keyset());
+		assertThat(first.map(Customer::getName).getContent(), Matchers.contains("A", "B"));
+		assertThat(first.hasNext(), equalTo(true));
+
+		// the second "B" is only found through the _key tiebreaker
+		final Window<Customer> second = repository.findFirst2BySurnameOrderByNameAsc("Scroll",
+			first.positionAt(first.size() - 1));
+		assertThat(second.map(Customer::getName).getContent(), Matchers.contains("B", "C"));
+		assertThat(second.hasNext(), equalTo(true));
+
+		final Window<Customer> last = repository.findFirst2BySurnameOrderByNameAsc("Scroll",
+			second.positionAt(second.size() - 1));
+		assertThat(last.map(Customer::getName).getContent(), Matchers.contains("D"));
+		assertThat(last.hasNext(), equalTo(false));
+
+		final Window<Customer> offset = repository.findFirst2BySurnameOrderByNameAsc("Scroll",
+			ScrollPosition.offset(2));
+		assertThat(offset.map(Customer::getName).getContent(), Matchers.contains("C", "D"));
+		assertThat(offset.hasNext(), equalTo(false));
+	}
+
 	@Test
 	public void geoResultTest() {
 		final Customer customer1 = new Customer("", "", 0);
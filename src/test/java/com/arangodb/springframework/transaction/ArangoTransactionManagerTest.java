@@ -0,0 +1,130 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.springframework.transaction;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.core.template.ArangoTemplate;
+import com.arangodb.springframework.repository.CustomerRepository;
+import com.arangodb.springframework.testdata.Customer;
+import com.arangodb.springframework.testdata.Product;
+
+public class ArangoTransactionManagerTest extends AbstractArangoTest {
+
+	@Autowired
+	private CustomerRepository repository;
+
+	private TransactionTemplate transactionTemplate;
+
+	public ArangoTransactionManagerTest() {
+		super(Customer.class);
+	}
+
+	@BeforeEach
+	public void setUpTransactionManager() {
+		final ArangoTransactionManager transactionManager = new ArangoTransactionManager((ArangoTemplate) template);
+		transactionManager.setEntityClasses(Customer.class);
+		transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@Test
+	public void commit() {
+		transactionTemplate.executeWithoutResult(status -> {
+			template.insert(new Customer("John", "Doe", 30));
+			repository.save(new Customer("Jane", "Doe", 26));
+			assertThat(repository.count(), is(2L));
+		});
+		assertThat(repository.count(), is(2L));
+	}
+
+	@Test
+	public void rollback() {
+		transactionTemplate.executeWithoutResult(status -> {
+			template.insert(new Customer("John", "Doe", 30));
+			repository.save(new Customer("Jane", "Doe", 26));
+			assertThat(repository.findByNameNotIgnoreCaseAndAgeLessThanIgnoreCaseOrderByNameDesc("John", 40).size(), is(1));
+			status.setRollbackOnly();
+		});
+		assertThat(repository.count(), is(0L));
+	}
+
+	@Test
+	public void isolation() {
+		transactionTemplate.executeWithoutResult(status -> {
+			template.insert(new Customer("John", "Doe", 30));
+			assertThat(db.collection(template.collection(Customer.class).name()).count().getCount(), is(0L));
+		});
+		assertThat(repository.count(), is(1L));
+	}
+
+	@Test
+	public void optionsOfCallerAreNotModified() {
+		final DocumentCreateOptions options = new DocumentCreateOptions();
+		transactionTemplate.executeWithoutResult(status -> template.insert(new Customer("John", "Doe", 30), options));
+		assertThat(options.getStreamTransactionId(), is(nullValue()));
+		assertThat(repository.count(), is(1L));
+	}
+
+	@Test
+	public void timeout() {
+		transactionTemplate.setTimeout(1);
+		assertThrows(TransactionTimedOutException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+			template.insert(new Customer("John", "Doe", 30));
+			try {
+				Thread.sleep(1100);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			template.insert(new Customer("Jane", "Doe", 26));
+		}));
+		assertThat(repository.count(), is(0L));
+	}
+
+	@Test
+	public void declaresCollectionsCreatedOrDroppedAfterEarlierTransactions() {
+		final ArangoTransactionManager transactionManager = new ArangoTransactionManager((ArangoTemplate) template);
+		transactionManager.setEntityClasses(Customer.class, Product.class);
+		final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		template.collection(Product.class).drop();
+		transactionTemplate.executeWithoutResult(status -> template.insert(new Customer("John", "Doe", 30)));
+
+		template.collection(Product.class);
+		transactionTemplate.executeWithoutResult(status -> template.insert(new Product("Laptop")));
+		assertThat(template.collection(Product.class).count(), is(1L));
+
+		template.collection(Product.class).drop();
+		transactionTemplate.executeWithoutResult(status -> template.insert(new Customer("Jane", "Doe", 26)));
+		assertThat(repository.count(), is(2L));
+	}
+
+}